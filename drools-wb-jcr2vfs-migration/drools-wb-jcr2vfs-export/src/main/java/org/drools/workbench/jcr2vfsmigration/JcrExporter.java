@@ -60,12 +60,16 @@ public class JcrExporter {
 
     public boolean parseArgs( String[] args ) {
         boolean ok = exportConfig.parseArgs( args );
-        if ( ok ) fileManager.setExportTempDir( exportConfig.getExportTempDir() );
+        if ( ok ) {
+            fileManager.setDryRun( exportConfig.isDryRun() );
+            fileManager.setExportTempDir( exportConfig.getExportTempDir() );
+        }
         return ok;
     }
 
     public void exportAll() {
         logger.info("Export from JCR started. Reading from repository {}.", exportConfig.getInputJcrRepository().getAbsolutePath());
+        long startTime = System.currentTimeMillis();
         try {
             setupDirectories();
             startContexts();
@@ -83,6 +87,11 @@ public class JcrExporter {
 
             // TODO Refresh the index at the end, similar as in https://github.com/droolsjbpm/kie-commons/blob/master/kieora/kieora-commons-io/src/test/java/org/kie/kieora/io/BatchIndexTest.java
             endContexts();
+            if ( exportConfig.isDryRun() ) {
+                // The dry run reads and formats everything, so its duration predicts that of the export
+                logger.info( "Dry run of export from JCR ended. The export would write about {} characters and bytes of binary content, and take about {} seconds.",
+                             fileManager.getWrittenSize(), ( System.currentTimeMillis() - startTime ) / 1000 );
+            }
             logger.info( "Export from JCR ended." );
         } catch ( Throwable t ) {
             // TODO migration result instead of changing JcrExporterLauncher's state
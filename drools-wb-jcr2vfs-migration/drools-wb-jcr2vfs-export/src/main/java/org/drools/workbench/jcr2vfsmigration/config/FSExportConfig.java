@@ -37,6 +37,9 @@ public class FSExportConfig {
     private File inputJcrRepository;
     private File exportTempDir;
     private boolean forceOverwriteTempOutputDirectory;
+    private int maxHistoryDepth = Integer.MAX_VALUE;
+    private boolean skipIdenticalHistory;
+    private boolean dryRun;
 
     public File getInputJcrRepository() {
         return inputJcrRepository;
@@ -46,6 +49,27 @@ public class FSExportConfig {
         return exportTempDir;
     }
 
+    /**
+     * @return The maximum number of historical versions exported per asset. The most recent versions are exported.
+     */
+    public int getMaxHistoryDepth() {
+        return maxHistoryDepth;
+    }
+
+    /**
+     * @return true if historical versions with content identical to the previously exported version are skipped.
+     */
+    public boolean isSkipIdenticalHistory() {
+        return skipIdenticalHistory;
+    }
+
+    /**
+     * @return true if the export should only report the size it would write and how long it took, without writing.
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
     // ************************************************************************
     // Configuration methods
     // ************************************************************************
@@ -56,6 +80,9 @@ public class FSExportConfig {
         options.addOption( "i", "inputJcrRepository", true, "The Guvnor 5 JCR repository" );
         options.addOption( "o", "exportTempDir", true, "The temporary export directory" );
         options.addOption( "f", "forceOverwriteTempOutputDirectory", false, "Force overwriting the temporary output directory" );
+        options.addOption( "m", "maxHistoryDepth", true, "The maximum number of historical versions to export per asset (default all)" );
+        options.addOption( "s", "skipIdenticalHistory", false, "Skip historical versions identical to the previous version" );
+        options.addOption( "n", "dryRun", false, "Report the size of the export and the time it takes, without writing it" );
 
         CommandLine commandLine;
         HelpFormatter formatter = new HelpFormatter();
@@ -71,7 +98,23 @@ public class FSExportConfig {
             return false;
         }
 
-        return ( parseArgInputJcrRepository( commandLine ) && parseArgExportTempDir( commandLine ) );
+        return ( parseArgInputJcrRepository( commandLine ) && parseArgHistory( commandLine ) && parseArgExportTempDir( commandLine ) );
+    }
+
+    private boolean parseArgHistory( CommandLine commandLine ) {
+        skipIdenticalHistory = commandLine.hasOption( "s" );
+        if ( !commandLine.hasOption( "m" ) ) return true;
+        try {
+            maxHistoryDepth = Integer.parseInt( commandLine.getOptionValue( "m" ).trim() );
+        } catch ( NumberFormatException e ) {
+            logger.error( "The maxHistoryDepth ({}) is not a number!", commandLine.getOptionValue( "m" ) );
+            return false;
+        }
+        if ( maxHistoryDepth < 0 ) {
+            logger.error( "The maxHistoryDepth ({}) cannot be negative!", maxHistoryDepth );
+            return false;
+        }
+        return true;
     }
 
     private boolean parseArgInputJcrRepository( CommandLine commandLine ) {
@@ -95,6 +138,11 @@ public class FSExportConfig {
     private boolean parseArgExportTempDir( CommandLine commandLine ) {
         exportTempDir = new File( commandLine.getOptionValue( "o", "./jcrExport" ) );
         forceOverwriteTempOutputDirectory = commandLine.hasOption( "f" );
+        dryRun = commandLine.hasOption( "n" );
+        if ( dryRun ) {
+            // Nothing is written, so leave any existing export untouched
+            return true;
+        }
         try {
             if ( exportTempDir.isFile() ) {
                 logger.error( "The specified export location ({}) is not a directory!", exportTempDir.getAbsolutePath() );
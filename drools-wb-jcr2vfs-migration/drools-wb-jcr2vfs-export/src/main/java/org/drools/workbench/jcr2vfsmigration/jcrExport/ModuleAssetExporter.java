@@ -17,11 +17,17 @@ package org.drools.workbench.jcr2vfsmigration.jcrExport;
 
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import javax.inject.Inject;
 
 import com.google.gwt.user.client.rpc.SerializationException;
@@ -41,6 +47,7 @@ import org.drools.repository.ModuleItem;
 import org.drools.repository.ModuleIterator;
 import org.drools.repository.RulesRepository;
 import org.drools.workbench.jcr2vfsmigration.common.FileManager;
+import org.drools.workbench.jcr2vfsmigration.config.FSExportConfig;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.AttachmentAssetExporter;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.ExportContext;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.FactModelExporter;
@@ -50,12 +57,12 @@ import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.PlainTextAssetExpor
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.PlainTextAssetWithPackagePropertyExporter;
 import org.drools.workbench.jcr2vfsmigration.util.ExportUtils;
 import org.drools.workbench.jcr2vfsmigration.xml.format.ModulesXmlFormat;
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetFormat;
 import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsFormat;
 import org.drools.workbench.jcr2vfsmigration.xml.model.ModuleType;
 import org.drools.workbench.jcr2vfsmigration.xml.model.Modules;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.IgnoredAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
-import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAssets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +76,9 @@ public class ModuleAssetExporter {
     @Inject
     private FileManager fileManager;
 
+    @Inject
+    private FSExportConfig exportConfig;
+
     @Inject
     private ExportUtils exportUtils;
 
@@ -102,6 +112,7 @@ public class ModuleAssetExporter {
 
     private ModulesXmlFormat modulesXmlFormat = new ModulesXmlFormat();
     private XmlAssetsFormat xmlAssetsFormat = new XmlAssetsFormat();
+    private XmlAssetFormat xmlAssetFormat = new XmlAssetFormat();
 
     public void exportAll() {
 
@@ -200,10 +211,8 @@ public class ModuleAssetExporter {
                 assetExportFileName );
     }
 
+    // Assets, and their history, are written as they are exported; so that only one version of one asset is held in memory
     private boolean exportModuleAssets( Module jcrModule, String assetFileName ) {
-        Collection<XmlAsset> assets = new ArrayList<XmlAsset>( 10 );
-
-        StringBuilder xml = new StringBuilder();
         PrintWriter pw;
         try {
             pw = fileManager.createAssetExportFileWriter( assetFileName );
@@ -212,6 +221,17 @@ public class ModuleAssetExporter {
             return false;
         }
 
+        try {
+            xmlAssetsFormat.formatStart( pw );
+            boolean success = exportModuleAssets( jcrModule, assetFileName, pw );
+            xmlAssetsFormat.formatEnd( pw );
+            return success;
+        } finally {
+            pw.close();
+        }
+    }
+
+    private boolean exportModuleAssets( Module jcrModule, String assetFileName, PrintWriter pw ) {
         boolean hasMorePages = true;
         int startRowIndex = 0;
         final int pageSize = 100;
@@ -240,8 +260,9 @@ public class ModuleAssetExporter {
                         //control, its just the current content on jcr node) is equal to the latest version that had been checked in.
                         //Eg, when we import mortgage example, we just dump the mortgage package to a jcr node, no version check in.
                         XmlAsset xmlAsset = export( ExportContext.create( jcrModule, assetItemJCR, assetFileName ) );
-                        xmlAsset.setAssetHistory( exportAssetHistory( ExportContext.create( jcrModule, row.getUuid(), assetFileName ) ) );
-                        assets.add( xmlAsset );
+                        xmlAssetFormat.format( pw,
+                                               xmlAsset,
+                                               exportAssetHistory( ExportContext.create( jcrModule, row.getUuid(), assetFileName ) ) );
                     }
                 }
             } catch (SerializationException e) {
@@ -258,9 +279,6 @@ public class ModuleAssetExporter {
                 startRowIndex += pageSize;
             }
         }
-        xmlAssetsFormat.format( xml, new XmlAssets( assets ) );
-        pw.print( xml.toString() );
-        pw.close();
         return true;
     }
 
@@ -327,11 +345,8 @@ public class ModuleAssetExporter {
         }
     }
 
-    private XmlAssets exportAssetHistory( ExportContext historyContext ) throws SerializationException {
-        XmlAssets xmlAssets = new XmlAssets();
-
+    private Iterator<XmlAsset> exportAssetHistory( ExportContext historyContext ) throws SerializationException {
         //loadItemHistory wont return the current version
-        String currentVersionAssetName="";
         try {
             TableDataResult history = jcrRepositoryAssetService.loadItemHistory( historyContext.getAssetUUID() );
             TableDataRow[] rows = history.data;
@@ -346,25 +361,105 @@ public class ModuleAssetExporter {
                         }
                     } );
 
-            String historicalAssetExportFileName = "h_" + historyContext.getAssetExportFileName();
-            for (TableDataRow row : rows) {
-                AssetItem historicalAssetJCR = rulesRepository.loadAssetByUUID( row.id );
-                currentVersionAssetName = historicalAssetJCR.getName();
+            // Only the most recent versions are exported if the history depth is limited
+            int firstVersion = Math.max( 0, rows.length - exportConfig.getMaxHistoryDepth() );
+            if ( firstVersion > 0 ) {
+                logger.info( "    Skipping the {} oldest version(s) of the asset history.", firstVersion );
+            }
+            return new AssetHistoryIterator( historyContext,
+                                             Arrays.asList( rows ).subList( firstVersion, rows.length ).iterator() );
+        } catch ( RuntimeException e ){
+            logger.error( "Exception loading assetHistory from module {}!", historyContext.getJcrModule().getName(), e );
+        }
+        return Collections.<XmlAsset>emptyIterator();
+    }
 
-                ExportContext historicalAssetExportContext = ExportContext.create( historyContext.getJcrModule(),
-                                                                                        historicalAssetJCR,
-                                                                                        historicalAssetExportFileName );
-                xmlAssets.addAsset( export( historicalAssetExportContext ) );
+    private static byte[] getContentHash( AssetItem assetItem ) {
+        byte[] content;
+        if ( assetItem.isBinary() ) {
+            content = assetItem.getBinaryContentAsBytes();
+        } else {
+            content = assetItem.getContent() != null ? assetItem.getContent().getBytes( StandardCharsets.UTF_8 ) : new byte[ 0 ];
+        }
+        try {
+            return MessageDigest.getInstance( "SHA-1" ).digest( content != null ? content : new byte[ 0 ] );
+        } catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
 
-                logger.info( "    Asset [{}.{}] migrated: version [{}], comment [{}], lastModified [{}]",
-                        historicalAssetJCR.getName(), historicalAssetJCR.getFormat(), historicalAssetJCR.getVersionNumber(),
-                        historicalAssetJCR.getCheckinComment(), historicalAssetJCR.getLastModified().getTime() );
+    // Loads and exports the historical versions of an asset one at a time, as they are formatted. Versions with the
+    // same content as the previously exported version are skipped if requested.
+    private class AssetHistoryIterator implements Iterator<XmlAsset> {
+
+        private final ExportContext historyContext;
+        private final Iterator<TableDataRow> rows;
+        private final String historicalAssetExportFileName;
+
+        private byte[] previousContentHash;
+        private XmlAsset nextAsset;
+
+        private AssetHistoryIterator( ExportContext historyContext, Iterator<TableDataRow> rows ) {
+            this.historyContext = historyContext;
+            this.rows = rows;
+            this.historicalAssetExportFileName = "h_" + historyContext.getAssetExportFileName();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if ( nextAsset == null ) {
+                nextAsset = exportNextVersion();
             }
-        } catch ( RuntimeException e ){
-            logger.error( "Exception migrating assetHistory at version {} from module {}!", currentVersionAssetName,
-                    historyContext.getJcrModule().getName() );
+            return nextAsset != null;
+        }
+
+        @Override
+        public XmlAsset next() {
+            if ( !hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            XmlAsset xmlAsset = nextAsset;
+            nextAsset = null;
+            return xmlAsset;
+        }
+
+        private XmlAsset exportNextVersion() {
+            String currentVersionAssetName="";
+            try {
+                while ( rows.hasNext() ) {
+                    AssetItem historicalAssetJCR = rulesRepository.loadAssetByUUID( rows.next().id );
+                    currentVersionAssetName = historicalAssetJCR.getName();
+
+                    if ( exportConfig.isSkipIdenticalHistory() ) {
+                        byte[] contentHash = getContentHash( historicalAssetJCR );
+                        if ( Arrays.equals( contentHash, previousContentHash ) ) {
+                            logger.info( "    Asset [{}.{}] skipped: version [{}] is identical to the previous version",
+                                    historicalAssetJCR.getName(), historicalAssetJCR.getFormat(), historicalAssetJCR.getVersionNumber() );
+                            continue;
+                        }
+                        previousContentHash = contentHash;
+                    }
+
+                    ExportContext historicalAssetExportContext = ExportContext.create( historyContext.getJcrModule(),
+                                                                                            historicalAssetJCR,
+                                                                                            historicalAssetExportFileName );
+                    XmlAsset xmlAsset = export( historicalAssetExportContext );
+
+                    logger.info( "    Asset [{}.{}] migrated: version [{}], comment [{}], lastModified [{}]",
+                            historicalAssetJCR.getName(), historicalAssetJCR.getFormat(), historicalAssetJCR.getVersionNumber(),
+                            historicalAssetJCR.getCheckinComment(), historicalAssetJCR.getLastModified().getTime() );
+                    return xmlAsset;
+                }
+            } catch ( RuntimeException e ){
+                logger.error( "Exception migrating assetHistory at version {} from module {}!", currentVersionAssetName,
+                        historyContext.getJcrModule().getName() );
+                // The remainder of the history is abandoned
+                while ( rows.hasNext() ) {
+                    rows.next();
+                }
+            }
+            return null;
         }
-        return  xmlAssets;
     }
 
     // Attempt creation of the asset export file firstly with the module's uuid. If this were null or the file could not
@@ -25,6 +25,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 import javax.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
@@ -41,13 +42,34 @@ public class FileManager {
     private File tempDir;
     private File binDir;
 
+    private boolean dryRun;
+    private long writtenSize;
+
     public FileManager() {
     }
 
     public void setExportTempDir( File tempDir ) {
         this.tempDir = tempDir;
         this.binDir = new File( tempDir, BIN_DIR );
-        binDir.mkdirs();
+        if ( !dryRun ) binDir.mkdirs();
+    }
+
+    /**
+     * In a dry run no files are created or written; the size of what would have been written is counted instead.
+     */
+    public void setDryRun( boolean dryRun ) {
+        this.dryRun = dryRun;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * @return The number of characters, and bytes of binary content, that would have been written in a dry run.
+     */
+    public long getWrittenSize() {
+        return writtenSize;
     }
 
     public PrintWriter createModuleExportFileWriter() {
@@ -67,6 +89,7 @@ public class FileManager {
     }
 
     public PrintWriter createAssetExportFileWriter( String fileName ) throws FileNotFoundException {
+        if ( dryRun ) return createSizeCountingWriter();
         return createFileWriter( getFile( fileName + XML_EXTENSION ) );
     }
 
@@ -84,6 +107,10 @@ public class FileManager {
 
     public boolean writeBinaryContent( String fileName, byte[] bytes ) {
         if ( fileName == null ) return false;
+        if ( dryRun ) {
+            writtenSize += bytes != null ? bytes.length : 0;
+            return true;
+        }
         File bFile = new File( binDir, fileName );
         BufferedOutputStream bos = null;
         try {
@@ -135,6 +162,7 @@ public class FileManager {
     }
 
     private boolean doCreateFile( File file ) {
+        if ( dryRun ) return true;
         boolean success = false;
         try {
             success = file.createNewFile();
@@ -145,6 +173,7 @@ public class FileManager {
     }
 
     private PrintWriter createFileWriter( String fileName ) {
+        if ( dryRun ) return createSizeCountingWriter();
         PrintWriter pw = null;
         File f = new File (tempDir, fileName );
         doCreateFile( f );
@@ -162,6 +191,23 @@ public class FileManager {
         return pw;
     }
 
+    private PrintWriter createSizeCountingWriter() {
+        return new PrintWriter( new Writer() {
+            @Override
+            public void write( char[] cbuf, int off, int len ) {
+                writtenSize += len;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        } );
+    }
+
     private File getFile( String fileName ) throws FileNotFoundException {
         File f = new File( tempDir, fileName );
         if ( !f.exists() ) throw new FileNotFoundException( "File " + fileName + " not found" );
@@ -15,7 +15,9 @@
  */
 package org.drools.workbench.jcr2vfsmigration.xml.format;
 
+import java.io.PrintWriter;
 import java.util.Date;
+import java.util.Iterator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.AssetType;
@@ -52,6 +54,37 @@ public abstract class AbstractXmlAssetFormat implements XmlFormat<XmlAsset> {
         formatAssetEnd( sb, xmlAsset );
     }
 
+    /**
+     * Formats an asset directly to the output. The asset's history is formatted one version at a time as the versions
+     * are provided by the iterator; so that the history need not be held in memory.
+     * @param pw Output
+     * @param xmlAsset Asset to format. Any history set on the asset is ignored.
+     * @param assetHistory Historical versions of the asset, oldest first.
+     */
+    public void format( PrintWriter pw, XmlAsset xmlAsset, Iterator<XmlAsset> assetHistory ) {
+        if ( pw == null || xmlAsset == null || assetHistory == null ) throw new IllegalArgumentException( "No output, asset or asset history specified" );
+
+        if ( AssetType.IGNORED.equals( xmlAsset.getAssetType() ) ) return;
+
+        initialize();
+
+        StringBuilder sb = new StringBuilder();
+        formatAssetStart( sb, xmlAsset );
+        sb.append( formatAssetAsString( xmlAsset ) );
+        sb.append( LT ).append( ASSET_HISTORY ).append( GT );
+        pw.print( sb );
+
+        xmlAssetsFormat.formatStart( pw );
+        while ( assetHistory.hasNext() ) {
+            sb.setLength( 0 );
+            format( sb, assetHistory.next() );
+            pw.print( sb );
+        }
+        xmlAssetsFormat.formatEnd( pw );
+
+        pw.print( LT_SLASH + ASSET_HISTORY + GT + LT_SLASH + ASSET + GT );
+    }
+
     @Override
     public XmlAsset parse( Node assetNode ) {
         if ( assetNode == null || !ASSET.equals( assetNode.getNodeName() ) ) throw new IllegalArgumentException( "No input asset node specified for parsing" );
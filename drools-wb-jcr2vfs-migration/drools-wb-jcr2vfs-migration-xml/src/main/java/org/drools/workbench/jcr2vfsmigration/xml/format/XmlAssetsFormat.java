@@ -15,6 +15,7 @@
  */
 package org.drools.workbench.jcr2vfsmigration.xml.format;
 
+import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -44,6 +45,18 @@ public class XmlAssetsFormat implements XmlFormat<XmlAssets> {
         sb.append( LT_SLASH ).append( ASSETS ).append( GT );
     }
 
+    /**
+     * Writes the start of an assets element; so that assets can be formatted directly to the output as they are
+     * exported, rather than all being held in memory.
+     */
+    public void formatStart( PrintWriter pw ) {
+        pw.print( LT + ASSETS + GT );
+    }
+
+    public void formatEnd( PrintWriter pw ) {
+        pw.print( LT_SLASH + ASSETS + GT );
+    }
+
     @Override
     public XmlAssets parse( Node assetsNode ) {
         if ( assetsNode == null || !ASSETS.equals( assetsNode.getNodeName() ) ) throw new IllegalArgumentException( "No input assets node specified for parsing" );
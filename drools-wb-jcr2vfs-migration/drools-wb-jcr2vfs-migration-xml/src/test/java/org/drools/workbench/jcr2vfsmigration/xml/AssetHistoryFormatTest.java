@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetFormat;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.PlainTextAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAssets;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AssetHistoryFormatTest {
+
+    private XmlAssetFormat xmlAssetFormat = new XmlAssetFormat();
+
+    // Streaming the history must produce the same xml as formatting the history held in memory
+    @Test
+    public void testStreamedHistoryMatchesBufferedHistory() {
+        List<XmlAsset> history = Arrays.<XmlAsset>asList( makeAsset( "rule \"r1\" when then end" ),
+                                                          makeAsset( "rule \"r1\" when then end\n" ) );
+
+        XmlAsset bufferedAsset = makeAsset( "rule \"r1\" when then end\n\n" );
+        bufferedAsset.setAssetHistory( new XmlAssets( history ) );
+        StringBuilder buffered = new StringBuilder();
+        xmlAssetFormat.format( buffered, bufferedAsset );
+
+        StringWriter streamed = new StringWriter();
+        PrintWriter pw = new PrintWriter( streamed );
+        xmlAssetFormat.format( pw, makeAsset( "rule \"r1\" when then end\n\n" ), history.iterator() );
+        pw.flush();
+
+        assertEquals( buffered.toString(), streamed.toString() );
+    }
+
+    @Test
+    public void testStreamedEmptyHistoryMatchesBufferedEmptyHistory() {
+        XmlAsset bufferedAsset = makeAsset( "rule \"r1\" when then end" );
+        bufferedAsset.setAssetHistory( new XmlAssets() );
+        StringBuilder buffered = new StringBuilder();
+        xmlAssetFormat.format( buffered, bufferedAsset );
+
+        StringWriter streamed = new StringWriter();
+        PrintWriter pw = new PrintWriter( streamed );
+        xmlAssetFormat.format( pw, makeAsset( "rule \"r1\" when then end" ), Collections.<XmlAsset>emptyIterator() );
+        pw.flush();
+
+        assertEquals( buffered.toString(), streamed.toString() );
+    }
+
+    private XmlAsset makeAsset( String content ) {
+        return new PlainTextAsset( "r1", "drl", "admin", "comment", new Date( 0 ), content );
+    }
+}
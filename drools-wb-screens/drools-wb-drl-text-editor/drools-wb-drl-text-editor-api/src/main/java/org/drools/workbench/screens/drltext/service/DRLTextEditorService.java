@@ -17,6 +17,8 @@
 package org.drools.workbench.screens.drltext.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.drools.workbench.screens.drltext.model.DrlModelContent;
 import org.guvnor.common.services.shared.file.SupportsUpdate;
@@ -45,6 +47,15 @@ public interface DRLTextEditorService
     List<String> loadClassFields( final Path path,
                                   final String fullyQualifiedClassName );
 
+    /**
+     * Load the fields of multiple classes in a single request.
+     * @param path Path of the asset for which fields are required.
+     * @param fullyQualifiedClassNames Classes for which fields are required.
+     * @return Field names keyed on the fully qualified class name.
+     */
+    Map<String, List<String>> loadClassFields( final Path path,
+                                               final Set<String> fullyQualifiedClassNames );
+
     String assertPackageName( final String drl,
                               final Path resource );
 
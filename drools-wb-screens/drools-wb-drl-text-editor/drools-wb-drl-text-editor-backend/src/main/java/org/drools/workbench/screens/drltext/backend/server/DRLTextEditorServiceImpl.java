@@ -17,7 +17,10 @@
 package org.drools.workbench.screens.drltext.backend.server;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
@@ -32,10 +35,10 @@ import org.drools.workbench.screens.drltext.model.DrlModelContent;
 import org.drools.workbench.screens.drltext.service.DRLTextEditorService;
 import org.drools.workbench.screens.drltext.type.DRLResourceTypeDefinition;
 import org.drools.workbench.screens.drltext.type.DSLRResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -80,7 +83,7 @@ public class DRLTextEditorServiceImpl
     private DataModelService dataModelService;
 
     @Inject
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Inject
     private DRLResourceTypeDefinition drlResourceType;
@@ -178,6 +181,25 @@ public class DRLTextEditorServiceImpl
         }
     }
 
+    @Override
+    public Map<String, List<String>> loadClassFields( final Path path,
+                                                      final Set<String> fullyQualifiedClassNames ) {
+        try {
+            final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
+            final Map<String, List<String>> classFields = new HashMap<String, List<String>>();
+            for ( String fullyQualifiedClassName : fullyQualifiedClassNames ) {
+                final String[] fieldNames = DataModelOracleUtilities.getFieldNames( oracle,
+                                                                                    fullyQualifiedClassName );
+                classFields.put( fullyQualifiedClassName,
+                                 Arrays.asList( fieldNames ) );
+            }
+            return classFields;
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
     @Override
     public Path save( final Path resource,
                       final String content,
@@ -16,20 +16,30 @@
 
 package org.drools.workbench.screens.drltext.backend.server;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
 
 import org.junit.runner.RunWith;
 import org.junit.Test;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.io.IOService;
 import org.uberfire.backend.vfs.Path;
@@ -43,6 +53,9 @@ public class DRLTextEditorServiceImplTest {
     private IOService ioService = mock(IOService.class);
     private KieProjectService projectService = mock(KieProjectService.class);
 
+    @Mock
+    private DataModelService dataModelService;
+
     @InjectMocks
     private DRLTextEditorServiceImpl drlService = new DRLTextEditorServiceImpl();
 
@@ -61,4 +74,20 @@ public class DRLTextEditorServiceImplTest {
         }
         verify(ioService, never()).write(any(org.uberfire.java.nio.file.Path.class), anyString(), any(OpenOption.class));
     }
+
+    @Test
+    public void testLoadClassFieldsForMultipleClasses() {
+        final PackageDataModelOracle oracle = mock(PackageDataModelOracle.class);
+        when(dataModelService.getDataModel(path2)).thenReturn(oracle);
+
+        final Map<String, List<String>> classFields = drlService.loadClassFields(path2,
+                                                                                 new HashSet<String>(Arrays.asList("org.test.Applicant",
+                                                                                                                   "org.test.Mortgage")));
+
+        assertEquals(new HashSet<String>(Arrays.asList("org.test.Applicant",
+                                                       "org.test.Mortgage")),
+                     classFields.keySet());
+        verify(dataModelService,
+               times(1)).getDataModel(path2);
+    }
 }
@@ -16,7 +16,12 @@
 
 package org.drools.workbench.screens.drltext.client.editor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
@@ -29,6 +34,7 @@ import org.drools.workbench.screens.drltext.client.type.DSLRResourceType;
 import org.drools.workbench.screens.drltext.model.DrlModelContent;
 import org.drools.workbench.screens.drltext.service.DRLTextEditorService;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.kie.workbench.common.widgets.client.popups.validation.ValidationPopup;
@@ -76,6 +82,11 @@ public class DRLEditorPresenter
 
     private boolean isDSLR;
 
+    //Fields of classes already loaded, and callbacks awaiting classes not yet loaded
+    private final Map<String, List<String>> classFields = new HashMap<String, List<String>>();
+    private final Map<String, List<Callback<List<String>>>> pendingClassFields = new LinkedHashMap<String, List<Callback<List<String>>>>();
+    private boolean isLoadingClassFields = false;
+
     @Inject
     public DRLEditorPresenter( final DRLEditorView view ) {
         super( view );
@@ -113,6 +124,7 @@ public class DRLEditorPresenter
                 }
 
                 resetEditorPages( content.getOverview() );
+                classFields.clear();
 
                 final String drl = assertContent( content.getDrl() );
                 final List<String> fullyQualifiedClassNames = content.getFullyQualifiedClassNames();
@@ -146,18 +158,64 @@ public class DRLEditorPresenter
 
     public void loadClassFields( final String fullyQualifiedClassName,
                                  final Callback<List<String>> callback ) {
-        drlTextEditorService.call( getLoadClassFieldsSuccessCallback( callback ),
-                                   new HasBusyIndicatorDefaultErrorCallback( view ) ).loadClassFields( versionRecordManager.getCurrentPath(),
-                                                                                                       fullyQualifiedClassName );
+        final List<String> fields = classFields.get( fullyQualifiedClassName );
+        if ( fields != null ) {
+            callback.callback( fields );
+            return;
+        }
 
+        //Requests made whilst others are in progress are batched into a single call
+        List<Callback<List<String>>> callbacks = pendingClassFields.get( fullyQualifiedClassName );
+        if ( callbacks == null ) {
+            callbacks = new ArrayList<Callback<List<String>>>();
+            pendingClassFields.put( fullyQualifiedClassName,
+                                    callbacks );
+        }
+        callbacks.add( callback );
+        if ( !isLoadingClassFields ) {
+            loadPendingClassFields();
+        }
     }
 
-    private RemoteCallback<List<String>> getLoadClassFieldsSuccessCallback( final Callback<List<String>> callback ) {
-        return new RemoteCallback<List<String>>() {
+    private void loadPendingClassFields() {
+        if ( pendingClassFields.isEmpty() ) {
+            return;
+        }
+        final Map<String, List<Callback<List<String>>>> callbacks = new LinkedHashMap<String, List<Callback<List<String>>>>( pendingClassFields );
+        pendingClassFields.clear();
+        isLoadingClassFields = true;
+
+        drlTextEditorService.call( getLoadClassFieldsSuccessCallback( callbacks ),
+                                   new HasBusyIndicatorDefaultErrorCallback( view ) {
+                                       @Override
+                                       public boolean error( final Message message,
+                                                             final Throwable throwable ) {
+                                           //Only the failed batch is dropped; requests queued whilst it was in flight are still loaded
+                                           isLoadingClassFields = false;
+                                           final boolean result = super.error( message,
+                                                                               throwable );
+                                           loadPendingClassFields();
+                                           return result;
+                                       }
+                                   } ).loadClassFields( versionRecordManager.getCurrentPath(),
+                                                        new HashSet<String>( callbacks.keySet() ) );
+    }
+
+    private RemoteCallback<Map<String, List<String>>> getLoadClassFieldsSuccessCallback( final Map<String, List<Callback<List<String>>>> callbacks ) {
+        return new RemoteCallback<Map<String, List<String>>>() {
 
             @Override
-            public void callback( final List<String> fields ) {
-                callback.callback( fields );
+            public void callback( final Map<String, List<String>> fields ) {
+                isLoadingClassFields = false;
+                for ( Map.Entry<String, List<Callback<List<String>>>> e : callbacks.entrySet() ) {
+                    final List<String> classFieldNames = fields.get( e.getKey() );
+                    classFields.put( e.getKey(),
+                                     classFieldNames );
+                    for ( Callback<List<String>> callback : e.getValue() ) {
+                        callback.callback( classFieldNames );
+                    }
+                }
+                loadPendingClassFields();
             }
         };
     }
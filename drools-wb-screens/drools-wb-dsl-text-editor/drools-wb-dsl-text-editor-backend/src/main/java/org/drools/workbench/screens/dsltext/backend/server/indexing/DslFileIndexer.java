@@ -27,9 +27,9 @@ import org.drools.compiler.lang.dsl.DSLMappingEntry;
 import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
 import org.drools.workbench.screens.dsltext.type.DSLResourceTypeDefinition;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.project.model.Project;
-import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
 import org.kie.workbench.common.services.refactoring.model.index.IndexElementsGenerator;
@@ -51,7 +51,7 @@ public class DslFileIndexer extends AbstractDrlFileIndexer {
     private static final Logger logger = LoggerFactory.getLogger( AbstractDrlFileIndexer.class );
 
     @Inject
-    private DataModelService dataModelService;
+    private IndexingProjectDataModelOracleCache dataModelCache;
 
     @Inject
     protected DSLResourceTypeDefinition dslType;
@@ -128,7 +128,7 @@ public class DslFileIndexer extends AbstractDrlFileIndexer {
      */
     @Override
     protected ProjectDataModelOracle getProjectDataModelOracle( final Path path ) {
-        return dataModelService.getProjectDataModel( Paths.convert( path ) );
+        return dataModelCache.getProjectDataModel( Paths.convert( path ) );
     }
 
     public static final String MOCK_RULE_NAME = DslFileIndexer.class.getSimpleName() + "_parsing_dummy_rule";
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.drools.decisiontable.InputType;
+import org.drools.decisiontable.SpreadsheetCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the DRL generated from XLS Decision Tables, keyed by a digest of the workbook content and the version of
+ * {@link SpreadsheetCompiler}. Compiling a large workbook is expensive and the same, unchanged, content is compiled by
+ * both indexing and the "Source" tab. Concurrent requests for the same content are coalesced into a single compilation.
+ * Entries are held in memory and on local disk so that they survive restarts; including the compiler version, and the
+ * timestamp and size of the jar containing it, in the key ensures DRL generated by a different build of Drools is not
+ * re-used after an upgrade. Both tiers are bounded by size, evicting the least recently used entries first. The tiers
+ * can be configured with the following System Properties:
+ * <ul>
+ * <li>{@link #DTABLE_XLS_DRL_CACHE_MEMORY_MAX_BYTES} the maximum (approximate) size of the in-memory tier</li>
+ * <li>{@link #DTABLE_XLS_DRL_CACHE_DISK_MAX_BYTES} the maximum size of the disk tier; zero or less disables it</li>
+ * <li>{@link #DTABLE_XLS_DRL_CACHE_DIR} the folder used by the disk tier; defaults to a folder within
+ * {@code org.uberfire.nio.git.dir}. The folder is created readable only by its owner where the file system supports
+ * POSIX permissions.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class DecisionTableXLSDrlCache {
+
+    public static final String DTABLE_XLS_DRL_CACHE_MEMORY_MAX_BYTES = "org.kie.dtablexls.drl-cache.memory.max-bytes";
+    public static final String DTABLE_XLS_DRL_CACHE_DISK_MAX_BYTES = "org.kie.dtablexls.drl-cache.disk.max-bytes";
+    public static final String DTABLE_XLS_DRL_CACHE_DIR = "org.kie.dtablexls.drl-cache.dir";
+
+    static final long DEFAULT_MEMORY_MAX_BYTES = 32L * 1024 * 1024;
+    static final long DEFAULT_DISK_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final String DRL_FILE_EXTENSION = ".drl";
+    private static final String DEFAULT_DIR_NAME = ".dtablexls-drl-cache";
+
+    private static final Logger log = LoggerFactory.getLogger( DecisionTableXLSDrlCache.class );
+
+    private final long memoryMaxBytes;
+    private final long diskMaxBytes;
+    private final File diskFolder;
+    private final String compilerVersion;
+
+    //Compilations in progress, keyed as entries
+    private final ConcurrentMap<String, FutureTask<String>> loads = new ConcurrentHashMap<>();
+
+    private final Map<String, String> memory = new LinkedHashMap<>( 16,
+                                                                    0.75f,
+                                                                    true );
+    private long memoryBytes = 0;
+
+    public DecisionTableXLSDrlCache() {
+        this( getLongProperty( DTABLE_XLS_DRL_CACHE_MEMORY_MAX_BYTES,
+                               DEFAULT_MEMORY_MAX_BYTES ),
+              getLongProperty( DTABLE_XLS_DRL_CACHE_DISK_MAX_BYTES,
+                               DEFAULT_DISK_MAX_BYTES ),
+              new File( System.getProperty( DTABLE_XLS_DRL_CACHE_DIR,
+                                            new File( System.getProperty( "org.uberfire.nio.git.dir",
+                                                                          "." ),
+                                                      DEFAULT_DIR_NAME ).getPath() ) ) );
+    }
+
+    /**
+     * @param memoryMaxBytes Maximum size of the in-memory tier. Zero or less disables the tier.
+     * @param diskMaxBytes Maximum size of the disk tier. Zero or less disables the tier.
+     * @param diskFolder Folder used by the disk tier. Can be null if the disk tier is disabled.
+     */
+    public DecisionTableXLSDrlCache( final long memoryMaxBytes,
+                                     final long diskMaxBytes,
+                                     final File diskFolder ) {
+        this( memoryMaxBytes,
+              diskMaxBytes,
+              diskFolder,
+              getCompilerVersion() );
+    }
+
+    /**
+     * @param memoryMaxBytes Maximum size of the in-memory tier. Zero or less disables the tier.
+     * @param diskMaxBytes Maximum size of the disk tier. Zero or less disables the tier.
+     * @param diskFolder Folder used by the disk tier. Can be null if the disk tier is disabled.
+     * @param compilerVersion Version of the compiler generating the DRL; entries for other versions are not used.
+     */
+    DecisionTableXLSDrlCache( final long memoryMaxBytes,
+                              final long diskMaxBytes,
+                              final File diskFolder,
+                              final String compilerVersion ) {
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.diskMaxBytes = diskMaxBytes;
+        this.diskFolder = diskFolder;
+        this.compilerVersion = compilerVersion;
+    }
+
+    /**
+     * Get the DRL for the XLS Decision Table, compiling it only if it is not already cached.
+     * @param content The content of the XLS workbook.
+     * @return The DRL generated from the workbook.
+     */
+    public String getDrl( final byte[] content ) {
+        final String key = digest( compilerVersion,
+                                   content );
+
+        final String drl = getFromMemory( key );
+        if ( drl != null ) {
+            return drl;
+        }
+
+        //Only the first request for the content loads it; others wait for, and share, its result
+        final FutureTask<String> load = loads.computeIfAbsent( key,
+                                                               ( k ) -> new FutureTask<>( () -> load( k,
+                                                                                                      content ) ) );
+        try {
+            load.run();
+            return load.get();
+
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( e );
+
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException ) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException( e.getCause() );
+
+        } finally {
+            loads.remove( key,
+                          load );
+        }
+    }
+
+    private String load( final String key,
+                         final byte[] content ) {
+        String drl = getFromDisk( key );
+        if ( drl == null ) {
+            drl = compile( content );
+            putOnDisk( key,
+                       drl );
+        }
+        putInMemory( key,
+                     drl );
+        return drl;
+    }
+
+    protected String compile( final byte[] content ) {
+        final SpreadsheetCompiler compiler = new SpreadsheetCompiler();
+        return compiler.compile( new ByteArrayInputStream( content ),
+                                 InputType.XLS );
+    }
+
+    private synchronized String getFromMemory( final String key ) {
+        return memory.get( key );
+    }
+
+    private synchronized void putInMemory( final String key,
+                                           final String drl ) {
+        //Java Strings are UTF-16; so approximate two bytes per character
+        final long size = 2L * drl.length();
+        if ( size > memoryMaxBytes || memory.containsKey( key ) ) {
+            return;
+        }
+        memory.put( key,
+                    drl );
+        memoryBytes = memoryBytes + size;
+
+        final Iterator<String> i = memory.values().iterator();
+        while ( memoryBytes > memoryMaxBytes && i.hasNext() ) {
+            memoryBytes = memoryBytes - 2L * i.next().length();
+            i.remove();
+        }
+    }
+
+    private String getFromDisk( final String key ) {
+        if ( !isDiskEnabled() ) {
+            return null;
+        }
+        final Path file = getDiskFile( key );
+        try {
+            if ( !Files.exists( file ) ) {
+                return null;
+            }
+            final String drl = new String( Files.readAllBytes( file ),
+                                           StandardCharsets.UTF_8 );
+            //Record use of the entry for least-recently-used eviction
+            Files.setLastModifiedTime( file,
+                                       FileTime.fromMillis( System.currentTimeMillis() ) );
+            return drl;
+
+        } catch ( IOException ioe ) {
+            log.warn( "Unable to read cached DRL from '" + file + "'.",
+                      ioe );
+            return null;
+        }
+    }
+
+    private void putOnDisk( final String key,
+                            final String drl ) {
+        final byte[] bytes = drl.getBytes( StandardCharsets.UTF_8 );
+        if ( !isDiskEnabled() || bytes.length > diskMaxBytes ) {
+            return;
+        }
+        try {
+            createDiskFolder();
+
+            //Write to a temporary file first so concurrent readers never see a partially written entry
+            final Path temp = Files.createTempFile( diskFolder.toPath(),
+                                                    key,
+                                                    ".tmp" );
+            Files.write( temp,
+                         bytes );
+            Files.move( temp,
+                        getDiskFile( key ),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE );
+
+            evictFromDisk();
+
+        } catch ( IOException ioe ) {
+            log.warn( "Unable to write cached DRL to '" + diskFolder + "'.",
+                      ioe );
+        }
+    }
+
+    private synchronized void evictFromDisk() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        long totalBytes = 0;
+        try ( DirectoryStream<Path> stream = Files.newDirectoryStream( diskFolder.toPath(),
+                                                                       "*" + DRL_FILE_EXTENSION ) ) {
+            for ( Path file : stream ) {
+                files.add( file );
+                totalBytes = totalBytes + Files.size( file );
+            }
+        }
+        if ( totalBytes <= diskMaxBytes ) {
+            return;
+        }
+
+        files.sort( Comparator.comparingLong( DecisionTableXLSDrlCache::getLastModified ) );
+        for ( Path file : files ) {
+            if ( totalBytes <= diskMaxBytes ) {
+                break;
+            }
+            final long size = Files.size( file );
+            if ( Files.deleteIfExists( file ) ) {
+                totalBytes = totalBytes - size;
+            }
+        }
+    }
+
+    //Cached DRL reveals the content of Decision Tables; so do not make it readable by other users
+    private void createDiskFolder() throws IOException {
+        final Path folder = diskFolder.toPath();
+        if ( Files.isDirectory( folder ) ) {
+            return;
+        }
+        final Path parent = folder.toAbsolutePath().getParent();
+        if ( parent != null ) {
+            Files.createDirectories( parent );
+        }
+        try {
+            if ( FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" ) ) {
+                Files.createDirectory( folder,
+                                       PosixFilePermissions.asFileAttribute( PosixFilePermissions.fromString( "rwx------" ) ) );
+            } else {
+                Files.createDirectory( folder );
+            }
+        } catch ( FileAlreadyExistsException faee ) {
+            //Created concurrently
+        }
+    }
+
+    private boolean isDiskEnabled() {
+        return diskMaxBytes > 0 && diskFolder != null;
+    }
+
+    private Path getDiskFile( final String key ) {
+        return diskFolder.toPath().resolve( key + DRL_FILE_EXTENSION );
+    }
+
+    private static long getLastModified( final Path file ) {
+        try {
+            return Files.getLastModifiedTime( file ).toMillis();
+        } catch ( IOException ioe ) {
+            return 0;
+        }
+    }
+
+    private static String digest( final String compilerVersion,
+                                  final byte[] content ) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance( "SHA-256" );
+            messageDigest.update( compilerVersion.getBytes( StandardCharsets.UTF_8 ) );
+            messageDigest.update( (byte) 0 );
+            final byte[] digest = messageDigest.digest( content );
+            final StringBuilder sb = new StringBuilder();
+            for ( byte b : digest ) {
+                sb.append( String.format( "%02x",
+                                          b ) );
+            }
+            return sb.toString();
+
+        } catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    //The version of the Drools jar containing the compiler; or "unknown" when not packaged, e.g. when running from an IDE.
+    //SNAPSHOT builds share a version; so the jar's timestamp and size distinguish them.
+    private static String getCompilerVersion() {
+        final Package compilerPackage = SpreadsheetCompiler.class.getPackage();
+        final String version = ( compilerPackage == null ? null : compilerPackage.getImplementationVersion() );
+        return ( version == null ? "unknown" : version ) + ":" + getCompilerBuild();
+    }
+
+    private static String getCompilerBuild() {
+        try {
+            final CodeSource codeSource = SpreadsheetCompiler.class.getProtectionDomain().getCodeSource();
+            final URL location = ( codeSource == null ? null : codeSource.getLocation() );
+            if ( location == null || !"file".equals( location.getProtocol() ) ) {
+                return "unknown";
+            }
+            final Path jar = Paths.get( location.toURI() );
+            return Files.getLastModifiedTime( jar ).toMillis() + ":" + Files.size( jar );
+
+        } catch ( Exception e ) {
+            log.warn( "Unable to determine the build of '" + SpreadsheetCompiler.class.getName() + "'. Cached DRL may be re-used after an upgrade.",
+                      e );
+            return "unknown";
+        }
+    }
+
+    private static long getLongProperty( final String name,
+                                         final long defaultValue ) {
+        final String property = System.getProperty( name );
+        if ( property == null ) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong( property.trim() );
+        } catch ( NumberFormatException nfe ) {
+            log.warn( "Ignoring invalid value '" + property + "' for System Property '" + name + "'." );
+            return defaultValue;
+        }
+    }
+
+}
@@ -32,17 +32,15 @@ import org.apache.commons.io.IOUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
-import org.drools.decisiontable.InputType;
-import org.drools.decisiontable.SpreadsheetCompiler;
 import org.drools.template.parser.DecisionTableParseException;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSContent;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSConversionService;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
 import org.jboss.errai.bus.server.annotations.Service;
@@ -79,7 +77,8 @@ public class DecisionTableXLSServiceImpl
     private RenameService renameService;
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
     private DecisionTableXLSConversionService conversionService;
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
+    private DecisionTableXLSDrlCache drlCache;
     private CommentedOptionFactory commentedOptionFactory;
     private AuthenticationService authenticationService;
 
@@ -93,7 +92,8 @@ public class DecisionTableXLSServiceImpl
                                         final RenameService renameService,
                                         final Event<ResourceOpenedEvent> resourceOpenedEvent,
                                         final DecisionTableXLSConversionService conversionService,
-                                        final GenericValidator genericValidator,
+                                        final CachingGenericValidator genericValidator,
+                                        final DecisionTableXLSDrlCache drlCache,
                                         final CommentedOptionFactory commentedOptionFactory,
                                         final AuthenticationService authenticationService ) {
         this.ioService = ioService;
@@ -103,6 +103,7 @@ public class DecisionTableXLSServiceImpl
         this.resourceOpenedEvent = resourceOpenedEvent;
         this.conversionService = conversionService;
         this.genericValidator = genericValidator;
+        this.drlCache = drlCache;
         this.commentedOptionFactory = commentedOptionFactory;
         this.authenticationService = authenticationService;
     }
@@ -264,24 +265,10 @@ public class DecisionTableXLSServiceImpl
 
     @Override
     public String getSource( final Path path ) {
-        InputStream inputStream = null;
         try {
-            final SpreadsheetCompiler compiler = new SpreadsheetCompiler();
-            inputStream = ioService.newInputStream( Paths.convert( path ),
-                                                    StandardOpenOption.READ );
-            final String drl = compiler.compile( inputStream,
-                                                 InputType.XLS );
-            return drl;
+            return drlCache.getDrl( ioService.readAllBytes( Paths.convert( path ) ) );
         } catch ( Exception e ) {
             throw new SourceGenerationFailedException( e.getMessage() );
-        } finally {
-            if ( inputStream != null ) {
-                try {
-                    inputStream.close();
-                } catch ( IOException ioe ) {
-                    throw ExceptionUtilities.handleException( ioe );
-                }
-            }
         }
     }
 
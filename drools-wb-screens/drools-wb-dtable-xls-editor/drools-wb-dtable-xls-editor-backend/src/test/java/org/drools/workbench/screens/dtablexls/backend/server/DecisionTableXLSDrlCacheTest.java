@@ -0,0 +1,226 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+public class DecisionTableXLSDrlCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final byte[] CONTENT1 = "workbook1".getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] CONTENT2 = "workbook2".getBytes( StandardCharsets.UTF_8 );
+
+    @Test
+    public void unchangedContentIsCompiledOnce() {
+        final CountingDrlCache cache = new CountingDrlCache( 1024,
+                                                             0,
+                                                             null );
+
+        assertEquals( "drl-workbook1",
+                      cache.getDrl( CONTENT1 ) );
+        assertEquals( "drl-workbook1",
+                      cache.getDrl( CONTENT1 ) );
+        assertEquals( 1,
+                      cache.compilations.get() );
+    }
+
+    @Test
+    public void changedContentIsCompiled() {
+        final CountingDrlCache cache = new CountingDrlCache( 1024,
+                                                             0,
+                                                             null );
+
+        assertEquals( "drl-workbook1",
+                      cache.getDrl( CONTENT1 ) );
+        assertEquals( "drl-workbook2",
+                      cache.getDrl( CONTENT2 ) );
+        assertEquals( 2,
+                      cache.compilations.get() );
+    }
+
+    @Test
+    public void memoryTierIsBoundedBySize() {
+        //Each entry is 13 characters, approximately 26 bytes
+        final CountingDrlCache cache = new CountingDrlCache( 30,
+                                                             0,
+                                                             null );
+
+        cache.getDrl( CONTENT1 );
+        cache.getDrl( CONTENT2 );
+        cache.getDrl( CONTENT1 );
+
+        assertEquals( 3,
+                      cache.compilations.get() );
+    }
+
+    @Test
+    public void diskTierSurvivesRestart() throws Exception {
+        final File diskFolder = folder.newFolder();
+        final CountingDrlCache cache1 = new CountingDrlCache( 1024,
+                                                              1024,
+                                                              diskFolder );
+        cache1.getDrl( CONTENT1 );
+
+        final CountingDrlCache cache2 = new CountingDrlCache( 1024,
+                                                              1024,
+                                                              diskFolder );
+        assertEquals( "drl-workbook1",
+                      cache2.getDrl( CONTENT1 ) );
+        assertEquals( 0,
+                      cache2.compilations.get() );
+    }
+
+    @Test
+    public void diskTierIsNotUsedByOtherCompilerVersion() throws Exception {
+        final File diskFolder = folder.newFolder();
+        final CountingDrlCache cache1 = new CountingDrlCache( 1024,
+                                                              1024,
+                                                              diskFolder,
+                                                              "1.0" );
+        cache1.getDrl( CONTENT1 );
+
+        final CountingDrlCache cache2 = new CountingDrlCache( 1024,
+                                                              1024,
+                                                              diskFolder,
+                                                              "2.0" );
+        assertEquals( "drl-workbook1",
+                      cache2.getDrl( CONTENT1 ) );
+        assertEquals( 1,
+                      cache2.compilations.get() );
+    }
+
+    @Test
+    public void concurrentRequestsAreCompiledOnce() throws Exception {
+        final CountDownLatch compiling = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+        final CountingDrlCache cache = new CountingDrlCache( 1024,
+                                                             0,
+                                                             null ) {
+            @Override
+            protected String compile( final byte[] content ) {
+                compiling.countDown();
+                try {
+                    release.await( 10,
+                                   TimeUnit.SECONDS );
+                } catch ( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.compile( content );
+            }
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try {
+            final Future<String> drl1 = executor.submit( () -> cache.getDrl( CONTENT1 ) );
+            assertTrue( compiling.await( 10,
+                                         TimeUnit.SECONDS ) );
+            final Future<String> drl2 = executor.submit( () -> cache.getDrl( CONTENT1 ) );
+            release.countDown();
+
+            assertEquals( "drl-workbook1",
+                          drl1.get( 10,
+                                    TimeUnit.SECONDS ) );
+            assertEquals( "drl-workbook1",
+                          drl2.get( 10,
+                                    TimeUnit.SECONDS ) );
+            assertEquals( 1,
+                          cache.compilations.get() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void diskTierIsBoundedBySize() throws Exception {
+        final File diskFolder = folder.newFolder();
+        final CountingDrlCache cache = new CountingDrlCache( 0,
+                                                             20,
+                                                             diskFolder );
+
+        cache.getDrl( CONTENT1 );
+        cache.getDrl( CONTENT2 );
+
+        assertEquals( 1,
+                      diskFolder.listFiles( ( dir, name ) -> name.endsWith( ".drl" ) ).length );
+    }
+
+    @Test
+    public void diskTierFolderIsOnlyAccessibleByOwner() throws Exception {
+        assumeTrue( FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" ) );
+        final File diskFolder = new File( folder.getRoot(),
+                                          "cache" );
+        final CountingDrlCache cache = new CountingDrlCache( 0,
+                                                             1024,
+                                                             diskFolder );
+
+        cache.getDrl( CONTENT1 );
+
+        assertEquals( "rwx------",
+                      PosixFilePermissions.toString( Files.getPosixFilePermissions( diskFolder.toPath() ) ) );
+    }
+
+    private static class CountingDrlCache extends DecisionTableXLSDrlCache {
+
+        private final AtomicInteger compilations = new AtomicInteger();
+
+        private CountingDrlCache( final long memoryMaxBytes,
+                                  final long diskMaxBytes,
+                                  final File diskFolder ) {
+            this( memoryMaxBytes,
+                  diskMaxBytes,
+                  diskFolder,
+                  "1.0" );
+        }
+
+        private CountingDrlCache( final long memoryMaxBytes,
+                                  final long diskMaxBytes,
+                                  final File diskFolder,
+                                  final String compilerVersion ) {
+            super( memoryMaxBytes,
+                   diskMaxBytes,
+                   diskFolder,
+                   compilerVersion );
+        }
+
+        @Override
+        protected String compile( final byte[] content ) {
+            compilations.incrementAndGet();
+            return "drl-" + new String( content,
+                                        StandardCharsets.UTF_8 );
+        }
+    }
+
+}
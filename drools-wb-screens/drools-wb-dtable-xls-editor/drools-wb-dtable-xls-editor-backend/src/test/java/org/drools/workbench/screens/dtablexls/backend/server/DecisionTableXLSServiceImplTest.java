@@ -41,9 +41,9 @@ import javax.enterprise.event.Event;
 import org.apache.commons.io.IOUtils;
 import org.drools.template.parser.DecisionTableParseException;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSConversionService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
 import org.guvnor.common.services.backend.util.CommentedOptionFactoryImpl;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.jboss.errai.security.shared.api.identity.User;
 import org.jboss.errai.security.shared.service.AuthenticationService;
 import org.junit.Before;
@@ -85,7 +85,10 @@ public class DecisionTableXLSServiceImplTest {
     private DecisionTableXLSConversionService conversionService;
 
     @Mock
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
+
+    @Mock
+    private DecisionTableXLSDrlCache drlCache;
 
     private CommentedOptionFactory commentedOptionFactory = new CommentedOptionFactoryImpl();
 
@@ -250,6 +253,7 @@ public class DecisionTableXLSServiceImplTest {
                                                 resourceOpenedEvent,
                                                 conversionService,
                                                 genericValidator,
+                                                drlCache,
                                                 commentedOptionFactory,
                                                 authenticationService ) {
             @Override
@@ -23,6 +23,7 @@ import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.datamodel.oracle.FieldAccessorsAndMutators;
 import org.drools.workbench.models.datamodel.oracle.ModelField;
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSResourceTypeDefinition;
 import org.kie.workbench.common.services.refactoring.backend.server.TestIndexer;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
@@ -35,6 +36,13 @@ import org.uberfire.java.nio.file.Path;
 @ApplicationScoped
 public class TestDecisionTableXLSFileIndexer extends DecisionTableXLSFileIndexer implements TestIndexer<DecisionTableXLSResourceTypeDefinition> {
 
+    public TestDecisionTableXLSFileIndexer() {
+        //In-memory cache only
+        this.drlCache = new DecisionTableXLSDrlCache( 1024 * 1024,
+                                                     0,
+                                                     null );
+    }
+
     @Override
     public void setIOService( final IOService ioService ) {
         this.ioService = ioService;
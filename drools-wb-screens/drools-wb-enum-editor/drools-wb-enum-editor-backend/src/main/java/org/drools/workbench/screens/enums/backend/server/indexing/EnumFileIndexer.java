@@ -20,10 +20,10 @@ import javax.inject.Inject;
 
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
 import org.drools.workbench.screens.enums.type.EnumResourceTypeDefinition;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.project.model.Project;
 import org.kie.workbench.common.services.datamodel.backend.server.builder.util.DataEnumLoader;
-import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.AbstractFileIndexer;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
@@ -38,7 +38,7 @@ public class EnumFileIndexer extends AbstractFileIndexer {
     private static final Logger logger = LoggerFactory.getLogger( EnumFileIndexer.class );
 
     @Inject
-    private DataModelService dataModelService;
+    private IndexingProjectDataModelOracleCache dataModelCache;
 
     @Inject
     protected EnumResourceTypeDefinition type;
@@ -75,7 +75,7 @@ public class EnumFileIndexer extends AbstractFileIndexer {
 
     //Delegate resolution of DMO to method to assist testing
     protected ProjectDataModelOracle getProjectDataModelOracle( final Path path ) {
-        return dataModelService.getProjectDataModel( Paths.convert( path ) );
+        return dataModelCache.getProjectDataModel( Paths.convert( path ) );
     }
 
 }
@@ -28,10 +28,10 @@ import org.drools.workbench.screens.globals.backend.server.util.GlobalsPersisten
 import org.drools.workbench.screens.globals.model.GlobalsEditorContent;
 import org.drools.workbench.screens.globals.model.GlobalsModel;
 import org.drools.workbench.screens.globals.service.GlobalsEditorService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
@@ -79,7 +79,7 @@ public class GlobalsEditorServiceImpl
     private DataModelService dataModelService;
 
     @Inject
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
@@ -20,7 +20,7 @@ import javax.inject.Inject;
 
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
 import org.drools.workbench.screens.globals.type.GlobalResourceTypeDefinition;
-import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
 import org.uberfire.backend.server.util.Paths;
@@ -30,7 +30,7 @@ import org.uberfire.java.nio.file.Path;
 public class GlobalsFileIndexer extends AbstractDrlFileIndexer {
 
     @Inject
-    private DataModelService dataModelService;
+    private IndexingProjectDataModelOracleCache dataModelCache;
 
     @Inject
     protected GlobalResourceTypeDefinition type;
@@ -53,7 +53,7 @@ public class GlobalsFileIndexer extends AbstractDrlFileIndexer {
      */
     @Override
     protected ProjectDataModelOracle getProjectDataModelOracle( final Path path ) {
-        return dataModelService.getProjectDataModel( Paths.convert( path ) );
+        return dataModelCache.getProjectDataModel( Paths.convert( path ) );
     }
 
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.model;
+
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.uberfire.commons.validation.PortablePreconditions;
+
+/**
+ * New value of a single cell in a Decision Table, used to save changes without sending the whole Model.
+ */
+@Portable
+public class GuidedDecisionTableCellChange {
+
+    private int rowIndex;
+    private int columnIndex;
+    private DTCellValue52 value;
+
+    public GuidedDecisionTableCellChange( final @MapsTo("rowIndex") int rowIndex,
+                                          final @MapsTo("columnIndex") int columnIndex,
+                                          final @MapsTo("value") DTCellValue52 value ) {
+        this.rowIndex = rowIndex;
+        this.columnIndex = columnIndex;
+        this.value = PortablePreconditions.checkNotNull( "value",
+                                                         value );
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public DTCellValue52 getValue() {
+        return value;
+    }
+
+}
@@ -31,7 +31,10 @@ public class GuidedDecisionTableEditorContent {
     private GuidedDecisionTable52 model;
     private Set<PortableWorkDefinition> workItemDefinitions;
     private PackageDataModelOracleBaselinePayload dataModel;
+    private String dataModelVersion;
     private Overview overview;
+    private String contentVersion;
+    private int totalRowCount;
 
     public GuidedDecisionTableEditorContent() {
     }
@@ -62,6 +65,23 @@ public class GuidedDecisionTableEditorContent {
         return dataModel;
     }
 
+    public void setDataModel( final PackageDataModelOracleBaselinePayload dataModel ) {
+        this.dataModel = PortablePreconditions.checkNotNull( "dataModel",
+                                                             dataModel );
+    }
+
+    /**
+     * @return Version of the Data Model payload. Payloads with the same version are identical, so the server omits
+     * the payload when the client has already cached one with the same version. Null if unknown.
+     */
+    public String getDataModelVersion() {
+        return dataModelVersion;
+    }
+
+    public void setDataModelVersion( final String dataModelVersion ) {
+        this.dataModelVersion = dataModelVersion;
+    }
+
     public Overview getOverview() {
         return overview;
     }
@@ -69,4 +89,29 @@ public class GuidedDecisionTableEditorContent {
     public void setOverview(Overview overview) {
         this.overview = overview;
     }
+
+    /**
+     * @return Version of the persisted content from which the Model was loaded; used to detect concurrent changes
+     * when saving changes to cell values. Null if unknown.
+     */
+    public String getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion( final String contentVersion ) {
+        this.contentVersion = contentVersion;
+    }
+
+    /**
+     * @return Number of rows in the persisted Decision Table. Large Decision Tables are loaded with only the first
+     * page of rows in the Model; when this is greater than the number of rows in the Model the remaining rows are
+     * loaded with {@link org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService#loadRows}.
+     */
+    public int getTotalRowCount() {
+        return totalRowCount;
+    }
+
+    public void setTotalRowCount( final int totalRowCount ) {
+        this.totalRowCount = totalRowCount;
+    }
 }
@@ -16,9 +16,15 @@
 
 package org.drools.workbench.screens.guided.dtable.service;
 
+import java.util.List;
+import java.util.Set;
+
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableCellChange;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.guvnor.common.services.shared.file.SupportsUpdate;
+import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.validation.ValidationService;
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
@@ -44,8 +50,66 @@ public interface GuidedDecisionTableEditorService
 
     String DTABLE_VERIFICATION_DISABLED = "org.kie.verification.disable-dtable-realtime-verification";
 
+    String DTABLE_PAGE_SIZE = "org.kie.dtable.page-size";
+
     GuidedDecisionTableEditorContent loadContent( final Path path );
 
+    /**
+     * Load a Decision Table. The Data Model payload is replaced with an empty payload if the client has already
+     * cached a payload with the same version; see {@link GuidedDecisionTableEditorContent#getDataModelVersion()}.
+     * @param path Path of the Decision Table
+     * @param cachedDataModelVersions Versions of the Data Model payloads cached by the client
+     * @return The Decision Table content
+     */
+    GuidedDecisionTableEditorContent loadContent( final Path path,
+                                                  final Set<String> cachedDataModelVersions );
+
     PackageDataModelOracleBaselinePayload loadDataModel( final Path path );
 
+    /**
+     * Load a page of rows of a Decision Table. Large Decision Tables are loaded with only the first page of rows
+     * so they can be shown quickly; the remaining rows are loaded with this method.
+     * @param path Path of the Decision Table
+     * @param contentVersion Content version of the Decision Table from which the first page of rows was loaded
+     * @param fromRowIndex Index of the first row to load
+     * @param maxRows Maximum number of rows to load
+     * @return Rows of the Decision Table; or null if the Decision Table has been changed since contentVersion, in
+     * which case the Decision Table should be loaded again.
+     */
+    List<List<DTCellValue52>> loadRows( final Path path,
+                                        final String contentVersion,
+                                        final int fromRowIndex,
+                                        final int maxRows );
+
+    /**
+     * Save the whole Model of a Decision Table.
+     * @param path Path of the Decision Table
+     * @param model Model of the Decision Table
+     * @param metadata Metadata of the Decision Table
+     * @param comment Commit message
+     * @return Content version of the Decision Table after it has been saved, to which subsequent changes to cell
+     * values can be saved with {@link #saveDelta(Path, String, List, Metadata, String)}.
+     */
+    String saveModel( final Path path,
+                      final GuidedDecisionTable52 model,
+                      final Metadata metadata,
+                      final String comment );
+
+    /**
+     * Save changes to cell values of a Decision Table without sending the whole Model. The changes are applied to the
+     * persisted Decision Table only if it has not been changed since it was loaded at baseVersion.
+     * @param path Path of the Decision Table
+     * @param baseVersion Content version of the Decision Table to which the changes apply
+     * @param changes Cell values to change
+     * @param metadata Metadata of the Decision Table
+     * @param comment Commit message
+     * @return Content version of the Decision Table after the changes have been saved; or null if the Decision Table
+     * has been changed since baseVersion, in which case the whole Model should be saved instead.
+     */
+    String saveDelta( final Path path,
+                      final String baseVersion,
+                      final List<GuidedDecisionTableCellChange> changes,
+                      final Metadata metadata,
+                      final String comment );
+
 }
@@ -17,10 +17,13 @@
 package org.drools.workbench.screens.guided.dtable.service;
 
 import java.util.List;
+import java.util.Map;
 
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphContent;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphModel;
 import org.guvnor.common.services.shared.file.SupportsUpdate;
+import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.ext.editor.commons.service.support.SupportsCopy;
@@ -43,4 +46,25 @@ public interface GuidedDecisionTableGraphEditorService
 
     List<Path> listDecisionTablesInPackage( final Path path );
 
+    /**
+     * Save a Decision Table graph and its Decision Tables. The Decision Tables are written in a single commit.
+     * @param path Path of the Decision Table graph
+     * @param model The Decision Table graph
+     * @param metadata Metadata of the Decision Table graph
+     * @param dtables Decision Tables to save, keyed by their Path
+     * @param dtablesMetadata Metadata of the Decision Tables to save, keyed by their Path
+     * @param dtablesBaseVersions Content versions of the Decision Tables when they were loaded or last saved, keyed by
+     * their Path. A Decision Table whose content version is unchanged by the save keeps its graph entry's version.
+     * @param comment Commit message
+     * @return Content versions of the saved Decision Tables, keyed by their Path, to which subsequent changes to cell
+     * values can be saved with {@link GuidedDecisionTableEditorService#saveDelta}.
+     */
+    Map<Path, String> saveAll( final Path path,
+                               final GuidedDecisionTableEditorGraphModel model,
+                               final Metadata metadata,
+                               final Map<Path, GuidedDecisionTable52> dtables,
+                               final Map<Path, Metadata> dtablesMetadata,
+                               final Map<Path, String> dtablesBaseVersions,
+                               final String comment );
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.models.datamodel.auditlog.AuditLog;
+import org.drools.workbench.models.datamodel.auditlog.AuditLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compacts the AuditLog of a Guided Decision Table before it is persisted. The AuditLog is stored
+ * inline in the table and otherwise grows without bound. Compaction is disabled unless one of the
+ * following System Properties is set:
+ * <ul>
+ * <li>{@link #DTABLE_AUDIT_LOG_MAX_AGE_DAYS} removes entries older than the given number of days</li>
+ * <li>{@link #DTABLE_AUDIT_LOG_MAX_ENTRIES} retains only the given number of most recent entries</li>
+ * <li>{@link #DTABLE_AUDIT_LOG_COMPACT_FILTERED_TYPES} removes entries for event types no longer recorded by the table</li>
+ * </ul>
+ */
+public class GuidedDecisionTableAuditLogCompactor {
+
+    public static final String DTABLE_AUDIT_LOG_MAX_AGE_DAYS = "org.kie.guided.dtable.auditlog.max-age-days";
+    public static final String DTABLE_AUDIT_LOG_MAX_ENTRIES = "org.kie.guided.dtable.auditlog.max-entries";
+    public static final String DTABLE_AUDIT_LOG_COMPACT_FILTERED_TYPES = "org.kie.guided.dtable.auditlog.compact-filtered-types";
+
+    private static final Logger log = LoggerFactory.getLogger( GuidedDecisionTableAuditLogCompactor.class );
+
+    private final int maxAgeDays;
+    private final int maxEntries;
+    private final boolean compactFilteredTypes;
+
+    public GuidedDecisionTableAuditLogCompactor() {
+        this( getIntegerProperty( DTABLE_AUDIT_LOG_MAX_AGE_DAYS ),
+              getIntegerProperty( DTABLE_AUDIT_LOG_MAX_ENTRIES ),
+              Boolean.parseBoolean( System.getProperty( DTABLE_AUDIT_LOG_COMPACT_FILTERED_TYPES ) ) );
+    }
+
+    /**
+     * @param maxAgeDays Entries older than this number of days are removed. Zero or less disables the rule.
+     * @param maxEntries Only this number of most recent entries are retained. Zero or less disables the rule.
+     * @param compactFilteredTypes Remove entries whose event type is not accepted by the AuditLog's filter.
+     */
+    public GuidedDecisionTableAuditLogCompactor( final int maxAgeDays,
+                                                 final int maxEntries,
+                                                 final boolean compactFilteredTypes ) {
+        this.maxAgeDays = maxAgeDays;
+        this.maxEntries = maxEntries;
+        this.compactFilteredTypes = compactFilteredTypes;
+    }
+
+    public boolean isEnabled() {
+        return maxAgeDays > 0 || maxEntries > 0 || compactFilteredTypes;
+    }
+
+    /**
+     * Remove entries from the AuditLog according to the configured rules.
+     * @param auditLog The AuditLog to compact. Can be null.
+     * @return The number of entries removed.
+     */
+    public int compact( final AuditLog auditLog ) {
+        if ( auditLog == null || auditLog.isEmpty() || !isEnabled() ) {
+            return 0;
+        }
+        final int originalSize = auditLog.size();
+        final Date oldestRetainedDate = ( maxAgeDays > 0 ? new Date( System.currentTimeMillis() - TimeUnit.DAYS.toMillis( maxAgeDays ) ) : null );
+        final Map<String, Boolean> acceptedTypes = auditLog.getAuditLogFilter().getAcceptedTypes();
+
+        final Iterator<AuditLogEntry> i = auditLog.iterator();
+        while ( i.hasNext() ) {
+            final AuditLogEntry entry = i.next();
+            if ( compactFilteredTypes && !Boolean.TRUE.equals( acceptedTypes.get( entry.getGenericType() ) ) ) {
+                i.remove();
+            } else if ( oldestRetainedDate != null && entry.getDateOfEntry() != null && entry.getDateOfEntry().before( oldestRetainedDate ) ) {
+                i.remove();
+            }
+        }
+
+        //Entries are appended, so the most recent are at the end of the list
+        if ( maxEntries > 0 && auditLog.size() > maxEntries ) {
+            auditLog.subList( 0,
+                              auditLog.size() - maxEntries ).clear();
+        }
+
+        return originalSize - auditLog.size();
+    }
+
+    private static int getIntegerProperty( final String name ) {
+        final String property = System.getProperty( name );
+        if ( property == null ) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt( property.trim() );
+        } catch ( NumberFormatException nfe ) {
+            log.warn( "Ignoring invalid value '" + property + "' for System Property '" + name + "'." );
+            return 0;
+        }
+    }
+
+}
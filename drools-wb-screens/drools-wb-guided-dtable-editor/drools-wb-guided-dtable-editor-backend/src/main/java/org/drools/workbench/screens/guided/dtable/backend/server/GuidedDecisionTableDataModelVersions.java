@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+
+/**
+ * Versions of the PackageDataModelOracle baseline payloads sent with Guided Decision Tables. A payload is populated
+ * from a package's PackageDataModelOracle, which is replaced whenever the package or its project changes, with the
+ * classes used by the Decision Table pre-loaded. Its version therefore identifies both the PackageDataModelOracle
+ * instance and the pre-loaded classes. Clients cache payloads by version so an identical payload is not sent again.
+ */
+public class GuidedDecisionTableDataModelVersions {
+
+    //Weak keys so that PackageDataModelOracles evicted from the DataModelService's cache can be collected
+    private final Map<PackageDataModelOracle, String> oracleVersions = new WeakHashMap<PackageDataModelOracle, String>();
+
+    /**
+     * @param oracle PackageDataModelOracle from which the payload was populated.
+     * @param consumedFQCNs Classes pre-loaded into the payload.
+     * @return Version of the payload.
+     */
+    public String getVersion( final PackageDataModelOracle oracle,
+                              final Set<String> consumedFQCNs ) {
+        final String oracleVersion;
+        synchronized ( oracleVersions ) {
+            oracleVersion = oracleVersions.computeIfAbsent( oracle,
+                                                            ( o ) -> UUID.randomUUID().toString() );
+        }
+        final List<String> sortedFQCNs = new ArrayList<String>( consumedFQCNs );
+        Collections.sort( sortedFQCNs );
+        return oracleVersion + ":" + GuidedDecisionTableEditorServiceImpl.getContentVersion( String.join( ",",
+                                                                                                       sortedFQCNs ) );
+    }
+
+}
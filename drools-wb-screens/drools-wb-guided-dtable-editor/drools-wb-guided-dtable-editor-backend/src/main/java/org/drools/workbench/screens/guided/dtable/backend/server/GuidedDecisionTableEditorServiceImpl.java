@@ -16,6 +16,9 @@
 
 package org.drools.workbench.screens.guided.dtable.backend.server;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -27,14 +30,16 @@ import javax.inject.Named;
 import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
 import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
 import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableCellChange;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -45,6 +50,8 @@ import org.kie.workbench.common.services.datamodel.backend.server.DataModelOracl
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.ext.editor.commons.service.CopyService;
@@ -61,6 +68,8 @@ public class GuidedDecisionTableEditorServiceImpl
         extends KieService<GuidedDecisionTableEditorContent>
         implements GuidedDecisionTableEditorService {
 
+    private static final Logger logger = LoggerFactory.getLogger( GuidedDecisionTableEditorServiceImpl.class );
+
     private IOService ioService;
     private CopyService copyService;
     private DeleteService deleteService;
@@ -69,10 +78,16 @@ public class GuidedDecisionTableEditorServiceImpl
     private WorkItemsEditorService workItemsService;
     private KieProjectService projectService;
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
     private CommentedOptionFactory commentedOptionFactory;
     private SafeSessionInfo safeSessionInfo;
 
+    private final GuidedDecisionTableAuditLogCompactor auditLogCompactor = new GuidedDecisionTableAuditLogCompactor();
+
+    GuidedDecisionTableRowPager rowPager = new GuidedDecisionTableRowPager();
+
+    private final GuidedDecisionTableDataModelVersions dataModelVersions = new GuidedDecisionTableDataModelVersions();
+
     public GuidedDecisionTableEditorServiceImpl() {
         //Zero parameter constructor for CDI
     }
@@ -86,7 +101,7 @@ public class GuidedDecisionTableEditorServiceImpl
                                                  final WorkItemsEditorService workItemsService,
                                                  final KieProjectService projectService,
                                                  final Event<ResourceOpenedEvent> resourceOpenedEvent,
-                                                 final GenericValidator genericValidator,
+                                                 final CachingGenericValidator genericValidator,
                                                  final CommentedOptionFactory commentedOptionFactory,
                                                  final SessionInfo sessionInfo ) {
         this.ioService = ioService;
@@ -147,10 +162,22 @@ public class GuidedDecisionTableEditorServiceImpl
         return super.loadContent( path );
     }
 
+    @Override
+    public GuidedDecisionTableEditorContent loadContent( final Path path,
+                                                         final Set<String> cachedDataModelVersions ) {
+        final GuidedDecisionTableEditorContent content = loadContent( path );
+        if ( cachedDataModelVersions != null && cachedDataModelVersions.contains( content.getDataModelVersion() ) ) {
+            //The client already holds an identical payload
+            content.setDataModel( new PackageDataModelOracleBaselinePayload() );
+        }
+        return content;
+    }
+
     @Override
     protected GuidedDecisionTableEditorContent constructContent( Path path,
                                                                  Overview overview ) {
-        final GuidedDecisionTable52 model = load( path );
+        final String content = ioService.readAllString( Paths.convert( path ) );
+        final GuidedDecisionTable52 model = GuidedDTXMLPersistence.getInstance().unmarshal( content );
         final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
@@ -164,6 +191,8 @@ public class GuidedDecisionTableEditorServiceImpl
         DataModelOracleUtilities.populateDataModel( oracle,
                                                     dataModel,
                                                     consumedFQCNs );
+        final String dataModelVersion = dataModelVersions.getVersion( oracle,
+                                                                      consumedFQCNs );
 
         final Set<PortableWorkDefinition> workItemDefinitions = workItemsService.loadWorkItemDefinitions( path );
 
@@ -171,10 +200,19 @@ public class GuidedDecisionTableEditorServiceImpl
         resourceOpenedEvent.fire( new ResourceOpenedEvent( path,
                                                            safeSessionInfo ) );
 
-        return new GuidedDecisionTableEditorContent( model,
-                                                     workItemDefinitions,
-                                                     overview,
-                                                     dataModel );
+        //Large Decision Tables are sent with only the first page of rows; the client loads the remaining rows
+        final String contentVersion = getContentVersion( content );
+        final int totalRowCount = rowPager.page( contentVersion,
+                                                 model );
+
+        final GuidedDecisionTableEditorContent editorContent = new GuidedDecisionTableEditorContent( model,
+                                                                                                   workItemDefinitions,
+                                                                                                   overview,
+                                                                                                   dataModel );
+        editorContent.setContentVersion( contentVersion );
+        editorContent.setDataModelVersion( dataModelVersion );
+        editorContent.setTotalRowCount( totalRowCount );
+        return editorContent;
     }
 
     @Override
@@ -194,31 +232,180 @@ public class GuidedDecisionTableEditorServiceImpl
         }
     }
 
+    @Override
+    public List<List<DTCellValue52>> loadRows( final Path path,
+                                               final String contentVersion,
+                                               final int fromRowIndex,
+                                               final int maxRows ) {
+        try {
+            List<List<DTCellValue52>> rows = rowPager.getCachedRows( contentVersion );
+            if ( rows == null ) {
+                final String content = ioService.readAllString( Paths.convert( path ) );
+                if ( contentVersion == null || !contentVersion.equals( getContentVersion( content ) ) ) {
+                    logger.info( "Unable to load rows of '" + path.toURI() + "'. It has changed since version '" + contentVersion + "'." );
+                    return null;
+                }
+                rows = GuidedDTXMLPersistence.getInstance().unmarshal( content ).getData();
+                rowPager.cacheRows( contentVersion,
+                                    rows );
+            }
+            return rowPager.getPage( contentVersion,
+                                     rows,
+                                     fromRowIndex,
+                                     maxRows );
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
     @Override
     public Path save( final Path resource,
                       final GuidedDecisionTable52 model,
                       final Metadata metadata,
                       final String comment ) {
         try {
-            final Package pkg = projectService.resolvePackage( resource );
-            final String packageName = ( pkg == null ? null : pkg.getPackageName() );
-            model.setPackageName( packageName );
+            doSave( resource,
+                    model,
+                    metadata,
+                    comment );
+            return resource;
 
-            Metadata currentMetadata = metadataService.getMetadata( resource );
-            ioService.write( Paths.convert( resource ),
-                             GuidedDTXMLPersistence.getInstance().marshal( model ),
-                             metadataService.setUpAttributes( resource,
-                                                              metadata ),
-                             commentedOptionFactory.makeCommentedOption( comment ) );
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
 
-            fireMetadataSocialEvents( resource, currentMetadata, metadata );
-            return resource;
+    @Override
+    public String saveModel( final Path path,
+                             final GuidedDecisionTable52 model,
+                             final Metadata metadata,
+                             final String comment ) {
+        try {
+            return getContentVersion( doSave( path,
+                                              model,
+                                              metadata,
+                                              comment ) );
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
+    //Returns the content written
+    private String doSave( final Path resource,
+                           final GuidedDecisionTable52 model,
+                           final Metadata metadata,
+                           final String comment ) {
+        final Package pkg = projectService.resolvePackage( resource );
+        final String packageName = ( pkg == null ? null : pkg.getPackageName() );
+        model.setPackageName( packageName );
+
+        //Stop the AuditLog growing without bound; it is persisted inline and shipped with every load
+        auditLogCompactor.compact( model.getAuditLog() );
+
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( model );
+        Metadata currentMetadata = metadataService.getMetadata( resource );
+        ioService.write( Paths.convert( resource ),
+                         content,
+                         metadataService.setUpAttributes( resource,
+                                                          metadata ),
+                         commentedOptionFactory.makeCommentedOption( comment ) );
+
+        fireMetadataSocialEvents( resource, currentMetadata, metadata );
+        return content;
+    }
+
+    @Override
+    public String saveDelta( final Path path,
+                             final String baseVersion,
+                             final List<GuidedDecisionTableCellChange> changes,
+                             final Metadata metadata,
+                             final String comment ) {
+        try {
+            final long startTime = System.currentTimeMillis();
+            final org.uberfire.java.nio.file.Path nioPath = Paths.convert( path );
+
+            //Hold the batch whilst checking the version so the Decision Table cannot change before it is written
+            ioService.startBatch( nioPath.getFileSystem(),
+                                  commentedOptionFactory.makeCommentedOption( comment ) );
+            try {
+                final String content = ioService.readAllString( nioPath );
+                if ( baseVersion == null || !baseVersion.equals( getContentVersion( content ) ) ) {
+                    logger.info( "Unable to save changes to '" + path.toURI() + "'. It has changed since version '" + baseVersion + "'." );
+                    return null;
+                }
+
+                final GuidedDecisionTable52 model = GuidedDTXMLPersistence.getInstance().unmarshal( content );
+                if ( !applyCellChanges( model,
+                                        changes ) ) {
+                    logger.info( "Unable to save changes to '" + path.toURI() + "'. Changes do not match the Decision Table." );
+                    return null;
+                }
+
+                final String updatedContent = GuidedDTXMLPersistence.getInstance().marshal( model );
+                final Metadata currentMetadata = metadataService.getMetadata( path );
+                ioService.write( nioPath,
+                                 updatedContent,
+                                 metadataService.setUpAttributes( path,
+                                                                  metadata ),
+                                 commentedOptionFactory.makeCommentedOption( comment ) );
+
+                fireMetadataSocialEvents( path,
+                                          currentMetadata,
+                                          metadata );
+
+                if ( logger.isDebugEnabled() ) {
+                    logger.debug( "Saved " + changes.size() + " cell change(s) to '" + path.toURI() + "' in " + ( System.currentTimeMillis() - startTime ) + "ms. "
+                                          + "Content changed from " + content.length() + " to " + updatedContent.length() + " characters." );
+                }
+                return getContentVersion( updatedContent );
+
+            } finally {
+                ioService.endBatch();
+            }
 
         } catch ( Exception e ) {
             throw ExceptionUtilities.handleException( e );
         }
     }
 
+    private boolean applyCellChanges( final GuidedDecisionTable52 model,
+                                      final List<GuidedDecisionTableCellChange> changes ) {
+        final List<List<DTCellValue52>> data = model.getData();
+        final int columnCount = model.getExpandedColumns().size();
+        for ( GuidedDecisionTableCellChange change : changes ) {
+            final int rowIndex = change.getRowIndex();
+            final int columnIndex = change.getColumnIndex();
+            if ( rowIndex < 0 || rowIndex >= data.size() || columnIndex < 0 || columnIndex >= columnCount ) {
+                return false;
+            }
+            data.get( rowIndex ).set( columnIndex,
+                                      change.getValue() );
+        }
+        return true;
+    }
+
+    //Version of the persisted content; changes whenever the content is changed by any means
+    static String getContentVersion( final String content ) {
+        if ( content == null ) {
+            return null;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+            final byte[] hash = digest.digest( content.getBytes( StandardCharsets.UTF_8 ) );
+            final StringBuilder sb = new StringBuilder();
+            for ( byte b : hash ) {
+                sb.append( String.format( "%02x",
+                                          b ) );
+            }
+            return sb.toString();
+
+        } catch ( NoSuchAlgorithmException nsae ) {
+            throw new IllegalStateException( nsae );
+        }
+    }
+
     @Override
     public void delete( final Path path,
                         final String comment ) {
@@ -18,8 +18,11 @@ package org.drools.workbench.screens.guided.dtable.backend.server;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -170,33 +173,150 @@ public class GuidedDecisionTableGraphEditorServiceImpl
                       final Metadata metadata,
                       final String comment ) {
         try {
-            final Metadata currentMetadata = metadataService.getMetadata( path );
-
             versionEntriesPaths( model );
 
-            ioService.write( Paths.convert( path ),
-                             GuidedDTGraphXMLPersistence.getInstance().marshal( model ),
-                             metadataService.setUpAttributes( path,
-                                                              metadata ),
-                             commentedOptionFactory.makeCommentedOption( comment ) );
+            return saveGraph( path,
+                              model,
+                              metadata,
+                              comment );
 
-            fireMetadataSocialEvents( path,
-                                      currentMetadata,
-                                      metadata );
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
 
-            return path;
+    @Override
+    public Map<Path, String> saveAll( final Path path,
+                                      final GuidedDecisionTableEditorGraphModel model,
+                                      final Metadata metadata,
+                                      final Map<Path, GuidedDecisionTable52> dtables,
+                                      final Map<Path, Metadata> dtablesMetadata,
+                                      final Map<Path, String> dtablesBaseVersions,
+                                      final String comment ) {
+        try {
+            //Write all Decision Tables in a single commit, recording those whose content version changed
+            final Map<Path, String> contentVersions = new HashMap<>();
+            final Set<String> rewrittenUris = new HashSet<>();
+            Path rewrittenPath = null;
+            ioService.startBatch( Paths.convert( path ).getFileSystem(),
+                                  commentedOptionFactory.makeCommentedOption( comment ) );
+            try {
+                for ( Map.Entry<Path, GuidedDecisionTable52> e : dtables.entrySet() ) {
+                    final Path dtPath = e.getKey();
+                    final String contentVersion = dtableService.saveModel( dtPath,
+                                                                           e.getValue(),
+                                                                           dtablesMetadata.get( dtPath ),
+                                                                           comment );
+                    contentVersions.put( dtPath,
+                                         contentVersion );
+                    if ( !Objects.equals( dtablesBaseVersions.get( dtPath ),
+                                          contentVersion ) ) {
+                        rewrittenUris.add( dtPath.toURI() );
+                        rewrittenPath = dtPath;
+                    }
+                }
+            } finally {
+                ioService.endBatch();
+            }
+
+            //The latest version of a rewritten Decision Table is the commit above, at which all rewritten entries can
+            //be versioned. Entries that were not rewritten keep their version.
+            final Path rewrittenVersionPath = ( rewrittenPath == null ? null : getLatestVersionPath( rewrittenPath ) );
+            for ( GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry entry : model.getEntries() ) {
+                final Path pathHead = entry.getPathHead();
+                if ( rewrittenUris.contains( pathHead.toURI() ) ) {
+                    entry.setPathVersion( getVersionPath( pathHead,
+                                                          rewrittenPath,
+                                                          rewrittenVersionPath ) );
+                } else if ( entry.getPathVersion() == null ) {
+                    entry.setPathVersion( getLatestVersionPath( pathHead ) );
+                }
+            }
+
+            saveGraph( path,
+                       model,
+                       metadata,
+                       comment );
+
+            return contentVersions;
 
         } catch ( Exception e ) {
             throw ExceptionUtilities.handleException( e );
         }
     }
 
+    private Path saveGraph( final Path path,
+                            final GuidedDecisionTableEditorGraphModel model,
+                            final Metadata metadata,
+                            final String comment ) {
+        final Metadata currentMetadata = metadataService.getMetadata( path );
+
+        ioService.write( Paths.convert( path ),
+                         GuidedDTGraphXMLPersistence.getInstance().marshal( model ),
+                         metadataService.setUpAttributes( path,
+                                                          metadata ),
+                         commentedOptionFactory.makeCommentedOption( comment ) );
+
+        fireMetadataSocialEvents( path,
+                                  currentMetadata,
+                                  metadata );
+
+        return path;
+    }
+
     private void versionEntriesPaths( final GuidedDecisionTableEditorGraphModel model ) {
         for ( GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry entry : model.getEntries() ) {
             entry.setPathVersion( getLatestVersionPath( entry.getPathHead() ) );
         }
     }
 
+    private Path getVersionPath( final Path path,
+                                 final Path referencePath,
+                                 final Path referenceVersionPath ) {
+        final String versionUri = getVersionUri( referencePath.toURI(),
+                                                 referenceVersionPath.toURI(),
+                                                 path.toURI() );
+        if ( versionUri == null ) {
+            return getLatestVersionPath( path );
+        }
+        return PathFactory.newPathBasedOn( path.getFileName(),
+                                           versionUri,
+                                           path );
+    }
+
+    //A version URI is the Path's URI qualified with a commit. Derive the URI of a Path at the same commit as that of
+    //another Path in the same FileSystem, without walking its history. Returns null if the URI cannot be derived.
+    static String getVersionUri( final String referenceUri,
+                                 final String referenceVersionUri,
+                                 final String uri ) {
+        final int referenceFileSystemEndIndex = getFileSystemEndIndex( referenceUri );
+        final int fileSystemEndIndex = getFileSystemEndIndex( uri );
+        if ( referenceFileSystemEndIndex < 0 || fileSystemEndIndex < 0 ) {
+            return null;
+        }
+        if ( !referenceUri.substring( 0,
+                                      referenceFileSystemEndIndex ).equals( uri.substring( 0,
+                                                                                           fileSystemEndIndex ) ) ) {
+            return null;
+        }
+        final String referencePathPart = referenceUri.substring( referenceFileSystemEndIndex );
+        if ( !referenceVersionUri.endsWith( referencePathPart ) ) {
+            return null;
+        }
+        final String versionPrefix = referenceVersionUri.substring( 0,
+                                                                    referenceVersionUri.length() - referencePathPart.length() );
+        return versionPrefix + uri.substring( fileSystemEndIndex );
+    }
+
+    private static int getFileSystemEndIndex( final String uri ) {
+        final int schemeEndIndex = uri.indexOf( "://" );
+        if ( schemeEndIndex < 0 ) {
+            return -1;
+        }
+        return uri.indexOf( '/',
+                            schemeEndIndex + 3 );
+    }
+
     private Path getLatestVersionPath( final Path path ) {
         final List<VersionRecord> versions = versionRecordService.load( Paths.convert( path ) );
         final String versionUri = versions.get( versions.size() - 1 ).uri();
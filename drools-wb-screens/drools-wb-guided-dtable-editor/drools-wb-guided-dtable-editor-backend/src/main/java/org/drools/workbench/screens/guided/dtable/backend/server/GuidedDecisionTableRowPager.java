@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Splits the rows of large Guided Decision Tables into pages, so the first page can be shown whilst the remaining
+ * rows are loaded. The rows of recently paged Decision Tables are cached by content version so that loading each
+ * page does not need the whole Decision Table to be unmarshalled again. Paging is disabled unless the
+ * {@link GuidedDecisionTableEditorService#DTABLE_PAGE_SIZE} System Property is set to the number of rows per page.
+ */
+public class GuidedDecisionTableRowPager {
+
+    static final int MAX_CACHED_TABLES = 4;
+
+    private static final Logger log = LoggerFactory.getLogger( GuidedDecisionTableRowPager.class );
+
+    private final int pageSize;
+
+    private final Map<String, List<List<DTCellValue52>>> cache = new LinkedHashMap<String, List<List<DTCellValue52>>>( MAX_CACHED_TABLES,
+                                                                                                                        0.75f,
+                                                                                                                        true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, List<List<DTCellValue52>>> eldest ) {
+            return size() > MAX_CACHED_TABLES;
+        }
+    };
+
+    public GuidedDecisionTableRowPager() {
+        this( getIntegerProperty( GuidedDecisionTableEditorService.DTABLE_PAGE_SIZE ) );
+    }
+
+    /**
+     * @param pageSize Number of rows per page. Zero or less disables paging.
+     */
+    public GuidedDecisionTableRowPager( final int pageSize ) {
+        this.pageSize = pageSize;
+    }
+
+    public boolean isEnabled() {
+        return pageSize > 0;
+    }
+
+    /**
+     * Remove all but the first page of rows from the Model. The rows are cached to load the remaining pages.
+     * @param contentVersion Content version of the persisted Decision Table from which the Model was loaded.
+     * @param model The Model to page.
+     * @return The number of rows in the Model before it was paged.
+     */
+    public int page( final String contentVersion,
+                     final GuidedDecisionTable52 model ) {
+        final List<List<DTCellValue52>> data = model.getData();
+        final int totalRowCount = data.size();
+        if ( !isEnabled() || contentVersion == null || totalRowCount <= pageSize ) {
+            return totalRowCount;
+        }
+        cacheRows( contentVersion,
+                   new ArrayList<List<DTCellValue52>>( data ) );
+        data.subList( pageSize,
+                      totalRowCount ).clear();
+        return totalRowCount;
+    }
+
+    /**
+     * @param contentVersion Content version of the persisted Decision Table.
+     * @return All rows of the Decision Table; or null if they are not cached.
+     */
+    public List<List<DTCellValue52>> getCachedRows( final String contentVersion ) {
+        synchronized ( cache ) {
+            return cache.get( contentVersion );
+        }
+    }
+
+    public void cacheRows( final String contentVersion,
+                           final List<List<DTCellValue52>> rows ) {
+        synchronized ( cache ) {
+            cache.put( contentVersion,
+                       rows );
+        }
+    }
+
+    /**
+     * Get a page of rows. Pages are loaded in order, so the rows are removed from the cache once the last page has
+     * been read.
+     * @param contentVersion Content version of the persisted Decision Table.
+     * @param rows All rows of the Decision Table.
+     * @param fromRowIndex Index of the first row of the page.
+     * @param maxRows Maximum number of rows in the page.
+     * @return The page of rows. Empty if fromRowIndex is beyond the last row.
+     */
+    public List<List<DTCellValue52>> getPage( final String contentVersion,
+                                              final List<List<DTCellValue52>> rows,
+                                              final int fromRowIndex,
+                                              final int maxRows ) {
+        if ( fromRowIndex < 0 || fromRowIndex >= rows.size() || maxRows <= 0 ) {
+            return Collections.emptyList();
+        }
+        final int toRowIndex = (int) Math.min( rows.size(),
+                                               (long) fromRowIndex + maxRows );
+        if ( toRowIndex == rows.size() ) {
+            synchronized ( cache ) {
+                cache.remove( contentVersion );
+            }
+        }
+        return new ArrayList<List<DTCellValue52>>( rows.subList( fromRowIndex,
+                                                                 toRowIndex ) );
+    }
+
+    private static int getIntegerProperty( final String name ) {
+        final String property = System.getProperty( name );
+        if ( property == null ) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt( property.trim() );
+        } catch ( NumberFormatException nfe ) {
+            log.warn( "Ignoring invalid value '" + property + "' for System Property '" + name + "'." );
+            return 0;
+        }
+    }
+
+}
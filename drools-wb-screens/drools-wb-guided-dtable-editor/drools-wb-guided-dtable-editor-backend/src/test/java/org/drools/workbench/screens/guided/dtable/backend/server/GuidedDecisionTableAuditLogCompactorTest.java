@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.models.datamodel.auditlog.AuditLog;
+import org.drools.workbench.models.datamodel.auditlog.AuditLogEntry;
+import org.drools.workbench.models.guided.dtable.shared.auditlog.DecisionTableAuditLogFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GuidedDecisionTableAuditLogCompactorTest {
+
+    private static final String ACCEPTED_TYPE = "ACCEPTED";
+    private static final String REJECTED_TYPE = "REJECTED";
+
+    private AuditLog auditLog;
+
+    @Before
+    public void setup() {
+        auditLog = new AuditLog( new DecisionTableAuditLogFilter() );
+        auditLog.getAuditLogFilter().getAcceptedTypes().put( ACCEPTED_TYPE,
+                                                             true );
+        auditLog.getAuditLogFilter().getAcceptedTypes().put( REJECTED_TYPE,
+                                                             true );
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty( GuidedDecisionTableAuditLogCompactor.DTABLE_AUDIT_LOG_MAX_AGE_DAYS );
+        System.clearProperty( GuidedDecisionTableAuditLogCompactor.DTABLE_AUDIT_LOG_MAX_ENTRIES );
+        System.clearProperty( GuidedDecisionTableAuditLogCompactor.DTABLE_AUDIT_LOG_COMPACT_FILTERED_TYPES );
+    }
+
+    @Test
+    public void disabledByDefault() {
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor();
+        auditLog.add( makeEntry( ACCEPTED_TYPE,
+                                 1000 ) );
+
+        assertFalse( compactor.isEnabled() );
+        assertEquals( 0,
+                      compactor.compact( auditLog ) );
+        assertEquals( 1,
+                      auditLog.size() );
+    }
+
+    @Test
+    public void configuredFromSystemProperties() {
+        System.setProperty( GuidedDecisionTableAuditLogCompactor.DTABLE_AUDIT_LOG_MAX_ENTRIES,
+                            "1" );
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor();
+
+        assertTrue( compactor.isEnabled() );
+    }
+
+    @Test
+    public void invalidSystemPropertyIsIgnored() {
+        System.setProperty( GuidedDecisionTableAuditLogCompactor.DTABLE_AUDIT_LOG_MAX_AGE_DAYS,
+                            "many" );
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor();
+
+        assertFalse( compactor.isEnabled() );
+    }
+
+    @Test
+    public void nullAuditLog() {
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor( 1,
+                                                                                                           1,
+                                                                                                           true );
+        assertEquals( 0,
+                      compactor.compact( null ) );
+    }
+
+    @Test
+    public void compactByAge() {
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor( 30,
+                                                                                                           0,
+                                                                                                           false );
+        final AuditLogEntry oldEntry = makeEntry( ACCEPTED_TYPE,
+                                                  31 );
+        final AuditLogEntry newEntry = makeEntry( ACCEPTED_TYPE,
+                                                  1 );
+        auditLog.add( oldEntry );
+        auditLog.add( newEntry );
+
+        assertEquals( 1,
+                      compactor.compact( auditLog ) );
+        assertEquals( 1,
+                      auditLog.size() );
+        assertSame( newEntry,
+                    auditLog.get( 0 ) );
+    }
+
+    @Test
+    public void compactByNumberOfEntries() {
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor( 0,
+                                                                                                           2,
+                                                                                                           false );
+        final AuditLogEntry entry1 = makeEntry( ACCEPTED_TYPE,
+                                                3 );
+        final AuditLogEntry entry2 = makeEntry( ACCEPTED_TYPE,
+                                                2 );
+        final AuditLogEntry entry3 = makeEntry( ACCEPTED_TYPE,
+                                                1 );
+        auditLog.add( entry1 );
+        auditLog.add( entry2 );
+        auditLog.add( entry3 );
+
+        assertEquals( 1,
+                      compactor.compact( auditLog ) );
+        assertEquals( 2,
+                      auditLog.size() );
+        assertSame( entry2,
+                    auditLog.get( 0 ) );
+        assertSame( entry3,
+                    auditLog.get( 1 ) );
+    }
+
+    @Test
+    public void compactByFilteredTypes() {
+        final GuidedDecisionTableAuditLogCompactor compactor = new GuidedDecisionTableAuditLogCompactor( 0,
+                                                                                                           0,
+                                                                                                           true );
+        final AuditLogEntry acceptedEntry = makeEntry( ACCEPTED_TYPE,
+                                                       1 );
+        final AuditLogEntry rejectedEntry = makeEntry( REJECTED_TYPE,
+                                                       1 );
+        auditLog.add( acceptedEntry );
+        auditLog.add( rejectedEntry );
+
+        //Stop recording the type after entries have been added
+        auditLog.getAuditLogFilter().getAcceptedTypes().put( REJECTED_TYPE,
+                                                             false );
+
+        assertEquals( 1,
+                      compactor.compact( auditLog ) );
+        assertEquals( 1,
+                      auditLog.size() );
+        assertSame( acceptedEntry,
+                    auditLog.get( 0 ) );
+    }
+
+    private AuditLogEntry makeEntry( final String type,
+                                     final int ageDays ) {
+        final AuditLogEntry entry = mock( AuditLogEntry.class );
+        when( entry.getGenericType() ).thenReturn( type );
+        when( entry.getDateOfEntry() ).thenReturn( new Date( System.currentTimeMillis() - TimeUnit.DAYS.toMillis( ageDays ) ) );
+        return entry;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GuidedDecisionTableDataModelVersionsTest {
+
+    private final GuidedDecisionTableDataModelVersions versions = new GuidedDecisionTableDataModelVersions();
+
+    @Test
+    public void sameOracleAndClassesHaveSameVersion() {
+        final PackageDataModelOracle oracle = mock( PackageDataModelOracle.class );
+
+        final String version1 = versions.getVersion( oracle,
+                                                     new LinkedHashSet<>( Arrays.asList( "org.Applicant",
+                                                                                         "org.Mortgage" ) ) );
+        final String version2 = versions.getVersion( oracle,
+                                                     new LinkedHashSet<>( Arrays.asList( "org.Mortgage",
+                                                                                         "org.Applicant" ) ) );
+
+        assertEquals( version1,
+                      version2 );
+    }
+
+    @Test
+    public void differentClassesHaveDifferentVersions() {
+        final PackageDataModelOracle oracle = mock( PackageDataModelOracle.class );
+
+        final String version1 = versions.getVersion( oracle,
+                                                     new HashSet<>( Arrays.asList( "org.Applicant" ) ) );
+        final String version2 = versions.getVersion( oracle,
+                                                     new HashSet<>( Arrays.asList( "org.Mortgage" ) ) );
+
+        assertNotEquals( version1,
+                         version2 );
+    }
+
+    @Test
+    public void differentOraclesHaveDifferentVersions() {
+        final PackageDataModelOracle oracle1 = mock( PackageDataModelOracle.class );
+        final PackageDataModelOracle oracle2 = mock( PackageDataModelOracle.class );
+
+        final String version1 = versions.getVersion( oracle1,
+                                                     new HashSet<>( Arrays.asList( "org.Applicant" ) ) );
+        final String version2 = versions.getVersion( oracle2,
+                                                     new HashSet<>( Arrays.asList( "org.Applicant" ) ) );
+
+        assertNotEquals( version1,
+                         version2 );
+    }
+
+}
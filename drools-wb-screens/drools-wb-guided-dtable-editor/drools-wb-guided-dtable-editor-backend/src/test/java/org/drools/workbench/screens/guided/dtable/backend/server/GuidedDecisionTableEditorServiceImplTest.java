@@ -16,20 +16,27 @@
 
 package org.drools.workbench.screens.guided.dtable.backend.server;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.enterprise.event.Event;
 
 import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
 import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.MetadataCol52;
+import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableCellChange;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.metadata.MetadataServerSideService;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.junit.Before;
@@ -39,6 +46,7 @@ import org.kie.workbench.common.services.backend.source.SourceService;
 import org.kie.workbench.common.services.backend.source.SourceServices;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
@@ -83,7 +91,7 @@ public class GuidedDecisionTableEditorServiceImplTest {
     private Event<ResourceOpenedEvent> resourceOpenedEvent = new EventSourceMock<>();
 
     @Mock
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Mock
     private CommentedOptionFactory commentedOptionFactory;
@@ -185,6 +193,7 @@ public class GuidedDecisionTableEditorServiceImplTest {
 
         assertNotNull( content.getModel() );
         assertNotNull( content.getDataModel() );
+        assertNotNull( content.getDataModelVersion() );
         assertNotNull( content.getWorkItemDefinitions() );
         assertEquals( overview,
                       content.getOverview() );
@@ -214,6 +223,160 @@ public class GuidedDecisionTableEditorServiceImplTest {
                       model.getPackageName() );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkSaveModel() {
+        final Path path = mock( Path.class );
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        final Metadata metadata = mock( Metadata.class );
+        when( path.toURI() ).thenReturn( "default://project/src/main/resources/mypackage/dtable.gdst" );
+
+        final String version = service.saveModel( path,
+                                                  model,
+                                                  metadata,
+                                                  "comment" );
+
+        final ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass( String.class );
+        verify( ioService,
+                times( 1 ) ).write( any( org.uberfire.java.nio.file.Path.class ),
+                                    contentCaptor.capture(),
+                                    any( Map.class ),
+                                    any( CommentedOption.class ) );
+
+        assertEquals( "mypackage",
+                      model.getPackageName() );
+        assertNotNull( version );
+        assertEquals( GuidedDecisionTableEditorServiceImpl.getContentVersion( contentCaptor.getValue() ),
+                      version );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkSaveDelta() {
+        final Path path = mock( Path.class );
+        final Metadata metadata = mock( Metadata.class );
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( makeModel() );
+        when( path.toURI() ).thenReturn( "default://project/src/main/resources/mypackage/dtable.gdst" );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+
+        final String version = service.saveDelta( path,
+                                                  GuidedDecisionTableEditorServiceImpl.getContentVersion( content ),
+                                                  Collections.singletonList( new GuidedDecisionTableCellChange( 1,
+                                                                                                                2,
+                                                                                                                new DTCellValue52( "changed" ) ) ),
+                                                  metadata,
+                                                  "comment" );
+
+        final ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass( String.class );
+        verify( ioService,
+                times( 1 ) ).write( any( org.uberfire.java.nio.file.Path.class ),
+                                    contentCaptor.capture(),
+                                    any( Map.class ),
+                                    any( CommentedOption.class ) );
+        verify( ioService,
+                times( 1 ) ).endBatch();
+
+        final GuidedDecisionTable52 saved = GuidedDTXMLPersistence.getInstance().unmarshal( contentCaptor.getValue() );
+        assertEquals( "changed",
+                      saved.getData().get( 1 ).get( 2 ).getStringValue() );
+        assertEquals( "b",
+                      saved.getData().get( 0 ).get( 2 ).getStringValue() );
+        assertEquals( GuidedDecisionTableEditorServiceImpl.getContentVersion( contentCaptor.getValue() ),
+                      version );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkSaveDeltaWithChangedContent() {
+        final Path path = mock( Path.class );
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( makeModel() );
+        when( path.toURI() ).thenReturn( "default://project/src/main/resources/mypackage/dtable.gdst" );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+
+        final String version = service.saveDelta( path,
+                                                  GuidedDecisionTableEditorServiceImpl.getContentVersion( content + " " ),
+                                                  Collections.singletonList( new GuidedDecisionTableCellChange( 1,
+                                                                                                                2,
+                                                                                                                new DTCellValue52( "changed" ) ) ),
+                                                  mock( Metadata.class ),
+                                                  "comment" );
+
+        assertNull( version );
+        verify( ioService,
+                never() ).write( any( org.uberfire.java.nio.file.Path.class ),
+                                 any( String.class ),
+                                 any( Map.class ),
+                                 any( CommentedOption.class ) );
+        verify( ioService,
+                times( 1 ) ).endBatch();
+    }
+
+    @Test
+    public void checkSaveDeltaWithInvalidChange() {
+        final Path path = mock( Path.class );
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( makeModel() );
+        when( path.toURI() ).thenReturn( "default://project/src/main/resources/mypackage/dtable.gdst" );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+
+        assertNull( service.saveDelta( path,
+                                       GuidedDecisionTableEditorServiceImpl.getContentVersion( content ),
+                                       Collections.singletonList( new GuidedDecisionTableCellChange( 5,
+                                                                                                     2,
+                                                                                                     new DTCellValue52( "changed" ) ) ),
+                                       mock( Metadata.class ),
+                                       "comment" ) );
+    }
+
+    @Test
+    public void checkLoadRows() {
+        final Path path = mock( Path.class );
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( makeModel() );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+
+        final List<List<DTCellValue52>> rows = service.loadRows( path,
+                                                                 GuidedDecisionTableEditorServiceImpl.getContentVersion( content ),
+                                                                 1,
+                                                                 10 );
+
+        assertEquals( 1,
+                      rows.size() );
+        assertEquals( "c",
+                      rows.get( 0 ).get( 2 ).getStringValue() );
+    }
+
+    @Test
+    public void checkLoadRowsWithChangedContent() {
+        final Path path = mock( Path.class );
+        final String content = GuidedDTXMLPersistence.getInstance().marshal( makeModel() );
+        when( path.toURI() ).thenReturn( "default://project/src/main/resources/mypackage/dtable.gdst" );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+
+        final List<List<DTCellValue52>> rows = service.loadRows( path,
+                                                                 GuidedDecisionTableEditorServiceImpl.getContentVersion( content + " " ),
+                                                                 1,
+                                                                 10 );
+
+        assertNull( rows );
+    }
+
+    private GuidedDecisionTable52 makeModel() {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        final MetadataCol52 column = new MetadataCol52();
+        column.setMetadata( "meta" );
+        model.getMetadataCols().add( column );
+        model.getData().add( new ArrayList<DTCellValue52>() {{
+            add( new DTCellValue52( 1 ) );
+            add( new DTCellValue52( "desc" ) );
+            add( new DTCellValue52( "b" ) );
+        }} );
+        model.getData().add( new ArrayList<DTCellValue52>() {{
+            add( new DTCellValue52( 2 ) );
+            add( new DTCellValue52( "desc" ) );
+            add( new DTCellValue52( "c" ) );
+        }} );
+        return model;
+    }
+
     @Test
     public void checkDelete() {
         final Path path = mock( Path.class );
@@ -17,6 +17,8 @@
 package org.drools.workbench.screens.guided.dtable.backend.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.enterprise.event.Event;
 
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphContent;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphModel;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
@@ -31,9 +34,9 @@ import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLin
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableGraphResourceTypeDefinition;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.metadata.MetadataServerSideService;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.junit.Before;
@@ -51,6 +54,7 @@ import org.uberfire.ext.editor.commons.service.DeleteService;
 import org.uberfire.ext.editor.commons.service.RenameService;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.base.options.CommentedOption;
+import org.uberfire.java.nio.base.version.VersionRecord;
 import org.uberfire.java.nio.file.Paths;
 import org.uberfire.mocks.EventSourceMock;
 import org.uberfire.rpc.SessionInfo;
@@ -96,7 +100,7 @@ public class GuidedDecisionTableGraphEditorServiceImplTest {
     private Event<ResourceOpenedEvent> resourceOpenedEvent = new EventSourceMock<>();
 
     @Mock
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Mock
     private CommentedOptionFactory commentedOptionFactory;
@@ -218,6 +222,130 @@ public class GuidedDecisionTableGraphEditorServiceImplTest {
                                     any( CommentedOption.class ) );
     }
 
+    @Test
+    public void checkSaveAll() {
+        final Path graphPath = PathFactory.newPath( "dtable." + dtGraphResourceType.getSuffix(),
+                                                    "default://project/src/main/resources/mypackage/dtable." + dtGraphResourceType.getSuffix() );
+        final Path dtPath1 = PathFactory.newPath( "dt1." + dtResourceType.getSuffix(),
+                                                  "default://project/src/main/resources/mypackage/dt1." + dtResourceType.getSuffix() );
+        final Path dtPath2 = PathFactory.newPath( "dt2." + dtResourceType.getSuffix(),
+                                                  "default://project/src/main/resources/mypackage/dt2." + dtResourceType.getSuffix() );
+        final Path dtPath2Version = PathFactory.newPath( "dt2." + dtResourceType.getSuffix(),
+                                                         "default://previous@project/src/main/resources/mypackage/dt2." + dtResourceType.getSuffix() );
+        final GuidedDecisionTableEditorGraphModel model = new GuidedDecisionTableEditorGraphModel();
+        final GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry entry1 = new GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry( dtPath1,
+                                                                                                                                                              dtPath1 );
+        final GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry entry2 = new GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry( dtPath2,
+                                                                                                                                                              dtPath2Version );
+        model.getEntries().add( entry1 );
+        model.getEntries().add( entry2 );
+        final GuidedDecisionTable52 dtModel1 = new GuidedDecisionTable52();
+        final GuidedDecisionTable52 dtModel2 = new GuidedDecisionTable52();
+        final Metadata metadata = mock( Metadata.class );
+        final Map<Path, GuidedDecisionTable52> dtables = new HashMap<>();
+        dtables.put( dtPath1,
+                     dtModel1 );
+        dtables.put( dtPath2,
+                     dtModel2 );
+        final Map<Path, String> dtablesBaseVersions = new HashMap<>();
+        dtablesBaseVersions.put( dtPath1,
+                                 "v1" );
+        dtablesBaseVersions.put( dtPath2,
+                                 "v2" );
+
+        //Decision Table 1 has changed, Decision Table 2 has not
+        when( dtableService.saveModel( eq( dtPath1 ),
+                                       eq( dtModel1 ),
+                                       any( Metadata.class ),
+                                       eq( "comment" ) ) ).thenReturn( "v1-changed" );
+        when( dtableService.saveModel( eq( dtPath2 ),
+                                       eq( dtModel2 ),
+                                       any( Metadata.class ),
+                                       eq( "comment" ) ) ).thenReturn( "v2" );
+        final VersionRecord versionRecord = mock( VersionRecord.class );
+        when( versionRecord.uri() ).thenReturn( "default://commit@project/src/main/resources/mypackage/dt1." + dtResourceType.getSuffix() );
+        when( versionRecordService.load( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( Collections.singletonList( versionRecord ) );
+
+        final Map<Path, String> contentVersions = service.saveAll( graphPath,
+                                                                   model,
+                                                                   metadata,
+                                                                   dtables,
+                                                                   new HashMap<>(),
+                                                                   dtablesBaseVersions,
+                                                                   "comment" );
+
+        assertEquals( "v1-changed",
+                      contentVersions.get( dtPath1 ) );
+        assertEquals( "v2",
+                      contentVersions.get( dtPath2 ) );
+        verify( ioService,
+                times( 1 ) ).endBatch();
+        verify( ioService,
+                never() ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+        verify( ioService,
+                times( 1 ) ).write( any( org.uberfire.java.nio.file.Path.class ),
+                                    any( String.class ),
+                                    any( Map.class ),
+                                    any( CommentedOption.class ) );
+
+        //History is only read for the rewritten Decision Table; the other entry keeps its version
+        verify( versionRecordService,
+                times( 1 ) ).load( any( org.uberfire.java.nio.file.Path.class ) );
+        assertEquals( "default://commit@project/src/main/resources/mypackage/dt1." + dtResourceType.getSuffix(),
+                      entry1.getPathVersion().toURI() );
+        assertEquals( dtPath2Version,
+                      entry2.getPathVersion() );
+    }
+
+    @Test
+    public void checkSaveAllWithoutChangedDecisionTablesDoesNotReadHistory() {
+        final Path graphPath = PathFactory.newPath( "dtable." + dtGraphResourceType.getSuffix(),
+                                                    "default://project/src/main/resources/mypackage/dtable." + dtGraphResourceType.getSuffix() );
+        final Path dtPath1 = PathFactory.newPath( "dt1." + dtResourceType.getSuffix(),
+                                                  "default://project/src/main/resources/mypackage/dt1." + dtResourceType.getSuffix() );
+        final Path dtPath1Version = PathFactory.newPath( "dt1." + dtResourceType.getSuffix(),
+                                                         "default://previous@project/src/main/resources/mypackage/dt1." + dtResourceType.getSuffix() );
+        final GuidedDecisionTableEditorGraphModel model = new GuidedDecisionTableEditorGraphModel();
+        final GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry entry1 = new GuidedDecisionTableEditorGraphModel.GuidedDecisionTableGraphEntry( dtPath1,
+                                                                                                                                                              dtPath1Version );
+        model.getEntries().add( entry1 );
+        final GuidedDecisionTable52 dtModel1 = new GuidedDecisionTable52();
+
+        when( dtableService.saveModel( eq( dtPath1 ),
+                                       eq( dtModel1 ),
+                                       any( Metadata.class ),
+                                       eq( "comment" ) ) ).thenReturn( "v1" );
+
+        service.saveAll( graphPath,
+                         model,
+                         mock( Metadata.class ),
+                         Collections.singletonMap( dtPath1,
+                                                   dtModel1 ),
+                         new HashMap<>(),
+                         Collections.singletonMap( dtPath1,
+                                                   "v1" ),
+                         "comment" );
+
+        verify( versionRecordService,
+                never() ).load( any( org.uberfire.java.nio.file.Path.class ) );
+        assertEquals( dtPath1Version,
+                      entry1.getPathVersion() );
+    }
+
+    @Test
+    public void checkGetVersionUri() {
+        assertEquals( "default://commit@project/dir/b.txt",
+                      GuidedDecisionTableGraphEditorServiceImpl.getVersionUri( "default://project/dir/a.txt",
+                                                                                "default://commit@project/dir/a.txt",
+                                                                                "default://project/dir/b.txt" ) );
+        assertNull( GuidedDecisionTableGraphEditorServiceImpl.getVersionUri( "default://project/dir/a.txt",
+                                                                              "default://commit@project/dir/a.txt",
+                                                                              "default://other/dir/b.txt" ) );
+        assertNull( GuidedDecisionTableGraphEditorServiceImpl.getVersionUri( "default://project/dir/a.txt",
+                                                                              "default://commit@project/a.txt?version",
+                                                                              "default://project/dir/b.txt" ) );
+    }
+
     @Test
     public void checkDelete() {
         final Path path = mock( Path.class );
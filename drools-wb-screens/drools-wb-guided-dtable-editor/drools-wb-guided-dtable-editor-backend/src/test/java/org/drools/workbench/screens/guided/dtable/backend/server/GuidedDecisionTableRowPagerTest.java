@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GuidedDecisionTableRowPagerTest {
+
+    @Test
+    public void disabledByDefault() {
+        final GuidedDecisionTableRowPager pager = new GuidedDecisionTableRowPager( 0 );
+        final GuidedDecisionTable52 model = makeModel( 10 );
+
+        assertFalse( pager.isEnabled() );
+        assertEquals( 10,
+                      pager.page( "v1",
+                                  model ) );
+        assertEquals( 10,
+                      model.getData().size() );
+        assertNull( pager.getCachedRows( "v1" ) );
+    }
+
+    @Test
+    public void smallModelIsNotPaged() {
+        final GuidedDecisionTableRowPager pager = new GuidedDecisionTableRowPager( 10 );
+        final GuidedDecisionTable52 model = makeModel( 10 );
+
+        assertEquals( 10,
+                      pager.page( "v1",
+                                  model ) );
+        assertEquals( 10,
+                      model.getData().size() );
+        assertNull( pager.getCachedRows( "v1" ) );
+    }
+
+    @Test
+    public void largeModelIsPaged() {
+        final GuidedDecisionTableRowPager pager = new GuidedDecisionTableRowPager( 4 );
+        final GuidedDecisionTable52 model = makeModel( 10 );
+
+        assertEquals( 10,
+                      pager.page( "v1",
+                                  model ) );
+        assertEquals( 4,
+                      model.getData().size() );
+
+        final List<List<DTCellValue52>> rows = pager.getCachedRows( "v1" );
+        assertEquals( 10,
+                      rows.size() );
+
+        final List<List<DTCellValue52>> page2 = pager.getPage( "v1",
+                                                               rows,
+                                                               4,
+                                                               4 );
+        assertEquals( 4,
+                      page2.size() );
+        assertEquals( 5,
+                      page2.get( 0 ).get( 0 ).getNumericValue().intValue() );
+        assertNotNull( pager.getCachedRows( "v1" ) );
+
+        final List<List<DTCellValue52>> page3 = pager.getPage( "v1",
+                                                               rows,
+                                                               8,
+                                                               4 );
+        assertEquals( 2,
+                      page3.size() );
+        assertEquals( 10,
+                      page3.get( 1 ).get( 0 ).getNumericValue().intValue() );
+
+        //Last page has been read
+        assertNull( pager.getCachedRows( "v1" ) );
+    }
+
+    @Test
+    public void pageBeyondLastRowIsEmpty() {
+        final GuidedDecisionTableRowPager pager = new GuidedDecisionTableRowPager( 4 );
+        final List<List<DTCellValue52>> rows = makeModel( 10 ).getData();
+
+        assertTrue( pager.getPage( "v1",
+                                   rows,
+                                   10,
+                                   4 ).isEmpty() );
+        assertTrue( pager.getPage( "v1",
+                                   rows,
+                                   -1,
+                                   4 ).isEmpty() );
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        final GuidedDecisionTableRowPager pager = new GuidedDecisionTableRowPager( 4 );
+        for ( int i = 0; i <= GuidedDecisionTableRowPager.MAX_CACHED_TABLES; i++ ) {
+            pager.page( "v" + i,
+                        makeModel( 10 ) );
+        }
+
+        assertNull( pager.getCachedRows( "v0" ) );
+        assertNotNull( pager.getCachedRows( "v" + GuidedDecisionTableRowPager.MAX_CACHED_TABLES ) );
+    }
+
+    private GuidedDecisionTable52 makeModel( final int rowCount ) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        for ( int i = 1; i <= rowCount; i++ ) {
+            final List<DTCellValue52> row = new ArrayList<DTCellValue52>();
+            row.add( new DTCellValue52( i ) );
+            row.add( new DTCellValue52( "desc" ) );
+            model.getData().add( row );
+        }
+        return model;
+    }
+
+}
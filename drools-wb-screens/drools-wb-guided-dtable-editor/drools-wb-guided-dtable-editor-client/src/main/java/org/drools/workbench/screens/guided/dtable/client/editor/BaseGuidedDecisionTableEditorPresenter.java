@@ -16,39 +16,52 @@
 
 package org.drools.workbench.screens.guided.dtable.client.editor;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.enterprise.event.Event;
 
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.ProvidesResize;
 import com.google.gwt.user.client.ui.RequiresResize;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.EditMenuBuilder;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.InsertMenuBuilder;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.RadarMenuBuilder;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.ViewMenuBuilder;
+import org.drools.workbench.screens.guided.dtable.client.resources.i18n.GuidedDecisionTableConstants;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableModellerView;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.DecisionTableSelectedEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
+import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableCellChange;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.guvnor.common.services.project.context.ProjectContext;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.jboss.errai.ioc.client.container.SyncBeanManager;
+import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
 import org.kie.workbench.common.widgets.client.menu.FileMenuBuilder;
 import org.kie.workbench.common.widgets.client.popups.validation.ValidationPopup;
 import org.kie.workbench.common.widgets.client.resources.i18n.CommonConstants;
 import org.kie.workbench.common.widgets.configresource.client.widget.bound.ImportsWidgetPresenter;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.kie.workbench.common.widgets.metadata.client.KieEditorView;
 import org.kie.workbench.common.widgets.metadata.client.KieMultipleDocumentEditor;
 import org.kie.workbench.common.widgets.metadata.client.KieMultipleDocumentEditorWrapperView;
 import org.kie.workbench.common.widgets.metadata.client.menu.RegisteredDocumentsMenuBuilder;
 import org.kie.workbench.common.widgets.metadata.client.widget.OverviewWidgetPresenter;
 import org.uberfire.backend.vfs.ObservablePath;
+import org.uberfire.backend.vfs.Path;
 import org.uberfire.client.mvp.PlaceManager;
 import org.uberfire.client.workbench.events.ChangeTitleWidgetEvent;
 import org.uberfire.client.workbench.type.ClientResourceType;
@@ -74,8 +87,15 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
 
     }
 
+    //Number of times a page of rows is requested before the Decision Table is reloaded
+    static final int MAX_LOAD_ROWS_ATTEMPTS = 3;
+
+    //Decision Tables reloaded because a page of rows kept failing. They are only reloaded once.
+    private final Set<GuidedDecisionTableView.Presenter> reloadedAfterLoadRowsFailure = new HashSet<GuidedDecisionTableView.Presenter>();
+
     protected View view;
     protected Caller<GuidedDecisionTableEditorService> service;
+    protected GuidedDecisionTableDataModelCache dataModelCache;
     protected Event<NotificationEvent> notification;
     protected Event<DecisionTableSelectedEvent> decisionTableSelectedEvent;
     protected ClientResourceType resourceType;
@@ -98,6 +118,7 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
 
     public BaseGuidedDecisionTableEditorPresenter( final View view,
                                                    final Caller<GuidedDecisionTableEditorService> service,
+                                                   final GuidedDecisionTableDataModelCache dataModelCache,
                                                    final Event<NotificationEvent> notification,
                                                    final Event<DecisionTableSelectedEvent> decisionTableSelectedEvent,
                                                    final ClientResourceType resourceType,
@@ -111,6 +132,7 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
         super( view );
         this.view = view;
         this.service = service;
+        this.dataModelCache = dataModelCache;
         this.notification = notification;
         this.decisionTableSelectedEvent = decisionTableSelectedEvent;
         this.resourceType = resourceType;
@@ -227,10 +249,9 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
     }
 
     protected boolean mayClose( final GuidedDecisionTableView.Presenter dtPresenter ) {
-        final Integer originalHashCode = dtPresenter.getOriginalHashCode();
-        final Integer currentHashCode = dtPresenter.getModel().hashCode();
-        return mayClose( originalHashCode,
-                         currentHashCode );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        return mayClose( changeJournal.getSavedVersion(),
+                         changeJournal.getVersion() );
     }
 
     @Override
@@ -270,14 +291,46 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
         final ObservablePath versionPath = dtPresenter.getCurrentPath();
 
         view.showLoading();
-        service.call( getRefreshContentSuccessCallback( dtPresenter ),
-                      getNoSuchFileExceptionErrorCallback() ).loadContent( versionPath );
+        loadContent( versionPath,
+                     getRefreshContentSuccessCallback( dtPresenter ),
+                     getNoSuchFileExceptionErrorCallback() );
+    }
+
+    //Load a Decision Table. The server omits the Data Model payload if it is identical to one already cached.
+    protected void loadContent( final Path path,
+                                final RemoteCallback<GuidedDecisionTableEditorContent> callback,
+                                final ErrorCallback<Message> errorCallback ) {
+        final Map<String, PackageDataModelOracleBaselinePayload> cachedDataModels = dataModelCache.getPayloads();
+        final RemoteCallback<GuidedDecisionTableEditorContent> cachingCallback = ( content ) -> {
+            final String dataModelVersion = content.getDataModelVersion();
+            if ( dataModelVersion != null ) {
+                final PackageDataModelOracleBaselinePayload cachedDataModel = cachedDataModels.get( dataModelVersion );
+                if ( cachedDataModel != null ) {
+                    content.setDataModel( cachedDataModel );
+                } else {
+                    dataModelCache.put( dataModelVersion,
+                                        content.getDataModel() );
+                }
+            }
+            callback.callback( content );
+        };
+
+        if ( cachedDataModels.isEmpty() ) {
+            service.call( cachingCallback,
+                          errorCallback ).loadContent( path );
+        } else {
+            service.call( cachingCallback,
+                          errorCallback ).loadContent( path,
+                                                       new HashSet<String>( cachedDataModels.keySet() ) );
+        }
     }
 
     private RemoteCallback<GuidedDecisionTableEditorContent> getRefreshContentSuccessCallback( final GuidedDecisionTableView.Presenter dtPresenter ) {
         final ObservablePath path = dtPresenter.getLatestPath();
         final PlaceRequest place = dtPresenter.getPlaceRequest();
-        final boolean isReadOnly = dtPresenter.isReadOnly();
+        final GuidedDecisionTablePresenter.Access access = dtPresenter.getAccess();
+        //Rows that were still loading do not make the refreshed Decision Table read-only
+        final boolean isReadOnly = access.isReadOnly() || access.getLock() == GuidedDecisionTablePresenter.Access.LockedBy.OTHER_USER;
 
         return ( content ) -> {
             //Refresh Decision Table in modeller
@@ -287,13 +340,110 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
                                            content,
                                            isReadOnly );
             activateDocument( dtPresenter );
+            loadRemainingRows( dtPresenter,
+                               content );
 
             view.hideBusyIndicator();
         };
     }
 
+    //Large Decision Tables are loaded with only the first page of rows. Load the remaining rows a page at a time.
+    protected void loadRemainingRows( final GuidedDecisionTableView.Presenter dtPresenter,
+                                      final GuidedDecisionTableEditorContent content ) {
+        final GuidedDecisionTable52 model = content.getModel();
+        final int pageSize = model.getData().size();
+        if ( pageSize == 0 || content.getTotalRowCount() <= pageSize ) {
+            return;
+        }
+        loadRows( dtPresenter,
+                  model,
+                  content.getContentVersion(),
+                  content.getTotalRowCount(),
+                  pageSize,
+                  1 );
+    }
+
+    private void loadRows( final GuidedDecisionTableView.Presenter dtPresenter,
+                           final GuidedDecisionTable52 model,
+                           final String contentVersion,
+                           final int totalRowCount,
+                           final int pageSize,
+                           final int attempt ) {
+        final int fromRowIndex = model.getData().size();
+
+        service.call( ( List<List<DTCellValue52>> rows ) -> {
+                          //The Decision Table may have been closed or reloaded whilst the rows were loading
+                          if ( !isLoadingRowsOf( dtPresenter,
+                                                 model ) ) {
+                              return;
+                          }
+                          //The Decision Table has changed since the first page of rows was loaded
+                          if ( rows == null ) {
+                              refreshDocument( dtPresenter );
+                              return;
+                          }
+                          final boolean isLastPage = rows.isEmpty() || fromRowIndex + rows.size() >= totalRowCount;
+                          dtPresenter.appendRows( rows,
+                                                  isLastPage );
+                          if ( !isLastPage ) {
+                              loadRows( dtPresenter,
+                                        model,
+                                        contentVersion,
+                                        totalRowCount,
+                                        pageSize,
+                                        1 );
+                              return;
+                          }
+                          //All rows have been loaded; so the Decision Table can be edited and analysed
+                          reloadedAfterLoadRowsFailure.remove( dtPresenter );
+                          if ( dtPresenter.equals( getActiveDocument() ) ) {
+                              activateDocument( dtPresenter );
+                              dtPresenter.initialiseAnalysis();
+                          }
+                      },
+                      new HasBusyIndicatorDefaultErrorCallback( view ) {
+                          @Override
+                          public boolean error( final Message message,
+                                                final Throwable throwable ) {
+                              if ( !isLoadingRowsOf( dtPresenter,
+                                                     model ) ) {
+                                  return false;
+                              }
+                              //Retry the page. Should it keep failing reload the Decision Table once; which replaces
+                              //the partially loaded rows. Should that also fail leave the Decision Table read-only.
+                              if ( attempt < MAX_LOAD_ROWS_ATTEMPTS ) {
+                                  loadRows( dtPresenter,
+                                            model,
+                                            contentVersion,
+                                            totalRowCount,
+                                            pageSize,
+                                            attempt + 1 );
+                                  return false;
+                              }
+                              if ( reloadedAfterLoadRowsFailure.add( dtPresenter ) ) {
+                                  refreshDocument( dtPresenter );
+                                  return super.error( message,
+                                                      throwable );
+                              }
+                              view.hideBusyIndicator();
+                              notification.fire( new NotificationEvent( GuidedDecisionTableConstants.INSTANCE.LoadRowsFailedReadOnlyMessage(),
+                                                                        NotificationEvent.NotificationType.WARNING ) );
+                              return false;
+                          }
+                      } ).loadRows( dtPresenter.getCurrentPath(),
+                                    contentVersion,
+                                    fromRowIndex,
+                                    pageSize );
+    }
+
+    private boolean isLoadingRowsOf( final GuidedDecisionTableView.Presenter dtPresenter,
+                                     final GuidedDecisionTable52 model ) {
+        return modeller.isDecisionTableAvailable( dtPresenter ) && dtPresenter.getModel() == model;
+    }
+
     @Override
     public void removeDocument( final GuidedDecisionTableView.Presenter dtPresenter ) {
+        reloadedAfterLoadRowsFailure.remove( dtPresenter );
         modeller.removeDecisionTable( dtPresenter );
         deregisterDocument( dtPresenter );
         dtPresenter.onClose();
@@ -337,16 +487,73 @@ public abstract class BaseGuidedDecisionTableEditorPresenter extends KieMultiple
     @Override
     public void onSave( final GuidedDecisionTableView.Presenter dtPresenter,
                         final String commitMessage ) {
+        //The Model of a Decision Table whose rows are still loading is incomplete
+        if ( dtPresenter.getAccess().isLoadingRows() ) {
+            return;
+        }
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        if ( changeJournal.getBaseVersion() == null || changeJournal.isModelChanged() ) {
+            saveModel( dtPresenter,
+                       commitMessage );
+        } else {
+            saveCellChanges( dtPresenter,
+                             commitMessage );
+        }
+    }
+
+    //Save the whole Model. The content version written is returned so subsequent changes to cell values can be saved alone.
+    void saveModel( final GuidedDecisionTableView.Presenter dtPresenter,
+                    final String commitMessage ) {
         final ObservablePath path = dtPresenter.getCurrentPath();
         final GuidedDecisionTable52 model = dtPresenter.getModel();
         final Metadata metadata = dtPresenter.getOverview().getMetadata();
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        final RemoteCallback<Path> saveSuccessCallback = getSaveSuccessCallback( dtPresenter,
+                                                                                 changeJournal.getVersion() );
 
-        service.call( getSaveSuccessCallback( dtPresenter,
-                                              model.hashCode() ),
-                      new HasBusyIndicatorDefaultErrorCallback( view ) ).save( path,
-                                                                               model,
-                                                                               metadata,
-                                                                               commitMessage );
+        service.call( ( String contentVersion ) -> {
+                          changeJournal.setBaseVersion( contentVersion );
+                          saveSuccessCallback.callback( path );
+                      },
+                      new HasBusyIndicatorDefaultErrorCallback( view ) ).saveModel( path,
+                                                                                    model,
+                                                                                    metadata,
+                                                                                    commitMessage );
+    }
+
+    //Save only the values of changed cells. Falls back to saving the whole Model if the Decision Table has been changed elsewhere.
+    void saveCellChanges( final GuidedDecisionTableView.Presenter dtPresenter,
+                          final String commitMessage ) {
+        final ObservablePath path = dtPresenter.getCurrentPath();
+        final GuidedDecisionTable52 model = dtPresenter.getModel();
+        final Metadata metadata = dtPresenter.getOverview().getMetadata();
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        final RemoteCallback<Path> saveSuccessCallback = getSaveSuccessCallback( dtPresenter,
+                                                                                 changeJournal.getVersion() );
+
+        final List<GuidedDecisionTableCellChange> changes = new ArrayList<>();
+        for ( Coordinate cell : changeJournal.getChangedCells() ) {
+            final int rowIndex = cell.getRow();
+            final int columnIndex = cell.getCol();
+            changes.add( new GuidedDecisionTableCellChange( rowIndex,
+                                                            columnIndex,
+                                                            model.getData().get( rowIndex ).get( columnIndex ) ) );
+        }
+
+        service.call( ( String contentVersion ) -> {
+                          if ( contentVersion == null ) {
+                              saveModel( dtPresenter,
+                                         commitMessage );
+                              return;
+                          }
+                          changeJournal.setBaseVersion( contentVersion );
+                          saveSuccessCallback.callback( path );
+                      },
+                      new HasBusyIndicatorDefaultErrorCallback( view ) ).saveDelta( path,
+                                                                                    changeJournal.getBaseVersion(),
+                                                                                    changes,
+                                                                                    metadata,
+                                                                                    commitMessage );
     }
 
     @Override
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.editor;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
+
+/**
+ * Cache of the Data Model payloads received with Decision Tables, keyed by payload version. Decision Tables in the
+ * same package that use the same classes, and Decision Tables that are opened again, have identical payloads. The
+ * versions of cached payloads are sent when loading a Decision Table and the server omits an identical payload.
+ */
+@ApplicationScoped
+public class GuidedDecisionTableDataModelCache {
+
+    static final int MAX_ENTRIES = 8;
+
+    private final Map<String, PackageDataModelOracleBaselinePayload> payloads = new LinkedHashMap<String, PackageDataModelOracleBaselinePayload>( MAX_ENTRIES,
+                                                                                                                                             0.75f,
+                                                                                                                                             true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, PackageDataModelOracleBaselinePayload> eldest ) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * @return A copy of the cached payloads; so they remain available whilst a Decision Table is loading.
+     */
+    public Map<String, PackageDataModelOracleBaselinePayload> getPayloads() {
+        return new HashMap<String, PackageDataModelOracleBaselinePayload>( payloads );
+    }
+
+    public void put( final String version,
+                     final PackageDataModelOracleBaselinePayload payload ) {
+        payloads.put( version,
+                      payload );
+    }
+
+}
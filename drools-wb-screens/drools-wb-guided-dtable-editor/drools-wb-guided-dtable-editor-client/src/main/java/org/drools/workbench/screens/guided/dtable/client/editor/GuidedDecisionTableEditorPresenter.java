@@ -66,6 +66,7 @@ public class GuidedDecisionTableEditorPresenter extends BaseGuidedDecisionTableE
     @Inject
     public GuidedDecisionTableEditorPresenter( final View view,
                                                final Caller<GuidedDecisionTableEditorService> service,
+                                               final GuidedDecisionTableDataModelCache dataModelCache,
                                                final Event<NotificationEvent> notification,
                                                final Event<DecisionTableSelectedEvent> decisionTableSelectedEvent,
                                                final GuidedDTableResourceType resourceType,
@@ -78,6 +79,7 @@ public class GuidedDecisionTableEditorPresenter extends BaseGuidedDecisionTableE
                                                final PlaceManager placeManager ) {
         super( view,
                service,
+               dataModelCache,
                notification,
                decisionTableSelectedEvent,
                resourceType,
@@ -119,9 +121,10 @@ public class GuidedDecisionTableEditorPresenter extends BaseGuidedDecisionTableE
     public void loadDocument( final ObservablePath path,
                               final PlaceRequest placeRequest ) {
         view.showLoading();
-        service.call( getLoadContentSuccessCallback( path,
-                                                     placeRequest ),
-                      getNoSuchFileExceptionErrorCallback() ).loadContent( path );
+        loadContent( path,
+                     getLoadContentSuccessCallback( path,
+                                                    placeRequest ),
+                     getNoSuchFileExceptionErrorCallback() );
     }
 
     protected RemoteCallback<GuidedDecisionTableEditorContent> getLoadContentSuccessCallback( final ObservablePath path,
@@ -143,6 +146,9 @@ public class GuidedDecisionTableEditorPresenter extends BaseGuidedDecisionTableE
 
             decisionTableSelectedEvent.fire( new DecisionTableSelectedEvent( dtPresenter ) );
 
+            loadRemainingRows( dtPresenter,
+                               content );
+
             view.hideBusyIndicator();
         };
     }
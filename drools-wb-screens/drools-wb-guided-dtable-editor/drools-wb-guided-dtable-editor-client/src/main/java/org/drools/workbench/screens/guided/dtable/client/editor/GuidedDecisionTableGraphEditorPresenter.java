@@ -18,8 +18,10 @@ package org.drools.workbench.screens.guided.dtable.client.editor;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
@@ -100,7 +102,6 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
     private Integer originalGraphHash;
     private GuidedDecisionTableEditorGraphContent content;
     private LoadGraphLatch loadGraphLatch = null;
-    private SaveGraphLatch saveGraphLatch = null;
 
     private ProjectContext context;
     private NewGuidedDecisionTableWizardHelper helper;
@@ -144,11 +145,12 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
                 placeRequest.addParameter( "readOnly", "" );
             }
 
-            service.call( getLoadDocumentGraphEntryContentSuccessCallback( pathHead,
-                                                                           placeRequest,
-                                                                           x,
-                                                                           y ),
-                          getLoadErrorCallback() ).loadContent( pathVersion );
+            loadContent( pathVersion,
+                         getLoadDocumentGraphEntryContentSuccessCallback( pathHead,
+                                                                          placeRequest,
+                                                                          x,
+                                                                          y ),
+                         getLoadErrorCallback() );
         }
 
         private RemoteCallback<GuidedDecisionTableEditorContent> getLoadDocumentGraphEntryContentSuccessCallback( final ObservablePath path,
@@ -172,15 +174,19 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
 
                 fireDecisionTableSelectedEvent( dtPresenter );
 
+                loadRemainingRows( dtPresenter,
+                                   content );
+
                 hideLoadingIndicator();
             };
         }
 
         private void loadDocument( final ObservablePath path,
                                    final PlaceRequest placeRequest ) {
-            service.call( getLoadContentSuccessCallback( path,
-                                                         placeRequest ),
-                          getLoadErrorCallback() ).loadContent( path );
+            loadContent( path,
+                         getLoadContentSuccessCallback( path,
+                                                        placeRequest ),
+                         getLoadErrorCallback() );
         }
 
         private RemoteCallback<GuidedDecisionTableEditorContent> getLoadContentSuccessCallback( final ObservablePath path,
@@ -202,6 +208,9 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
 
                 fireDecisionTableSelectedEvent( dtPresenter );
 
+                loadRemainingRows( dtPresenter,
+                                   content );
+
                 hideLoadingIndicator();
             };
         }
@@ -222,79 +231,10 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
 
     }
 
-    private class SaveGraphLatch {
-
-        private int dtGraphElementCount = 0;
-        private final String commitMessage;
-
-        private SaveGraphLatch( final int dtGraphElementCount,
-                                final String commitMessage ) {
-            this.dtGraphElementCount = dtGraphElementCount;
-            this.commitMessage = commitMessage;
-        }
-
-        private void saveDocumentGraph() {
-            dtGraphElementCount--;
-            if ( dtGraphElementCount > 0 ) {
-                return;
-            }
-
-            final GuidedDecisionTableEditorGraphModel model = buildModelFromEditor();
-            graphService.call( new RemoteCallback<Path>() {
-                                   @Override
-                                   public void callback( final Path path ) {
-                                       editorView.hideBusyIndicator();
-                                       versionRecordManager.reloadVersions( path );
-                                       originalGraphHash = model.hashCode();
-                                       concurrentUpdateSessionInfo = null;
-                                       notificationEvent.fire( new NotificationEvent( CommonConstants.INSTANCE.ItemSavedSuccessfully() ) );
-                                   }
-                               },
-                               new HasBusyIndicatorDefaultErrorCallback( view ) ).save( editorPath,
-                                                                                        model,
-                                                                                        content.getOverview().getMetadata(),
-                                                                                        commitMessage );
-        }
-
-        private void saveDocumentGraphEntry( final GuidedDecisionTableView.Presenter dtPresenter ) {
-            final ObservablePath path = dtPresenter.getCurrentPath();
-            final GuidedDecisionTable52 model = dtPresenter.getModel();
-            final Metadata metadata = dtPresenter.getOverview().getMetadata();
-
-            service.call( getSaveSuccessCallback( dtPresenter,
-                                                  model.hashCode() ),
-                          getSaveErrorCallback() ).save( path,
-                                                         model,
-                                                         metadata,
-                                                         commitMessage );
-        }
-
-        private RemoteCallback<Path> getSaveSuccessCallback( final GuidedDecisionTableView.Presenter document,
-                                                             final int currentHashCode ) {
-            return ( path ) -> {
-                document.setConcurrentUpdateSessionInfo( null );
-                document.setOriginalHashCode( currentHashCode );
-                saveDocumentGraph();
-            };
-        }
-
-        private DefaultErrorCallback getSaveErrorCallback() {
-            return new HasBusyIndicatorDefaultErrorCallback( view ) {
-                @Override
-                public boolean error( final Message message,
-                                      final Throwable throwable ) {
-                    saveDocumentGraph();
-                    return super.error( message,
-                                        throwable );
-                }
-            };
-        }
-
-    }
-
     @Inject
     public GuidedDecisionTableGraphEditorPresenter( final View view,
                                                     final Caller<GuidedDecisionTableEditorService> service,
+                                                    final GuidedDecisionTableDataModelCache dataModelCache,
                                                     final Caller<GuidedDecisionTableGraphEditorService> graphService,
                                                     final Event<NotificationEvent> notification,
                                                     final Event<SaveInProgressEvent> saveInProgressEvent,
@@ -312,6 +252,7 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
                                                     final LockManager lockManager ) {
         super( view,
                service,
+               dataModelCache,
                notification,
                decisionTableSelectedEvent,
                dtGraphResourceType,
@@ -592,15 +533,69 @@ public class GuidedDecisionTableGraphEditorPresenter extends BaseGuidedDecisionT
         savePopUpPresenter.show( editorPath,
                                  ( commitMessage ) -> {
                                      editorView.showSaving();
-                                     saveGraphLatch = new SaveGraphLatch( allDecisionTables.size(),
-                                                                          commitMessage );
+                                     saveDocumentGraph( allDecisionTables,
+                                                        commitMessage );
                                      allDecisionTables.stream().forEach( ( dtPresenter ) -> {
-                                         saveGraphLatch.saveDocumentGraphEntry( dtPresenter );
                                          saveInProgressEvent.fire( new SaveInProgressEvent( dtPresenter.getLatestPath() ) );
                                      } );
                                  } );
     }
 
+    //Save the graph and all of its Decision Tables in a single call
+    private void saveDocumentGraph( final Set<GuidedDecisionTableView.Presenter> allDecisionTables,
+                                    final String commitMessage ) {
+        final Map<Path, GuidedDecisionTable52> dtModels = new HashMap<>();
+        final Map<Path, Metadata> dtMetadata = new HashMap<>();
+        final Map<Path, String> dtBaseVersions = new HashMap<>();
+        final Map<GuidedDecisionTableView.Presenter, Integer> dtVersions = new HashMap<>();
+        final Map<String, GuidedDecisionTableView.Presenter> dtPresenters = new HashMap<>();
+        //Decision Tables whose rows are still loading cannot have been changed and must not be saved incomplete
+        allDecisionTables.stream().filter( ( dtPresenter ) -> !dtPresenter.getAccess().isLoadingRows() ).forEach( ( dtPresenter ) -> {
+            final ObservablePath path = dtPresenter.getCurrentPath();
+            final GuidedDecisionTable52 model = dtPresenter.getModel();
+            dtModels.put( path,
+                          model );
+            dtMetadata.put( path,
+                            dtPresenter.getOverview().getMetadata() );
+            dtBaseVersions.put( path,
+                                dtPresenter.getChangeJournal().getBaseVersion() );
+            dtVersions.put( dtPresenter,
+                            dtPresenter.getChangeJournal().getVersion() );
+            dtPresenters.put( path.toURI(),
+                              dtPresenter );
+        } );
+
+        final GuidedDecisionTableEditorGraphModel model = buildModelFromEditor();
+        graphService.call( new RemoteCallback<Map<Path, String>>() {
+                               @Override
+                               public void callback( final Map<Path, String> contentVersions ) {
+                                   dtVersions.entrySet().stream().forEach( ( e ) -> {
+                                       e.getKey().setConcurrentUpdateSessionInfo( null );
+                                       e.getKey().setOriginalHashCode( e.getValue() );
+                                   } );
+                                   //Subsequent changes to cell values of each Decision Table can be saved alone
+                                   contentVersions.entrySet().stream().forEach( ( e ) -> {
+                                       final GuidedDecisionTableView.Presenter dtPresenter = dtPresenters.get( e.getKey().toURI() );
+                                       if ( dtPresenter != null ) {
+                                           dtPresenter.getChangeJournal().setBaseVersion( e.getValue() );
+                                       }
+                                   } );
+                                   editorView.hideBusyIndicator();
+                                   versionRecordManager.reloadVersions( editorPath );
+                                   originalGraphHash = model.hashCode();
+                                   concurrentUpdateSessionInfo = null;
+                                   notificationEvent.fire( new NotificationEvent( CommonConstants.INSTANCE.ItemSavedSuccessfully() ) );
+                               }
+                           },
+                           new HasBusyIndicatorDefaultErrorCallback( view ) ).saveAll( editorPath,
+                                                                                       model,
+                                                                                       content.getOverview().getMetadata(),
+                                                                                       dtModels,
+                                                                                       dtMetadata,
+                                                                                       dtBaseVersions,
+                                                                                       commitMessage );
+    }
+
     @Override
     protected void initialiseVersionManager( final GuidedDecisionTableView.Presenter dtPresenter ) {
         //Do nothing. We maintain a single VersionRecordManager for the graph itself.
@@ -530,4 +530,6 @@ public interface GuidedDecisionTableConstants
 
     String DataCopiedToClipboardMessage();
 
+    String LoadRowsFailedReadOnlyMessage();
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import com.google.gwt.safehtml.shared.SafeHtml;
+import org.drools.workbench.services.verifier.api.client.reporting.Issue;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+
+/**
+ * Session wide cache of completed analysis results, keyed by the persisted version of the Decision Table.
+ * Opening a Decision Table whose content has not changed since it was last analysed re-publishes
+ * the cached Issues instead of running every check again. Cached Issues are detached snapshots;
+ * they do not reference the RuleInspectors of the analyzer that created them.
+ */
+@ApplicationScoped
+public class AnalysisResultCache {
+
+    /**
+     * Provides the key of the Decision Table being analysed.
+     */
+    public interface KeyProvider {
+
+        /**
+         * @return Key of the Decision Table content being analysed; or null if it is not a persisted version, for
+         * example when there are unsaved changes, in which case results are not cached.
+         */
+        String getKey();
+
+    }
+
+    static final int MAX_ENTRIES = 20;
+
+    private final Map<String, Set<Issue>> results = new LinkedHashMap<String, Set<Issue>>( 16,
+                                                                                           0.75f,
+                                                                                           true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, Set<Issue>> eldest ) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public Set<Issue> get( final String key ) {
+        if ( key == null ) {
+            return null;
+        }
+        return results.get( key );
+    }
+
+    public void put( final String key,
+                     final Set<Issue> issues ) {
+        if ( key == null ) {
+            return;
+        }
+        final Set<Issue> snapshots = new HashSet<>();
+        for ( final Issue issue : issues ) {
+            snapshots.add( snapshot( issue ) );
+        }
+        results.put( key,
+                     Collections.unmodifiableSet( snapshots ) );
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Make a key for a persisted version of a Decision Table. The date format is the only configurable setting of the
+     * analyzer, and it is used in the explanation of Issues.
+     * @param pathUri URI of the Decision Table.
+     * @param contentVersion Version of the persisted content; or null if it is not known.
+     * @param dataModelVersion Version of the Data Model with which the Decision Table was loaded.
+     * @return The key; or null if the content version is not known.
+     */
+    public static String makeKey( final String pathUri,
+                                  final String contentVersion,
+                                  final String dataModelVersion ) {
+        if ( contentVersion == null ) {
+            return null;
+        }
+        return pathUri + ":" + contentVersion + ":" + dataModelVersion + ":" + ApplicationPreferences.getDroolsDateFormat();
+    }
+
+    private Issue snapshot( final Issue issue ) {
+        final SafeHtml explanation = issue.getExplanationHTML();
+        final Set<Integer> rowNumbers = new HashSet<>( issue.getRowNumbers() );
+        return new Issue( issue.getSeverity(),
+                          issue.getTitle(),
+                          () -> explanation ) {
+            @Override
+            public Set<Integer> getRowNumbers() {
+                return rowNumbers;
+            }
+        };
+    }
+
+}
@@ -16,8 +16,10 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.gwt.user.client.Command;
@@ -33,6 +35,7 @@ import org.drools.workbench.services.verifier.api.client.Status;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.RuleInspector;
 import org.drools.workbench.services.verifier.api.client.checks.base.Check;
 import org.drools.workbench.services.verifier.api.client.checks.base.CheckRunner;
+import org.drools.workbench.services.verifier.api.client.index.Rule;
 import org.drools.workbench.services.verifier.api.client.reporting.Issue;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.uberfire.commons.validation.PortablePreconditions;
@@ -45,28 +48,64 @@ public class DecisionTableAnalyzer {
     private final AnalysisReporter      reporter;
     private final DtableRuleInspectorCache cache;
     private final GuidedDecisionTable52 model;
+    private final AnalysisResultCache resultCache;
+    private final AnalysisResultCache.KeyProvider resultKeyProvider;
     private final EventManager                 eventManager = new EventManager();
     private final ParameterizedCommand<Status> onStatus     = getOnStatusCommand();
     private final Command                      onCompletion = getOnCompletionCommand();
 
+    //True when the Issues were taken from the AnalysisResultCache and the checks have not been run
+    private boolean checksPending = false;
+
+    //Incremented whenever the model changes
+    private int generation = 0;
+    //Generation of the model reflected by the Issues; or -1 if no analysis has completed
+    private int analysedGeneration = -1;
+    //Generation of the model being analysed by the active analysis
+    private int analysingGeneration = -1;
+    //Identifies the active analysis. Analyses that have been cancelled or superseded are ignored on completion
+    private int analysis = 0;
+    private boolean analysing = false;
+    //True when an analysis was cancelled before all of its checks had run
+    private boolean analysisCancelled = false;
+
+    //Checks queued since the last completed analysis; whose Issues need to be refreshed on completion
+    private final Set<Check> pendingChecks = new HashSet<>();
+    //True when the Issues of every check need to be refreshed on completion, e.g. after rows or columns are removed
+    private boolean refreshAllIssues = false;
+    //Issues maintained incrementally as checks complete, keyed by the check that raised them
+    private final Map<Check, Issue> issues = new HashMap<>();
+
     public DecisionTableAnalyzer( final AnalysisReporter reporter,
                                   final GuidedDecisionTable52 model,
                                   final DtableRuleInspectorCache cache,
                                   final DTableUpdateManager updateManager,
-                                  final CheckRunner checkRunner ) {
+                                  final CheckRunner checkRunner,
+                                  final AnalysisResultCache resultCache,
+                                  final AnalysisResultCache.KeyProvider resultKeyProvider ) {
         this.reporter = PortablePreconditions.checkNotNull( "reporter", reporter );
         this.model = PortablePreconditions.checkNotNull( "model", model );
         this.cache = PortablePreconditions.checkNotNull( "cache", cache );
         this.updateManager = PortablePreconditions.checkNotNull( "updateManager", updateManager );
         this.checkRunner = PortablePreconditions.checkNotNull( "checkRunner", checkRunner );
+        this.resultCache = PortablePreconditions.checkNotNull( "resultCache", resultCache );
+        this.resultKeyProvider = PortablePreconditions.checkNotNull( "resultKeyProvider", resultKeyProvider );
     }
 
     public void resetChecks() {
+        refreshAllIssues = true;
+        pendingChecks.clear();
         for ( final RuleInspector ruleInspector : cache.all() ) {
             checkRunner.addChecks( ruleInspector.getChecks() );
         }
     }
 
+    private void addChecks( final Set<Check> checks ) {
+        if ( !refreshAllIssues ) {
+            pendingChecks.addAll( checks );
+        }
+    }
+
     protected ParameterizedCommand<Status> getOnStatusCommand() {
         return new ParameterizedCommand<Status>() {
 
@@ -82,85 +121,177 @@ public class DecisionTableAnalyzer {
 
             @Override
             public void execute() {
+                refreshIssues();
+                analysedGeneration = analysingGeneration;
                 reporter.sendReport( getIssues() );
             }
         };
     }
 
     public void analyze() {
+        //Incremental updates only re-run the checks of changed rows; the others must have run at least once
+        if ( checksPending ) {
+            checksPending = false;
+            resetChecks();
+        }
+        //Starting a new analysis cancels the active one; whose remaining checks would otherwise be lost
+        if ( analysing || analysisCancelled ) {
+            requeueChecks();
+        }
+        analysisCancelled = false;
+        analysingGeneration = generation;
+        analysing = true;
+        final int thisAnalysis = ++analysis;
         this.checkRunner.run( onStatus,
-                              onCompletion );
+                              () -> {
+                                  if ( thisAnalysis == analysis ) {
+                                      analysing = false;
+                                      onCompletion.execute();
+                                  }
+                              },
+                              () -> {
+                                  if ( thisAnalysis == analysis ) {
+                                      analysing = false;
+                                      analysisCancelled = true;
+                                  }
+                              } );
+    }
+
+    //Queue the checks of all changes not yet analysed; a superset of those of any cancelled analysis
+    private void requeueChecks() {
+        if ( refreshAllIssues ) {
+            resetChecks();
+        } else {
+            checkRunner.addChecks( new HashSet<>( pendingChecks ) );
+        }
     }
 
     protected Set<Issue> getIssues() {
-        final Set<Issue> unorderedIssues = new HashSet<>();
+        return new HashSet<>( issues.values() );
+    }
 
-        for ( final RuleInspector ruleInspector : cache.allRuleInspectors() ) {
-            for ( final Check check : ruleInspector.getChecks() ) {
-                if ( check.hasIssues() ) {
-                    unorderedIssues.add( check.getIssue() );
-                }
+    private void refreshIssues() {
+        if ( refreshAllIssues ) {
+            issues.clear();
+            for ( final RuleInspector ruleInspector : cache.allRuleInspectors() ) {
+                refreshIssues( ruleInspector.getChecks() );
             }
+        } else {
+            refreshIssues( pendingChecks );
         }
+        refreshAllIssues = false;
+        pendingChecks.clear();
+    }
 
-        return unorderedIssues;
+    private void refreshIssues( final Set<Check> checks ) {
+        for ( final Check check : checks ) {
+            if ( check.hasIssues() ) {
+                issues.put( check,
+                            check.getIssue() );
+            } else {
+                issues.remove( check );
+            }
+        }
     }
 
     public void analyze( final List<Coordinate> updates ) {
         if ( updates.isEmpty() ) {
+            generation++;
             resetChecks();
             analyze();
         } else {
             if ( updateManager.update( updates ) ) {
+                generation++;
+                addChecks( getChecks( updates ) );
                 analyze();
             }
         }
     }
 
+    //The checks re-run by the DTableUpdateManager are those of the updated rows
+    private Set<Check> getChecks( final List<Coordinate> updates ) {
+        final Set<Check> checks = new HashSet<>();
+        final Set<Integer> rows = new HashSet<>();
+        for ( final Coordinate coordinate : updates ) {
+            if ( rows.add( coordinate.getRow() ) ) {
+                checks.addAll( cache.getRuleInspector( coordinate.getRow() ).getChecks() );
+            }
+        }
+        return checks;
+    }
+
     public void deleteColumns( final int firstColumnIndex,
                                final int numberOfColumns ) {
-        cache.deleteColumns( firstColumnIndex,
-                             numberOfColumns );
-        resetChecks();
+        generation++;
+        final Set<Rule> rules = cache.deleteColumns( firstColumnIndex,
+                                                     numberOfColumns );
+
+        //The removed checks are discarded, so the Issues of all remaining checks are refreshed
+        refreshAllIssues = true;
+        pendingChecks.clear();
+
+        //Only rows that had a value in a removed column need their RuleInspector, and hence checks, replacing
+        for ( final Rule rule : rules ) {
+            final RuleInspector ruleInspector = cache.removeRuleInspector( rule );
+            if ( ruleInspector != null ) {
+                checkRunner.remove( ruleInspector );
+            }
+        }
+        for ( final Rule rule : rules ) {
+            checkRunner.addChecks( cache.addRuleInspector( rule ).getChecks() );
+        }
         analyze();
     }
 
     public void insertColumn( final BaseColumn baseColumn ) {
-        cache.newColumn( getColumnIndex( baseColumn ) );
-        resetChecks();
+        generation++;
+        final Set<Rule> rules = cache.newColumn( getColumnIndex( baseColumn ) );
+
+        //Only rows with a value in the new column need their checks re-running
+        final Set<Check> checks = new HashSet<>();
+        for ( final Rule rule : rules ) {
+            checks.addAll( cache.getRuleInspector( rule.getIndex() ).getChecks() );
+        }
+        addChecks( checks );
+        checkRunner.addChecks( checks );
         analyze();
     }
 
+    //Single pass over the expanded columns; BRL columns resolve to the index of their first child column
     private int getColumnIndex( final BaseColumn baseColumn ) {
-        final int indexOf = model.getExpandedColumns().indexOf( baseColumn );
-        if ( indexOf < 0 ) {
-            if ( baseColumn instanceof BRLConditionColumn ) {
-
-                for ( final BaseColumn column : model.getExpandedColumns() ) {
-                    if ( column instanceof BRLConditionVariableColumn ) {
-                        if ( (( BRLConditionColumn ) baseColumn).getChildColumns().contains( column ) ) {
-                            return model.getExpandedColumns().indexOf( column );
-                        }
-                    }
+        final List<BaseColumn> columns = model.getExpandedColumns();
+        for ( int index = 0; index < columns.size(); index++ ) {
+            final BaseColumn column = columns.get( index );
+            if ( column.equals( baseColumn ) ) {
+                return index;
+            }
+            if ( baseColumn instanceof BRLConditionColumn && column instanceof BRLConditionVariableColumn ) {
+                if ( ( (BRLConditionColumn) baseColumn ).getChildColumns().contains( column ) ) {
+                    return index;
                 }
-
-                throw new IllegalArgumentException( "Could not find BRLConditionColumn: " + baseColumn.toString() );
-            } else if ( baseColumn instanceof BRLVariableColumn ) {
-                return model.getExpandedColumns().indexOf( model.getBRLColumn( ( BRLVariableColumn ) baseColumn ) );
-            } else {
-                throw new IllegalArgumentException( "Could not find baseColumn: " + baseColumn.toString() );
             }
+        }
+
+        if ( baseColumn instanceof BRLConditionColumn ) {
+            throw new IllegalArgumentException( "Could not find BRLConditionColumn: " + baseColumn.toString() );
+        } else if ( baseColumn instanceof BRLVariableColumn ) {
+            return columns.indexOf( model.getBRLColumn( (BRLVariableColumn) baseColumn ) );
         } else {
-            return indexOf;
+            throw new IllegalArgumentException( "Could not find baseColumn: " + baseColumn.toString() );
         }
     }
 
     public void updateColumns( final int amountOfRows ) {
         if ( hasTheRowCountIncreased( amountOfRows ) ) {
+            generation++;
             addRow( eventManager.getNewIndex() );
             analyze();
 
         } else if ( hasTheRowCountDecreased( amountOfRows ) ) {
+            generation++;
+            //The removed row's checks are discarded, so the Issues of all remaining checks are refreshed
+            refreshAllIssues = true;
+            pendingChecks.clear();
             checkRunner.remove( cache.removeRow( eventManager.rowDeleted ) );
             analyze();
         }
@@ -178,7 +309,9 @@ public class DecisionTableAnalyzer {
 
     private void addRow( final int index ) {
         final RuleInspector ruleInspector = cache.addRow( index );
-        checkRunner.addChecks( ruleInspector.getChecks() );
+        final Set<Check> checks = ruleInspector.getChecks();
+        addChecks( checks );
+        checkRunner.addChecks( checks );
     }
 
     public void deleteRow( final int index ) {
@@ -197,19 +330,47 @@ public class DecisionTableAnalyzer {
     }
 
     public void start() {
-        if ( checkRunner.isEmpty() ) {
-            resetChecks();
-            analyze();
-        } else {
+        if ( analysedGeneration == generation ) {
+            //Nothing has changed since the last analysis completed
             reporter.sendReport( getIssues() );
+
+        } else if ( analysing ) {
+            //The Issues will be reported when the active analysis completes
+            reporter.sendReport( getIssues() );
+
+        } else if ( analysedGeneration < 0 && !refreshAllIssues && pendingChecks.isEmpty() && checkRunner.isEmpty() ) {
+            final Set<Issue> cachedIssues = resultCache.get( resultKeyProvider.getKey() );
+            if ( cachedIssues != null ) {
+                checksPending = true;
+                reporter.sendReport( cachedIssues );
+            } else {
+                resetChecks();
+                analyze();
+            }
+
+        } else {
+            //Resume the checks of the changes not yet analysed; analyze() re-queues them after a cancellation
+            if ( !analysisCancelled ) {
+                requeueChecks();
+            }
+            analyze();
         }
     }
 
     public void stop() {
+        if ( analysing ) {
+            analysisCancelled = true;
+        }
+        analysis++;
+        analysing = false;
         checkRunner.cancelExistingAnalysis();
     }
 
     public void terminate() {
+        if ( analysedGeneration == generation ) {
+            resultCache.put( resultKeyProvider.getKey(),
+                             getIssues() );
+        }
         stop();
         reporter.close();
     }
@@ -42,6 +42,8 @@ public class DecisionTableAnalyzerBuilder {
     protected AsyncPackageDataModelOracle oracle;
     protected GuidedDecisionTable52 model;
     protected AnalysisReportScreen analysisReportScreen;
+    protected AnalysisResultCache resultCache;
+    protected AnalysisResultCache.KeyProvider resultKeyProvider;
 
     public DecisionTableAnalyzerBuilder withPlaceRequest( final PlaceRequest placeRequest ) {
         this.placeRequest = placeRequest;
@@ -63,6 +65,16 @@ public class DecisionTableAnalyzerBuilder {
         return this;
     }
 
+    public DecisionTableAnalyzerBuilder withResultCache( final AnalysisResultCache resultCache ) {
+        this.resultCache = resultCache;
+        return this;
+    }
+
+    public DecisionTableAnalyzerBuilder withResultKeyProvider( final AnalysisResultCache.KeyProvider resultKeyProvider ) {
+        this.resultKeyProvider = resultKeyProvider;
+        return this;
+    }
+
     public DecisionTableAnalyzer build() {
         PortablePreconditions.checkNotNull( "placeRequest",
                                             placeRequest );
@@ -72,6 +84,10 @@ public class DecisionTableAnalyzerBuilder {
                                             model );
         PortablePreconditions.checkNotNull( "analysisReportScreen",
                                             analysisReportScreen );
+        PortablePreconditions.checkNotNull( "resultCache",
+                                            resultCache );
+        PortablePreconditions.checkNotNull( "resultKeyProvider",
+                                            resultKeyProvider );
 
         return getInnerBuilder().build();
     }
@@ -174,7 +190,9 @@ public class DecisionTableAnalyzerBuilder {
                                               model,
                                               buildCache(),
                                               buildUpdateManager(),
-                                              checkRunner );
+                                              checkRunner,
+                                              resultCache,
+                                              resultKeyProvider );
         }
 
         protected AnalysisReporter getAnalysisReporter() {
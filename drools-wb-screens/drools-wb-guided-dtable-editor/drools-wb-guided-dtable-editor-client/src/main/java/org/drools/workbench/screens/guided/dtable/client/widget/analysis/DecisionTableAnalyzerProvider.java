@@ -33,15 +33,19 @@ import org.uberfire.mvp.PlaceRequest;
 public class DecisionTableAnalyzerProvider {
 
     private final AnalysisReportScreen analysisReportScreen;
+    private final AnalysisResultCache analysisResultCache;
 
     @Inject
-    public DecisionTableAnalyzerProvider( final AnalysisReportScreen analysisReportScreen ) {
+    public DecisionTableAnalyzerProvider( final AnalysisReportScreen analysisReportScreen,
+                                          final AnalysisResultCache analysisResultCache ) {
         this.analysisReportScreen = analysisReportScreen;
+        this.analysisResultCache = analysisResultCache;
     }
 
     public AnalyzerController newAnalyzer( final PlaceRequest placeRequest,
                                            final AsyncPackageDataModelOracle oracle,
                                            final GuidedDecisionTable52 model,
+                                           final AnalysisResultCache.KeyProvider resultKeyProvider,
                                            final EventBus eventBus ) {
         if ( isAnalysisEnabled() ) {
             return new AnalyzerControllerImpl( new DecisionTableAnalyzerBuilder()
@@ -49,6 +53,8 @@ public class DecisionTableAnalyzerProvider {
                                                        .withPlaceRequest( placeRequest )
                                                        .withOracle( oracle )
                                                        .withModel( model )
+                                                       .withResultCache( analysisResultCache )
+                                                       .withResultKeyProvider( resultKeyProvider )
                                                        .build(),
                                                eventBus );
         } else {
@@ -18,7 +18,9 @@ package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
@@ -33,8 +35,6 @@ import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerC
 import org.drools.workbench.services.verifier.api.client.index.Action;
 import org.drools.workbench.services.verifier.api.client.index.Column;
 import org.drools.workbench.services.verifier.api.client.index.Condition;
-import org.drools.workbench.services.verifier.api.client.index.Field;
-import org.drools.workbench.services.verifier.api.client.index.Fields;
 import org.drools.workbench.services.verifier.api.client.index.Index;
 import org.drools.workbench.services.verifier.api.client.index.Rule;
 import org.drools.workbench.services.verifier.api.client.index.matchers.UUIDMatcher;
@@ -64,19 +64,26 @@ public class DtableRuleInspectorCache
         reset();
     }
 
-    public void newColumn( final int columnIndex ) {
+    /**
+     * Adds a column to the Index. The RuleInspectors are updated by the Index as each row's Condition or Action is added.
+     * @param columnIndex Index of the new column in the model's expanded columns
+     * @return The Rules for which the new column has a value; and hence whose checks need to be re-run
+     */
+    public Set<Rule> newColumn( final int columnIndex ) {
 
-        index.columns.add( new ColumnBuilder( model,
-                                              model.getExpandedColumns()
-                                                      .get( columnIndex ),
-                                              configuration ).build() );
+        final Column column = new ColumnBuilder( model,
+                                                 model.getExpandedColumns()
+                                                         .get( columnIndex ),
+                                                 configuration ).build();
+        index.columns.add( column );
+
+        final BaseColumn baseColumn = model.getExpandedColumns()
+                .get( columnIndex );
+        final Set<Rule> rules = new HashSet<Rule>();
 
         int rowIndex = 0;
 
         for ( final List<DTCellValue52> row : model.getData() ) {
-            final BaseColumn baseColumn = model.getExpandedColumns()
-                    .get( columnIndex );
-
             final Rule rule = getRule( rowIndex );
 
             new CellBuilder( index,
@@ -87,52 +94,60 @@ public class DtableRuleInspectorCache
                              configuration ).build( rule,
                                                     row );
 
+            if ( hasValues( rule,
+                            column ) ) {
+                rules.add( rule );
+            }
+
             rowIndex++;
         }
 
+        return rules;
     }
 
-    public void deleteColumns( final int firstColumnIndex,
-                               final int numberOfColumns ) {
+    /**
+     * Removes columns from the Index.
+     * @param firstColumnIndex Index of the first column to remove
+     * @param numberOfColumns Number of columns to remove
+     * @return The Rules for which a removed column had a value. Their RuleInspectors need to be replaced.
+     */
+    public Set<Rule> deleteColumns( final int firstColumnIndex,
+                                    final int numberOfColumns ) {
+
+        final List<Column> columns = new ArrayList<Column>();
+        for ( int columnIndex = firstColumnIndex; columnIndex < firstColumnIndex + numberOfColumns; columnIndex++ ) {
+            columns.addAll( index.columns
+                                    .where( HasIndex.index()
+                                                    .is( columnIndex ) )
+                                    .select()
+                                    .all() );
+        }
 
-        final Collection<Column> all = index.columns
-                .where( HasIndex.index()
-                                .is( firstColumnIndex ) )
-                .select()
-                .all();
+        final Set<Rule> rules = new HashSet<Rule>();
+        final List<Action> actions = new ArrayList<Action>();
+        final List<Condition> conditions = new ArrayList<Condition>();
 
-        final Fields.FieldSelector fieldSelector =
-                index.rules
-                        .where( UUIDMatcher.uuid()
-                                        .any() )
-                        .select()
-                        .patterns()
-                        .where( UUIDMatcher.uuid()
-                                        .any() )
-                        .select()
-                        .fields()
-                        .where( UUIDMatcher.uuid()
-                                        .any() )
-                        .select();
-
-
-        final ArrayList<Action> actions = new ArrayList<Action>();
-        final ArrayList<Condition> conditions = new ArrayList<Condition>();
-
-        for ( final Field field : fieldSelector.all() ) {
-            for ( final Column column : all ) {
-                final Collection<Action> all1 = field.getActions()
-                        .where( Action.columnUUID()
-                                        .is( column.getUuidKey() ) )
-                        .select()
-                        .all();
-                final Collection<Condition> all2 = field.getConditions()
-                        .where( Condition.columnUUID()
-                                        .is( column.getUuidKey() ) )
-                        .select()
-                        .all();
-                actions.addAll( all1 );
-                conditions.addAll( all2 );
+        //Conditions and Actions are also held by their Rule, so there is no need to visit every Pattern and Field
+        for ( final Rule rule : index.rules
+                .where( UUIDMatcher.uuid()
+                                .any() )
+                .select()
+                .all() ) {
+            for ( final Column column : columns ) {
+                for ( final Action action : getActions( rule,
+                                                        column ) ) {
+                    actions.add( action );
+                    if ( !action.getValues().isEmpty() ) {
+                        rules.add( rule );
+                    }
+                }
+                for ( final Condition condition : getConditions( rule,
+                                                                 column ) ) {
+                    conditions.add( condition );
+                    if ( !condition.getValues().isEmpty() ) {
+                        rules.add( rule );
+                    }
+                }
             }
         }
 
@@ -146,12 +161,47 @@ public class DtableRuleInspectorCache
                     .retract();
         }
 
-        for ( final Column column : all ) {
+        for ( final Column column : columns ) {
             column.getUuidKey()
                     .retract();
         }
 
-        reset();
+        return rules;
+    }
+
+    private boolean hasValues( final Rule rule,
+                               final Column column ) {
+        for ( final Action action : getActions( rule,
+                                                column ) ) {
+            if ( !action.getValues().isEmpty() ) {
+                return true;
+            }
+        }
+        for ( final Condition condition : getConditions( rule,
+                                                         column ) ) {
+            if ( !condition.getValues().isEmpty() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Collection<Action> getActions( final Rule rule,
+                                           final Column column ) {
+        return rule.getActions()
+                .where( Action.columnUUID()
+                                .is( column.getUuidKey() ) )
+                .select()
+                .all();
+    }
+
+    private Collection<Condition> getConditions( final Rule rule,
+                                                 final Column column ) {
+        return rule.getConditions()
+                .where( Condition.columnUUID()
+                                .is( column.getUuidKey() ) )
+                .select()
+                .all();
     }
 
     @Override
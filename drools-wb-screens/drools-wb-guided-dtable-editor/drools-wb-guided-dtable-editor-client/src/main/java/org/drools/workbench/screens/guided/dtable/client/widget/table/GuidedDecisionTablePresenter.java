@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,7 @@ import org.drools.workbench.screens.guided.dtable.client.GuidedDecisionTable;
 import org.drools.workbench.screens.guided.dtable.client.editor.clipboard.Clipboard;
 import org.drools.workbench.screens.guided.dtable.client.editor.clipboard.impl.DefaultClipboard;
 import org.drools.workbench.screens.guided.dtable.client.type.GuidedDTableResourceType;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.AnalysisResultCache;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.DecisionTableAnalyzerProvider;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.controller.AnalyzerController;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.panel.IssueSelectedEvent;
@@ -81,6 +83,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshConditionsPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshMetaDataPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.lockmanager.GuidedDecisionTableLockManager;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiCell;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
@@ -107,11 +110,15 @@ import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleB
 import org.kie.workbench.common.services.shared.rulename.RuleNamesService;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracleFactory;
+import org.kie.workbench.common.widgets.client.datamodel.ImportAddedEvent;
+import org.kie.workbench.common.widgets.client.datamodel.ImportRemovedEvent;
 import org.kie.workbench.common.widgets.client.resources.i18n.CommonConstants;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.uberfire.backend.vfs.ObservablePath;
 import org.uberfire.client.callbacks.Callback;
 import org.uberfire.client.mvp.LockTarget;
 import org.uberfire.client.mvp.UpdatedLockStatusEvent;
+import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
@@ -156,6 +163,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
     private GuidedDecisionTable52 model;
     private Overview overview;
+    private String dataModelVersion;
     private AsyncPackageDataModelOracle oracle;
     private GuidedDecisionTableModellerView.Presenter parent;
     private BRLRuleModel rm;
@@ -177,7 +185,6 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
     private ObservablePath currentPath = null;
     private PlaceRequest placeRequest = null;
 
-    private Integer originalHashCode = null;
     private ObservablePath.OnConcurrentUpdateEvent concurrentUpdateSessionInfo = null;
 
     //This EventBus is local to the screen and should be used for local operations, set data, add rows etc
@@ -193,6 +200,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
         private LockedBy lock = NOBODY;
         private boolean isReadOnly = false;
+        private boolean isLoadingRows = false;
 
         public LockedBy getLock() {
             return lock;
@@ -210,8 +218,16 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
             this.isReadOnly = isReadOnly;
         }
 
+        public boolean isLoadingRows() {
+            return isLoadingRows;
+        }
+
+        public void setLoadingRows( final boolean isLoadingRows ) {
+            this.isLoadingRows = isLoadingRows;
+        }
+
         public boolean isEditable() {
-            return !( lock == OTHER_USER || isReadOnly );
+            return !( lock == OTHER_USER || isReadOnly || isLoadingRows );
         }
 
     }
@@ -353,10 +369,12 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         this.placeRequest = placeRequest;
         this.model = model;
         this.overview = content.getOverview();
+        this.dataModelVersion = content.getDataModelVersion();
         this.oracle = oracleFactory.makeAsyncPackageDataModelOracle( path,
                                                                      model,
                                                                      dataModel );
         this.access.setReadOnly( isReadOnly );
+        this.access.setLoadingRows( content.getTotalRowCount() > model.getData().size() );
         this.rm = new BRLRuleModel( model );
 
         this.uiModel = makeUiModel();
@@ -365,6 +383,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
         initialiseLockManager();
         initialiseUtilities();
+        getChangeJournal().setBaseVersion( content.getContentVersion() );
         initialiseModels();
         initialiseValidationAndVerification();
         initialiseAuditLog();
@@ -493,14 +512,31 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         }
     }
 
-    //Setup the Validation & Verification analyzer
+    //Setup the Validation & Verification analyzer. Analysis of a Decision Table whose rows are still loading is
+    //deferred until all rows have been loaded, as otherwise it would report on only some of the rows.
     void initialiseValidationAndVerification() {
+        if ( access.isLoadingRows() ) {
+            this.analyzerController = null;
+            return;
+        }
         this.analyzerController = decisionTableAnalyzerProvider.newAnalyzer( placeRequest,
                                                                              oracle,
                                                                              model,
+                                                                             this::getAnalysisResultKey,
                                                                              eventBus );
     }
 
+    //Analysis results are only cached for a Decision Table without unsaved changes to a known persisted version
+    String getAnalysisResultKey() {
+        final GuidedDecisionTableChangeJournal changeJournal = getChangeJournal();
+        if ( changeJournal.isDirty() ) {
+            return null;
+        }
+        return AnalysisResultCache.makeKey( currentPath.toURI(),
+                                            changeJournal.getBaseVersion(),
+                                            dataModelVersion );
+    }
+
     //Setup Audit Log
     void initialiseAuditLog() {
         this.auditLog = new AuditLog( model,
@@ -605,6 +641,21 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         }
     }
 
+    //Imports are edited by the Editor's Imports tab, outside of the ModelSynchronizer
+    void onImportAddedEvent( final @Observes ImportAddedEvent event ) {
+        if ( oracle == null || !oracle.equals( event.getDataModelOracle() ) ) {
+            return;
+        }
+        synchronizer.getChangeJournal().recordModelChange();
+    }
+
+    void onImportRemovedEvent( final @Observes ImportRemovedEvent event ) {
+        if ( oracle == null || !oracle.equals( event.getDataModelOracle() ) ) {
+            return;
+        }
+        synchronizer.getChangeJournal().recordModelChange();
+    }
+
     void onIssueSelectedEvent( final @Observes IssueSelectedEvent event ) {
         if ( event == null ) {
             return;
@@ -681,6 +732,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
     @Override
     public void setParentRuleName( final String parentName ) {
         model.setParentName( parentName );
+        synchronizer.getChangeJournal().recordModelChange();
     }
 
     @Override
@@ -1186,6 +1238,23 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         }
     }
 
+    @Override
+    public void appendRows( final List<List<DTCellValue52>> rows,
+                            final boolean isLastPage ) {
+        final List<BaseColumn> modelColumns = model.getExpandedColumns();
+        for ( List<DTCellValue52> row : rows ) {
+            model.getData().add( row );
+            initialiseRow( modelColumns,
+                           row );
+        }
+        if ( isLastPage ) {
+            access.setLoadingRows( false );
+            initialiseValidationAndVerification();
+        }
+
+        view.getLayer().draw();
+    }
+
     private void initialiseColumn( final BaseColumn column ) {
         final GridColumn<?> gridColumn = gridWidgetColumnFactory.convertColumn( column,
                                                                                 access,
@@ -1294,6 +1363,8 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         final int currentOriginRowIndex = uiModel.getSelectedCellsOrigin().getRowIndex();
         final int currentOriginColumnIndex = findUiColumnIndex( uiModel.getSelectedCellsOrigin().getColumnIndex() );
 
+        //Cells are set in bulk so the Model is synchronised and validated once
+        final Map<Coordinate, GridCellValue<?>> values = new HashMap<Coordinate, GridCellValue<?>>();
         boolean updateSystemControlledValues = false;
         for ( Clipboard.ClipboardData cd : data ) {
             final int targetRowIndex = currentOriginRowIndex + cd.getRowIndex();
@@ -1307,22 +1378,18 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
             final DTCellValue52 modelCell = cd.getValue();
             final BaseColumn modelColumn = model.getExpandedColumns().get( targetColumnIndex );
-            if ( modelCell.hasValue() ) {
-                uiModel.setCell( targetRowIndex,
-                                 targetColumnIndex,
-                                 gridWidgetCellFactory.convertCell( modelCell,
-                                                                    modelColumn,
-                                                                    cellUtilities,
-                                                                    columnUtilities ) );
-            } else {
-                uiModel.deleteCell( targetRowIndex,
-                                    targetColumnIndex );
-            }
+            values.put( new Coordinate( targetRowIndex,
+                                        targetColumnIndex ),
+                        modelCell.hasValue() ? gridWidgetCellFactory.convertCell( modelCell,
+                                                                                  modelColumn,
+                                                                                  cellUtilities,
+                                                                                  columnUtilities ) : null );
 
             if ( modelColumn instanceof RowNumberCol52 ) {
                 updateSystemControlledValues = true;
             }
         }
+        uiModel.setCells( values );
         if ( updateSystemControlledValues ) {
             synchronizer.updateSystemControlledColumnValues();
         }
@@ -1342,6 +1409,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         if ( selections == null || selections.isEmpty() ) {
             return;
         }
+        final Map<Coordinate, GridCellValue<?>> values = new HashMap<Coordinate, GridCellValue<?>>();
         for ( GridData.SelectedCell sc : selections ) {
             final int rowIndex = sc.getRowIndex();
             final int columnIndex = findUiColumnIndex( sc.getColumnIndex() );
@@ -1350,15 +1418,11 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
             if ( column instanceof RowNumberCol52 ) {
                 continue;
             }
-            if ( uiColumn instanceof BooleanUiColumn ) {
-                uiModel.setCell( rowIndex,
-                                 columnIndex,
-                                 new GuidedDecisionTableUiCell<>( false ) );
-            } else {
-                uiModel.deleteCell( rowIndex,
-                                    columnIndex );
-            }
+            values.put( new Coordinate( rowIndex,
+                                        columnIndex ),
+                        uiColumn instanceof BooleanUiColumn ? new GuidedDecisionTableUiCell<Boolean>( false ) : null );
         }
+        uiModel.setCells( values );
         view.getLayer().draw();
     }
 
@@ -1558,14 +1622,22 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         this.access.setReadOnly( isReadOnly );
     }
 
+    //The "hash code" of a Decision Table is the version of its change journal; hashing the whole Model is too slow
     @Override
     public Integer getOriginalHashCode() {
-        return originalHashCode;
+        return getChangeJournal().getSavedVersion();
     }
 
     @Override
     public void setOriginalHashCode( final Integer originalHashCode ) {
-        this.originalHashCode = originalHashCode;
+        if ( originalHashCode != null ) {
+            getChangeJournal().markSaved( originalHashCode );
+        }
+    }
+
+    @Override
+    public GuidedDecisionTableChangeJournal getChangeJournal() {
+        return synchronizer.getChangeJournal();
     }
 
     @Override
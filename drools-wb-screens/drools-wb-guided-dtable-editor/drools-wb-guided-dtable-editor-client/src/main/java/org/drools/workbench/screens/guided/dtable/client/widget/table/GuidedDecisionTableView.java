@@ -32,6 +32,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.BRLActionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.BRLConditionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.models.guided.dtable.shared.model.LimitedEntryBRLActionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.LimitedEntryBRLConditionColumn;
@@ -40,6 +41,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.EditMenuBuilder;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.InsertMenuBuilder;
 import org.drools.workbench.screens.guided.dtable.client.editor.menu.ViewMenuBuilder;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -158,6 +160,17 @@ public interface GuidedDecisionTableView extends GridWidget,
 
         GuidedDecisionTablePresenter.Access getAccess();
 
+        GuidedDecisionTableChangeJournal getChangeJournal();
+
+        /**
+         * Append rows loaded after the Decision Table was initially shown. The Decision Table cannot be edited,
+         * and is not analysed, until the last page of rows has been appended.
+         * @param rows Rows to append to the Model.
+         * @param isLastPage true if these are the last rows of the Decision Table.
+         */
+        void appendRows( final List<List<DTCellValue52>> rows,
+                         final boolean isLastPage );
+
         void onClose();
 
         void initialiseAnalysis();
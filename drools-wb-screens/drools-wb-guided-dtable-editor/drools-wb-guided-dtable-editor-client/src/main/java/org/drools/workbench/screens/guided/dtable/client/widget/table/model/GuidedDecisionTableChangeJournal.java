@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
+
+/**
+ * Journal of changes made to a Decision Table since it was loaded or last saved. Changes are recorded as they are
+ * made, so whether a Decision Table is dirty can be determined without hashing the whole Model. Changes to cell
+ * values record the affected row and column indexes. All other changes (rows or columns being added, deleted or
+ * moved, column definitions being edited or table properties changing) are recorded as Model changes.
+ */
+public class GuidedDecisionTableChangeJournal {
+
+    private int version = 0;
+    private int savedVersion = 0;
+    private String baseVersion = null;
+
+    private boolean modelChanged = false;
+    private final Set<Coordinate> changedCells = new HashSet<>();
+
+    public void recordCellChanges( final int minRowIndex,
+                                   final int maxRowIndex,
+                                   final Collection<Integer> columnIndexes ) {
+        for ( int rowIndex = minRowIndex; rowIndex <= maxRowIndex; rowIndex++ ) {
+            for ( Integer columnIndex : columnIndexes ) {
+                changedCells.add( new Coordinate( rowIndex,
+                                                  columnIndex ) );
+            }
+        }
+        version++;
+    }
+
+    public void recordCellChanges( final Collection<Coordinate> cells ) {
+        changedCells.addAll( cells );
+        version++;
+    }
+
+    public void recordModelChange() {
+        modelChanged = true;
+        version++;
+    }
+
+    /**
+     * @return The number of changes recorded since the journal was cleared.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The version last saved.
+     */
+    public int getSavedVersion() {
+        return savedVersion;
+    }
+
+    public boolean isDirty() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Mark a version as saved. Changes recorded after the version was read, for example whilst the save was in
+     * progress, are retained so that the Decision Table remains dirty.
+     * @param savedVersion The version that has been saved.
+     */
+    public void markSaved( final int savedVersion ) {
+        this.savedVersion = savedVersion;
+        if ( savedVersion == version ) {
+            modelChanged = false;
+            changedCells.clear();
+        }
+    }
+
+    public void clear() {
+        version = 0;
+        savedVersion = 0;
+        baseVersion = null;
+        modelChanged = false;
+        changedCells.clear();
+    }
+
+    /**
+     * @return Content version of the persisted Decision Table to which the changes apply; or null if it is unknown.
+     */
+    public String getBaseVersion() {
+        return baseVersion;
+    }
+
+    public void setBaseVersion( final String baseVersion ) {
+        this.baseVersion = baseVersion;
+    }
+
+    /**
+     * @return true if changes other than to cell values have been made since the last save.
+     */
+    public boolean isModelChanged() {
+        return modelChanged;
+    }
+
+    /**
+     * @return Coordinates of cells changed since the last save. Coordinates are those at the time of the change and
+     * are not adjusted for rows or columns subsequently added, deleted or moved; which are Model changes.
+     */
+    public Set<Coordinate> getChangedCells() {
+        return Collections.unmodifiableSet( changedCells );
+    }
+
+}
@@ -16,9 +16,13 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.uberfire.commons.validation.PortablePreconditions;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
@@ -64,6 +68,33 @@ public class GuidedDecisionTableUiModel extends BaseGridData {
         return range;
     }
 
+    /**
+     * Set multiple cells, for example when pasting, and sync the underlying Model once for all cells. Each cell is set
+     * individually, rather than the merged block containing it, and each affected column is re-indexed once.
+     * @param values New values keyed on cell coordinate. A null value clears the cell.
+     */
+    public void setCells( final Map<Coordinate, GridCellValue<?>> values ) {
+        final Set<Integer> columnIndexes = new HashSet<Integer>();
+        for ( Map.Entry<Coordinate, GridCellValue<?>> e : values.entrySet() ) {
+            final int rowIndex = e.getKey().getRow();
+            final int columnIndex = e.getKey().getCol();
+            final GridCellValue<?> value = e.getValue();
+            if ( value == null ) {
+                deleteCellInternal( rowIndex,
+                                    columnIndex );
+            } else {
+                setCellInternal( rowIndex,
+                                 columnIndex,
+                                 value );
+            }
+            columnIndexes.add( columnIndex );
+        }
+        for ( int columnIndex : columnIndexes ) {
+            indexColumn( columnIndex );
+        }
+        synchronizer.setCells( values );
+    }
+
     @Override
     public void moveColumnsTo( final int index,
                                final List<GridColumn<?>> columns ) {
@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers;
 
 import java.util.List;
+import java.util.Map;
 
 import com.google.gwt.event.shared.EventBus;
 import org.drools.workbench.models.guided.dtable.shared.model.BRLRuleModel;
@@ -27,12 +28,14 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
@@ -68,6 +71,13 @@ public interface ModelSynchronizer {
     void deleteCell( final GridData.Range rowRange,
                      final int columnIndex );
 
+    /**
+     * Sync the Model with multiple cells set in the UiModel. Dependent enumeration columns are updated once per
+     * column and a single validation is requested for all cells.
+     * @param values New values keyed on cell coordinate. A null value indicates the cell was cleared.
+     */
+    void setCells( final Map<Coordinate, GridCellValue<?>> values );
+
     void appendColumn( final BaseColumn column ) throws MoveColumnVetoException;
 
     void appendColumn( final Pattern52 pattern,
@@ -103,4 +113,10 @@ public interface ModelSynchronizer {
     void setCellOtherwiseState( final int rowIndex,
                                 final int columnIndex );
 
+    /**
+     * Journal of the changes made to the Model through this ModelSynchronizer since it was initialised.
+     * @return The journal; never null.
+     */
+    GuidedDecisionTableChangeJournal getChangeJournal();
+
 }
@@ -17,9 +17,13 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.enterprise.context.Dependent;
 
@@ -38,6 +42,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.analysis.control
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.columns.SalienceUiColumn;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
@@ -83,6 +88,8 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     private GridWidgetCellFactory gridWidgetCellFactory;
     private EventBus eventBus;
 
+    private final GuidedDecisionTableChangeJournal changeJournal = new GuidedDecisionTableChangeJournal();
+
     private final List<Synchronizer<? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData>> synchronizers = new ArrayList<>();
 
     @Override
@@ -125,6 +132,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                                          gridWidgetCellFactory );
         this.eventBus = PortablePreconditions.checkNotNull( "eventBus",
                                                             eventBus );
+        this.changeJournal.clear();
 
         for ( Synchronizer<? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData> synchronizer : synchronizers ) {
             synchronizer.initialise( model,
@@ -158,6 +166,9 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         }
         final Set<Integer> columnRange = updateDependentEnumerationColumns( rowRange,
                                                                             columnIndex );
+        changeJournal.recordCellChanges( minRowIndex,
+                                         maxRowIndex,
+                                         columnRange );
         fireValidateEvent( rowRange,
                            columnRange );
     }
@@ -174,10 +185,88 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         }
         final Set<Integer> columnRange = updateDependentEnumerationColumns( rowRange,
                                                                             columnIndex );
+        changeJournal.recordCellChanges( minRowIndex,
+                                         maxRowIndex,
+                                         columnRange );
         fireValidateEvent( rowRange,
                            columnRange );
     }
 
+    @Override
+    public void setCells( final Map<Coordinate, GridCellValue<?>> values ) {
+        if ( values.isEmpty() ) {
+            return;
+        }
+
+        //Update Model and group the affected rows by column, so each column is only processed once
+        final Map<Integer, Set<Integer>> setRowIndexes = new HashMap<Integer, Set<Integer>>();
+        for ( Map.Entry<Coordinate, GridCellValue<?>> e : values.entrySet() ) {
+            final int rowIndex = e.getKey().getRow();
+            final int columnIndex = e.getKey().getCol();
+            final GridCellValue<?> value = e.getValue();
+            final List<DTCellValue52> modelRow = model.getData().get( rowIndex );
+            if ( value == null ) {
+                modelRow.get( columnIndex ).clearValues();
+            } else {
+                modelRow.set( columnIndex,
+                              new DTCellValue52( value.getValue() ) );
+            }
+            getRowIndexes( setRowIndexes,
+                           columnIndex ).add( rowIndex );
+        }
+
+        //Clear dependent enumeration cells; other than those that have themselves been set
+        final Map<Integer, Set<Integer>> clearedRowIndexes = new HashMap<Integer, Set<Integer>>();
+        for ( Map.Entry<Integer, Set<Integer>> e : setRowIndexes.entrySet() ) {
+            final int columnIndex = e.getKey();
+            final Set<Integer> rowIndexes = e.getValue();
+            final Context context = new Context( rowIndexes.iterator().next(),
+                                                 columnIndex );
+            for ( int dependentColumnIndex : dependentEnumsUtilities.getDependentColumnIndexes( context ) ) {
+                final Set<Integer> dependentSetRowIndexes = setRowIndexes.get( dependentColumnIndex );
+                for ( int rowIndex : rowIndexes ) {
+                    if ( dependentSetRowIndexes != null && dependentSetRowIndexes.contains( rowIndex ) ) {
+                        continue;
+                    }
+                    model.getData().get( rowIndex ).get( dependentColumnIndex ).clearValues();
+                    uiModel.deleteCellInternal( rowIndex,
+                                                dependentColumnIndex );
+                    getRowIndexes( clearedRowIndexes,
+                                   dependentColumnIndex ).add( rowIndex );
+                }
+            }
+        }
+        for ( int dependentColumnIndex : clearedRowIndexes.keySet() ) {
+            uiModel.indexColumn( dependentColumnIndex );
+        }
+
+        //Record and validate all changes at once
+        final List<Coordinate> updates = new ArrayList<Coordinate>();
+        for ( Map<Integer, Set<Integer>> columnRowIndexes : Arrays.asList( setRowIndexes,
+                                                                           clearedRowIndexes ) ) {
+            for ( Map.Entry<Integer, Set<Integer>> e : columnRowIndexes.entrySet() ) {
+                final int columnIndex = e.getKey();
+                for ( int rowIndex : e.getValue() ) {
+                    updates.add( new Coordinate( rowIndex,
+                                                 columnIndex ) );
+                }
+            }
+        }
+        changeJournal.recordCellChanges( updates );
+        fireValidateEvent( updates );
+    }
+
+    private Set<Integer> getRowIndexes( final Map<Integer, Set<Integer>> columnRowIndexes,
+                                        final int columnIndex ) {
+        Set<Integer> rowIndexes = columnRowIndexes.get( columnIndex );
+        if ( rowIndexes == null ) {
+            rowIndexes = new HashSet<Integer>();
+            columnRowIndexes.put( columnIndex,
+                                  rowIndexes );
+        }
+        return rowIndexes;
+    }
+
     private Set<Integer> updateDependentEnumerationColumns( final GridData.Range rowRange,
                                                             final int columnIndex ) {
         final int minRowIndex = rowRange.getMinRowIndex();
@@ -209,6 +298,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
 
         fireAfterColumnInsertedEvent( column );
     }
@@ -225,6 +315,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
         fireAfterColumnInsertedEvent( column );
     }
 
@@ -239,6 +330,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
         fireAfterColumnDeletedEvent( columnIndex );
     }
 
@@ -255,8 +347,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                                                       editedColumn );
         for ( Synchronizer synchronizer : synchronizers ) {
             if ( synchronizer.handlesUpdate( originalMetaData ) ) {
-                return synchronizer.update( originalMetaData,
-                                            editedMetaData );
+                final List<BaseColumnFieldDiff> diffs = synchronizer.update( originalMetaData,
+                                                                             editedMetaData );
+                recordColumnChange( diffs );
+                return diffs;
             }
         }
         return Collections.emptyList();
@@ -272,6 +366,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             if ( synchronizer.handlesUpdate( originalMetaData ) ) {
                 final List<BaseColumnFieldDiff> diffs = synchronizer.update( originalMetaData,
                                                                              editedMetaData );
+                recordColumnChange( diffs );
                 final boolean isSalienceUseRowNumberUpdated = BaseColumnFieldDiffImpl.hasChanged( AttributeCol52.FIELD_USE_ROW_NUMBER,
                                                                                                   diffs );
                 final boolean isSalienceUseReverseOrderUpdated = BaseColumnFieldDiffImpl.hasChanged( AttributeCol52.FIELD_REVERSE_ORDER,
@@ -295,6 +390,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
         fireAppendRowEvent();
         updateSystemControlledColumnValues();
         fireUpdateColumnDataEvent();
@@ -309,6 +405,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
         fireInsertRowEvent( rowIndex );
         updateSystemControlledColumnValues();
         fireUpdateColumnDataEvent();
@@ -324,6 +421,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        changeJournal.recordModelChange();
         fireDeleteRowEvent( rowIndex );
         updateSystemControlledColumnValues();
         fireUpdateColumnDataEvent();
@@ -361,6 +459,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         for ( Synchronizer synchronizer : handlers ) {
             synchronizer.moveColumnsTo( metaData );
         }
+        changeJournal.recordModelChange();
     }
 
     @Override
@@ -395,6 +494,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         }
 
         handler.moveColumnsTo( metaData );
+        changeJournal.recordModelChange();
     }
 
     @Override
@@ -430,7 +530,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         for ( Synchronizer synchronizer : handlers ) {
             synchronizer.moveRowsTo( metaData );
         }
-
+        changeJournal.recordModelChange();
     }
 
     @Override
@@ -507,6 +607,9 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         final DTCellValue52 modelCell = model.getData().get( rowIndex ).get( columnIndex );
         modelCell.clearValues();
         modelCell.setOtherwise( true );
+        changeJournal.recordCellChanges( rowIndex,
+                                         rowIndex,
+                                         Collections.singleton( columnIndex ) );
 
         //BaseGridData is sparsely populated; only add values if needed.
         if ( modelCell.hasValue() ) {
@@ -520,6 +623,17 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         uiModel.indexColumn( columnIndex );
     }
 
+    @Override
+    public GuidedDecisionTableChangeJournal getChangeJournal() {
+        return changeJournal;
+    }
+
+    private void recordColumnChange( final List<BaseColumnFieldDiff> diffs ) {
+        if ( !( diffs == null || diffs.isEmpty() ) ) {
+            changeJournal.recordModelChange();
+        }
+    }
+
     protected void fireAfterColumnInsertedEvent( final BaseColumn column ) {
         eventBus.fireEvent( new AfterColumnInserted( column ) );
     }
@@ -552,6 +666,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                              columnIndex ) );
             }
         }
+        fireValidateEvent( updates );
+    }
+
+    protected void fireValidateEvent( final List<Coordinate> updates ) {
         final ValidateEvent event = new ValidateEvent( updates );
         eventBus.fireEvent( event );
     }
@@ -26,6 +26,7 @@ import javax.inject.Inject;
 import org.drools.workbench.models.datamodel.oracle.DropDownData;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.kie.workbench.common.services.shared.enums.EnumDropdownService;
@@ -42,6 +43,9 @@ public class EnumLoaderUtilities {
 
     private final Map<String, Map<String, String>> enumCache = new HashMap<>();
 
+    //Number of server requests awaiting a response. The View is only redrawn once they have all completed.
+    private int pendingServerFetches = 0;
+
     @Inject
     public EnumLoaderUtilities( final Caller<EnumDropdownService> enumDropdownService ) {
         this.enumDropdownService = enumDropdownService;
@@ -111,24 +115,45 @@ public class EnumLoaderUtilities {
         final ObservablePath currentPath = presenter.getCurrentPath();
 
         onFetchCommand.execute();
+        pendingServerFetches++;
 
         enumDropdownService.call( new RemoteCallback<String[]>() {
                                       @Override
                                       public void callback( final String[] items ) {
+                                          pendingServerFetches--;
                                           onFetchCompleteCommand.execute();
                                           final Map<String, String> convertedDropDownData = convertDropDownData( items );
                                           enumCache.put( key,
                                                          convertedDropDownData );
                                           callback.callback( convertedDropDownData );
-                                          view.batch();
+                                          batchWhenNoPendingServerFetches( view );
                                       }
                                   },
-                                  new HasBusyIndicatorDefaultErrorCallback( view ) ).loadDropDownExpression( currentPath,
-                                                                                                             enumDefinition.getValuePairs(),
-                                                                                                             enumDefinition.getQueryExpression() );
+                                  new HasBusyIndicatorDefaultErrorCallback( view ) {
+                                      @Override
+                                      public boolean error( final Message message,
+                                                            final Throwable throwable ) {
+                                          //Remove the placeholder so the enumeration can be requested again
+                                          pendingServerFetches--;
+                                          enumCache.remove( key );
+                                          batchWhenNoPendingServerFetches( view );
+                                          return super.error( message,
+                                                              throwable );
+                                      }
+                                  } ).loadDropDownExpression( currentPath,
+                                                              enumDefinition.getValuePairs(),
+                                                              enumDefinition.getQueryExpression() );
 
     }
 
+    //Cells requiring different enumerations are rendered in the same pass, so their requests are sent together.
+    //Redraw the View once when the last response arrives rather than once per response.
+    private void batchWhenNoPendingServerFetches( final GuidedDecisionTableView view ) {
+        if ( pendingServerFetches == 0 ) {
+            view.batch();
+        }
+    }
+
     private String buildKey( final DropDownData enumDefinition ) {
         if ( enumDefinition.getFixedList() != null ) {
             return buildFixedListKey( enumDefinition.getFixedList() );
@@ -17,21 +17,31 @@
 package org.drools.workbench.screens.guided.dtable.client.editor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.type.GuidedDTableResourceType;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.DecisionTableSelectedEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
+import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableCellChange;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.common.client.api.ErrorCallback;
+import org.jboss.errai.common.client.api.RemoteCallback;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.uberfire.backend.vfs.ObservablePath;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.mvp.PlaceRequest;
@@ -51,6 +61,7 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
     protected GuidedDecisionTableEditorPresenter getPresenter() {
         return new GuidedDecisionTableEditorPresenter( view,
                                                        dtServiceCaller,
+                                                       dataModelCache,
                                                        notification,
                                                        decisionTableSelectedEvent,
                                                        resourceType,
@@ -135,7 +146,6 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
                                                                                  path,
                                                                                  placeRequest,
                                                                                  content );
-        when( dtPresenter.getOriginalHashCode() ).thenReturn( 0 );
         when( modeller.getAvailableDecisionTables() ).thenReturn( new HashSet<GuidedDecisionTableView.Presenter>() {{
             add( dtPresenter );
         }} );
@@ -152,7 +162,7 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
                                                                                  path,
                                                                                  placeRequest,
                                                                                  content );
-        when( dtPresenter.getOriginalHashCode() ).thenReturn( 10 );
+        dtPresenter.getChangeJournal().recordModelChange();
         when( modeller.getAvailableDecisionTables() ).thenReturn( new HashSet<GuidedDecisionTableView.Presenter>() {{
             add( dtPresenter );
         }} );
@@ -265,7 +275,7 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
         verify( view,
                 times( 2 ) ).showLoading();
         verify( dtService,
-                times( 2 ) ).loadContent( eq( path ) );
+                times( 1 ) ).loadContent( eq( path ) );
         verify( modeller,
                 times( 1 ) ).refreshDecisionTable( eq( dtPresenter ),
                                                    eq( path ),
@@ -411,10 +421,10 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
         final ArgumentCaptor<Metadata> metadataCaptor = ArgumentCaptor.forClass( Metadata.class );
 
         verify( dtService,
-                times( 1 ) ).save( eq( path ),
-                                   modelCaptor.capture(),
-                                   metadataCaptor.capture(),
-                                   eq( commitMessage ) );
+                times( 1 ) ).saveModel( eq( path ),
+                                        modelCaptor.capture(),
+                                        metadataCaptor.capture(),
+                                        eq( commitMessage ) );
         assertNotNull( modelCaptor.getValue() );
         assertEquals( dtPresenter.getModel(),
                       modelCaptor.getValue() );
@@ -423,6 +433,412 @@ public class BaseGuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisi
                       metadataCaptor.getValue() );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkOnSaveCellChanges() {
+        final String commitMessage = "message";
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( Arrays.asList( new DTCellValue52( 1 ),
+                                                         new DTCellValue52( "a" ) ) );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        changeJournal.setBaseVersion( "v1" );
+        changeJournal.recordCellChanges( 0,
+                                         0,
+                                         Collections.singleton( 1 ) );
+
+        when( dtService.saveDelta( eq( path ),
+                                   eq( "v1" ),
+                                   any( List.class ),
+                                   any( Metadata.class ),
+                                   eq( commitMessage ) ) ).thenReturn( "v2" );
+
+        presenter.onSave( dtPresenter,
+                          commitMessage );
+
+        final ArgumentCaptor<List> changesCaptor = ArgumentCaptor.forClass( List.class );
+        verify( dtService,
+                times( 1 ) ).saveDelta( eq( path ),
+                                        eq( "v1" ),
+                                        changesCaptor.capture(),
+                                        any( Metadata.class ),
+                                        eq( commitMessage ) );
+        verify( dtService,
+                never() ).saveModel( any( Path.class ),
+                                     any( GuidedDecisionTable52.class ),
+                                     any( Metadata.class ),
+                                     any( String.class ) );
+
+        final List<GuidedDecisionTableCellChange> changes = changesCaptor.getValue();
+        assertEquals( 1,
+                      changes.size() );
+        assertEquals( 0,
+                      changes.get( 0 ).getRowIndex() );
+        assertEquals( 1,
+                      changes.get( 0 ).getColumnIndex() );
+        assertEquals( "a",
+                      changes.get( 0 ).getValue().getStringValue() );
+        assertEquals( "v2",
+                      changeJournal.getBaseVersion() );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkOnSaveCellChangesWhenChangedElsewhere() {
+        final String commitMessage = "message";
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( Arrays.asList( new DTCellValue52( 1 ),
+                                                         new DTCellValue52( "a" ) ) );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        changeJournal.setBaseVersion( "v1" );
+        changeJournal.recordCellChanges( 0,
+                                         0,
+                                         Collections.singleton( 1 ) );
+
+        when( dtService.saveDelta( eq( path ),
+                                   eq( "v1" ),
+                                   any( List.class ),
+                                   any( Metadata.class ),
+                                   eq( commitMessage ) ) ).thenReturn( null );
+        when( dtService.saveModel( eq( path ),
+                                   any( GuidedDecisionTable52.class ),
+                                   any( Metadata.class ),
+                                   eq( commitMessage ) ) ).thenReturn( "v3" );
+
+        presenter.onSave( dtPresenter,
+                          commitMessage );
+
+        verify( dtService,
+                times( 1 ) ).saveModel( eq( path ),
+                                        eq( content.getModel() ),
+                                        any( Metadata.class ),
+                                        eq( commitMessage ) );
+        assertEquals( "v3",
+                      changeJournal.getBaseVersion() );
+    }
+
+    @Test
+    public void checkOnSaveModelChanges() {
+        final String commitMessage = "message";
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        changeJournal.setBaseVersion( "v1" );
+        changeJournal.recordModelChange();
+
+        when( dtService.saveModel( eq( path ),
+                                   any( GuidedDecisionTable52.class ),
+                                   any( Metadata.class ),
+                                   eq( commitMessage ) ) ).thenReturn( "v2" );
+
+        presenter.onSave( dtPresenter,
+                          commitMessage );
+
+        verify( dtService,
+                never() ).saveDelta( any( Path.class ),
+                                     any( String.class ),
+                                     any( List.class ),
+                                     any( Metadata.class ),
+                                     any( String.class ) );
+        verify( dtService,
+                times( 1 ) ).saveModel( eq( path ),
+                                        eq( content.getModel() ),
+                                        any( Metadata.class ),
+                                        eq( commitMessage ) );
+        //The content version saved allows subsequent changes to cell values to be saved alone
+        assertEquals( "v2",
+                      changeJournal.getBaseVersion() );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkOnSaveCellChangesSendsOnlyChangedCells() {
+        final String commitMessage = "message";
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( Arrays.asList( new DTCellValue52( 1 ),
+                                                         new DTCellValue52( "a" ) ) );
+        content.getModel().getData().add( Arrays.asList( new DTCellValue52( 2 ),
+                                                         new DTCellValue52( "b" ) ) );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+        changeJournal.setBaseVersion( "v1" );
+        changeJournal.recordCellChanges( Arrays.asList( new Coordinate( 0,
+                                                                        1 ),
+                                                        new Coordinate( 1,
+                                                                        0 ) ) );
+
+        presenter.onSave( dtPresenter,
+                          commitMessage );
+
+        final ArgumentCaptor<List> changesCaptor = ArgumentCaptor.forClass( List.class );
+        verify( dtService,
+                times( 1 ) ).saveDelta( eq( path ),
+                                        eq( "v1" ),
+                                        changesCaptor.capture(),
+                                        any( Metadata.class ),
+                                        eq( commitMessage ) );
+
+        final List<GuidedDecisionTableCellChange> changes = changesCaptor.getValue();
+        assertEquals( 2,
+                      changes.size() );
+        for ( GuidedDecisionTableCellChange change : changes ) {
+            assertTrue( ( change.getRowIndex() == 0 && change.getColumnIndex() == 1 )
+                                || ( change.getRowIndex() == 1 && change.getColumnIndex() == 0 ) );
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkLoadRemainingRows() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        final List<List<DTCellValue52>> data = content.getModel().getData();
+        data.add( makeRow( 1 ) );
+        data.add( makeRow( 2 ) );
+        content.setContentVersion( "v1" );
+        content.setTotalRowCount( 5 );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+
+        when( modeller.isDecisionTableAvailable( any( GuidedDecisionTableView.Presenter.class ) ) ).thenReturn( true );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 2 ),
+                                  eq( 2 ) ) ).thenReturn( Arrays.asList( makeRow( 3 ),
+                                                                         makeRow( 4 ) ) );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 4 ),
+                                  eq( 2 ) ) ).thenReturn( Collections.singletonList( makeRow( 5 ) ) );
+        doAnswer( ( invocation ) -> data.addAll( (List<List<DTCellValue52>>) invocation.getArguments()[ 0 ] ) )
+                .when( dtPresenter ).appendRows( any( List.class ),
+                                                 any( Boolean.class ) );
+
+        presenter.loadRemainingRows( dtPresenter,
+                                     content );
+
+        final InOrder inOrder = inOrder( dtPresenter );
+        inOrder.verify( dtPresenter,
+                        times( 1 ) ).appendRows( any( List.class ),
+                                                 eq( false ) );
+        inOrder.verify( dtPresenter,
+                        times( 1 ) ).appendRows( any( List.class ),
+                                                 eq( true ) );
+        assertEquals( 5,
+                      data.size() );
+    }
+
+    @Test
+    public void checkLoadRemainingRowsWhenChangedElsewhere() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( makeRow( 1 ) );
+        content.setContentVersion( "v1" );
+        content.setTotalRowCount( 2 );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+
+        when( modeller.isDecisionTableAvailable( any( GuidedDecisionTableView.Presenter.class ) ) ).thenReturn( true );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 1 ),
+                                  eq( 1 ) ) ).thenReturn( null );
+        when( dtService.loadContent( eq( path ) ) ).thenReturn( makeDecisionTableContent() );
+
+        presenter.loadRemainingRows( dtPresenter,
+                                     content );
+
+        verify( dtPresenter,
+                never() ).appendRows( any( List.class ),
+                                      any( Boolean.class ) );
+        verify( dtService,
+                times( 1 ) ).loadContent( eq( path ) );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkLoadRemainingRowsRetriesFailedPage() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        final List<List<DTCellValue52>> data = content.getModel().getData();
+        data.add( makeRow( 1 ) );
+        content.setContentVersion( "v1" );
+        content.setTotalRowCount( 2 );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+
+        when( modeller.isDecisionTableAvailable( any( GuidedDecisionTableView.Presenter.class ) ) ).thenReturn( true );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 1 ),
+                                  eq( 1 ) ) ).thenThrow( new RuntimeException( "failed" ) )
+                .thenReturn( Collections.singletonList( makeRow( 2 ) ) );
+
+        presenter.loadRemainingRows( dtPresenter,
+                                     content );
+
+        verify( dtService,
+                times( 2 ) ).loadRows( eq( path ),
+                                       eq( "v1" ),
+                                       eq( 1 ),
+                                       eq( 1 ) );
+        verify( dtPresenter,
+                times( 1 ) ).appendRows( any( List.class ),
+                                         eq( true ) );
+        verify( dtService,
+                never() ).loadContent( eq( path ) );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkLoadRemainingRowsReloadsWhenPageKeepsFailing() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( makeRow( 1 ) );
+        content.setContentVersion( "v1" );
+        content.setTotalRowCount( 2 );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+
+        when( modeller.isDecisionTableAvailable( any( GuidedDecisionTableView.Presenter.class ) ) ).thenReturn( true );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 1 ),
+                                  eq( 1 ) ) ).thenThrow( new RuntimeException( "failed" ) );
+        when( dtService.loadContent( eq( path ) ) ).thenReturn( makeDecisionTableContent() );
+
+        presenter.loadRemainingRows( dtPresenter,
+                                     content );
+
+        verify( dtService,
+                times( BaseGuidedDecisionTableEditorPresenter.MAX_LOAD_ROWS_ATTEMPTS ) ).loadRows( eq( path ),
+                                                                                                  eq( "v1" ),
+                                                                                                  eq( 1 ),
+                                                                                                  eq( 1 ) );
+        verify( dtPresenter,
+                never() ).appendRows( any( List.class ),
+                                      any( Boolean.class ) );
+        //Reloading the Decision Table replaces the partially loaded rows, so it is no longer left loading
+        verify( dtService,
+                times( 1 ) ).loadContent( eq( path ) );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkLoadRemainingRowsReloadsOnlyOnceWhenPagesAlwaysFail() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PlaceRequest placeRequest = mock( PlaceRequest.class );
+        final GuidedDecisionTableEditorContent content = makeDecisionTableContent();
+        content.getModel().getData().add( makeRow( 1 ) );
+        content.setContentVersion( "v1" );
+        content.setTotalRowCount( 2 );
+        final GuidedDecisionTableView.Presenter dtPresenter = makeDecisionTable( path,
+                                                                                 path,
+                                                                                 placeRequest,
+                                                                                 content );
+
+        //Reloading succeeds and returns the same first page, however its remaining rows can never be loaded
+        when( modeller.isDecisionTableAvailable( any( GuidedDecisionTableView.Presenter.class ) ) ).thenReturn( true );
+        when( dtService.loadRows( eq( path ),
+                                  eq( "v1" ),
+                                  eq( 1 ),
+                                  eq( 1 ) ) ).thenThrow( new RuntimeException( "failed" ) );
+
+        presenter.loadRemainingRows( dtPresenter,
+                                     content );
+
+        verify( dtService,
+                times( 1 ) ).loadContent( eq( path ) );
+        verify( dtService,
+                times( 2 * BaseGuidedDecisionTableEditorPresenter.MAX_LOAD_ROWS_ATTEMPTS ) ).loadRows( eq( path ),
+                                                                                                      eq( "v1" ),
+                                                                                                      eq( 1 ),
+                                                                                                      eq( 1 ) );
+        verify( dtPresenter,
+                never() ).appendRows( any( List.class ),
+                                      any( Boolean.class ) );
+        verify( notification,
+                times( 1 ) ).fire( any( NotificationEvent.class ) );
+    }
+
+    private List<DTCellValue52> makeRow( final int rowNumber ) {
+        return new ArrayList<DTCellValue52>( Arrays.asList( new DTCellValue52( rowNumber ),
+                                                            new DTCellValue52( "a" ) ) );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkLoadContentUsesCachedDataModel() {
+        final ObservablePath path = mock( ObservablePath.class );
+        final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
+        final GuidedDecisionTableEditorContent content1 = makeDecisionTableContent();
+        content1.setDataModel( dataModel );
+        content1.setDataModelVersion( "dmo1" );
+        final GuidedDecisionTableEditorContent content2 = makeDecisionTableContent();
+        content2.setDataModelVersion( "dmo1" );
+        final RemoteCallback<GuidedDecisionTableEditorContent> callback = mock( RemoteCallback.class );
+        final ErrorCallback<Message> errorCallback = mock( ErrorCallback.class );
+
+        //First load populates the cache
+        when( dtService.loadContent( eq( path ) ) ).thenReturn( content1 );
+        presenter.loadContent( path,
+                               callback,
+                               errorCallback );
+
+        verify( callback,
+                times( 1 ) ).callback( content1 );
+        assertEquals( dataModel,
+                      dataModelCache.getPayloads().get( "dmo1" ) );
+
+        //Second load sends the cached version and uses the cached Data Model
+        when( dtService.loadContent( eq( path ),
+                                     eq( Collections.singleton( "dmo1" ) ) ) ).thenReturn( content2 );
+        presenter.loadContent( path,
+                               callback,
+                               errorCallback );
+
+        verify( dtService,
+                times( 1 ) ).loadContent( eq( path ),
+                                          eq( Collections.singleton( "dmo1" ) ) );
+        verify( callback,
+                times( 1 ) ).callback( content2 );
+        assertSame( dataModel,
+                    content2.getDataModel() );
+    }
+
     @Test
     public void checkOnSourceTabSelected() {
         final String source = "source";
@@ -30,6 +30,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDeci
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.DecisionTableSelectedEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.guvnor.common.services.project.context.ProjectContext;
@@ -88,6 +89,7 @@ public abstract class BaseGuidedDecisionTablePresenterTest<P extends BaseGuidedD
     @Mock
     protected GuidedDecisionTableEditorService dtService;
     protected Caller<GuidedDecisionTableEditorService> dtServiceCaller;
+    protected GuidedDecisionTableDataModelCache dataModelCache = new GuidedDecisionTableDataModelCache();
 
     protected Event<NotificationEvent> notification = spy( new EventSourceMock<NotificationEvent>() {
         @Override
@@ -275,6 +277,7 @@ public abstract class BaseGuidedDecisionTablePresenterTest<P extends BaseGuidedD
         when( dtPresenter.getOverview() ).thenReturn( overview );
         when( dtPresenter.getAccess() ).thenReturn( access );
         when( dtPresenter.getView() ).thenReturn( mock( GuidedDecisionTableView.class ) );
+        when( dtPresenter.getChangeJournal() ).thenReturn( new GuidedDecisionTableChangeJournal() );
         when( overview.getMetadata() ).thenReturn( mock( Metadata.class ) );
 
         return dtPresenter;
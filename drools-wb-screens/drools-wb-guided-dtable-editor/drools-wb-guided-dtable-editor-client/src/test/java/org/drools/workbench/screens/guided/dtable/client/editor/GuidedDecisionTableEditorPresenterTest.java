@@ -44,6 +44,7 @@ public class GuidedDecisionTableEditorPresenterTest extends BaseGuidedDecisionTa
     protected GuidedDecisionTableEditorPresenter getPresenter() {
         return new GuidedDecisionTableEditorPresenter( view,
                                                        dtServiceCaller,
+                                                       dataModelCache,
                                                        notification,
                                                        decisionTableSelectedEvent,
                                                        resourceType,
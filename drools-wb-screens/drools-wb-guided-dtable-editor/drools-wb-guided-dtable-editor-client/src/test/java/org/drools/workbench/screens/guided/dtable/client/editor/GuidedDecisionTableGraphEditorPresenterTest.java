@@ -18,8 +18,10 @@ package org.drools.workbench.screens.guided.dtable.client.editor;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.enterprise.event.Event;
@@ -115,6 +117,9 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
     @Captor
     private ArgumentCaptor<DecisionTableSelectedEvent> dtSelectedEventCaptor;
 
+    @Captor
+    private ArgumentCaptor<Map<Path, GuidedDecisionTable52>> dtablesCaptor;
+
     @Captor
     private ArgumentCaptor<Path> dtPathCaptor;
 
@@ -163,6 +168,7 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
     protected GuidedDecisionTableGraphEditorPresenter getPresenter() {
         return new GuidedDecisionTableGraphEditorPresenter( view,
                                                             dtServiceCaller,
+                                                            dataModelCache,
                                                             dtGraphServiceCaller,
                                                             notification,
                                                             saveInProgressEvent,
@@ -496,7 +502,9 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
         when( dtGraphService.loadContent( eq( dtGraphPath ) ) ).thenReturn( dtGraphContent );
         when( versionRecordManager.getCurrentPath() ).thenReturn( dtGraphPath );
 
-        when( dtPresenter.getOriginalHashCode() ).thenReturn( uiModelHashCode );
+        if ( uiModelHashCode != 0 ) {
+            dtPresenter.getChangeJournal().recordModelChange();
+        }
         doReturn( makeDecisionTableGraphContent( uiModelHashCode ).getModel() ).when( presenter ).buildModelFromEditor();
 
         when( modeller.addDecisionTable( any( ObservablePath.class ),
@@ -947,6 +955,19 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
         presenter.onStartup( dtGraphPath,
                              dtGraphPlaceRequest );
 
+        final Map<Path, String> contentVersions = new HashMap<>();
+        contentVersions.put( dtPath1,
+                             "v1" );
+        contentVersions.put( dtPath2,
+                             "v2" );
+        when( dtGraphService.saveAll( eq( dtGraphPath ),
+                                      any( GuidedDecisionTableEditorGraphModel.class ),
+                                      any( Metadata.class ),
+                                      any( Map.class ),
+                                      any( Map.class ),
+                                      any( Map.class ),
+                                      eq( "message" ) ) ).thenReturn( contentVersions );
+
         presenter.saveDocumentGraphEntries();
 
         verify( savePopUpPresenter,
@@ -962,20 +983,25 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
         verify( saveInProgressEvent,
                 times( 2 ) ).fire( any( SaveInProgressEvent.class ) );
         verify( dtGraphService,
-                times( 1 ) ).save( eq( dtGraphPath ),
-                                   any( GuidedDecisionTableEditorGraphModel.class ),
-                                   any( Metadata.class ),
-                                   eq( "message" ) );
+                times( 1 ) ).saveAll( eq( dtGraphPath ),
+                                      any( GuidedDecisionTableEditorGraphModel.class ),
+                                      any( Metadata.class ),
+                                      dtablesCaptor.capture(),
+                                      any( Map.class ),
+                                      any( Map.class ),
+                                      eq( "message" ) );
         verify( dtService,
-                times( 1 ) ).save( eq( dtPath2 ),
-                                   any( GuidedDecisionTable52.class ),
-                                   any( Metadata.class ),
-                                   eq( "message" ) );
-        verify( dtService,
-                times( 1 ) ).save( eq( dtPath2 ),
-                                   any( GuidedDecisionTable52.class ),
-                                   any( Metadata.class ),
-                                   eq( "message" ) );
+                never() ).save( any( Path.class ),
+                                any( GuidedDecisionTable52.class ),
+                                any( Metadata.class ),
+                                any( String.class ) );
+        final Map<Path, GuidedDecisionTable52> dtables = dtablesCaptor.getValue();
+        assertEquals( 2,
+                      dtables.size() );
+        assertEquals( dtContent1.getModel(),
+                      dtables.get( dtPath1 ) );
+        assertEquals( dtContent2.getModel(),
+                      dtables.get( dtPath2 ) );
         verify( notificationEvent,
                 times( 1 ) ).fire( any( NotificationEvent.class ) );
         verify( dtPresenter1,
@@ -983,6 +1009,12 @@ public class GuidedDecisionTableGraphEditorPresenterTest extends BaseGuidedDecis
         verify( dtPresenter2,
                 times( 1 ) ).setConcurrentUpdateSessionInfo( eq( null ) );
         assertNull( presenter.concurrentUpdateSessionInfo );
+
+        //Content versions returned by the save are the base of subsequent delta saves
+        assertEquals( "v1",
+                      dtPresenter1.getChangeJournal().getBaseVersion() );
+        assertEquals( "v2",
+                      dtPresenter2.getChangeJournal().getBaseVersion() );
     }
 
     @Test
@@ -47,6 +47,9 @@ public class DecisionTableAnalyzerProviderTest {
     @Mock
     private AnalysisReportScreen analysisReportScreen;
 
+    @Mock
+    private AnalysisResultCache analysisResultCache;
+
     @Test
     public void defaultAnalyserSetting() throws Exception {
 
@@ -55,9 +58,11 @@ public class DecisionTableAnalyzerProviderTest {
                          "dd-MMM-yyyy" );
         ApplicationPreferences.setUp( preferences );
 
-        assertTrue( new DecisionTableAnalyzerProvider( analysisReportScreen ).newAnalyzer( mock( PlaceRequest.class ),
+        assertTrue( new DecisionTableAnalyzerProvider( analysisReportScreen,
+                                                       analysisResultCache ).newAnalyzer( mock( PlaceRequest.class ),
                                                                                            mock( AsyncPackageDataModelOracle.class ),
                                                                                            mock( GuidedDecisionTable52.class ),
+                                                                                           mock( AnalysisResultCache.KeyProvider.class ),
                                                                                            mock( EventBus.class ) ) instanceof AnalyzerControllerImpl );
 
     }
@@ -73,9 +78,11 @@ public class DecisionTableAnalyzerProviderTest {
 
         ApplicationPreferences.setUp( preferences );
 
-        assertFalse( new DecisionTableAnalyzerProvider( analysisReportScreen ).newAnalyzer( mock( PlaceRequest.class ),
+        assertFalse( new DecisionTableAnalyzerProvider( analysisReportScreen,
+                                                        analysisResultCache ).newAnalyzer( mock( PlaceRequest.class ),
                                                                                             mock( AsyncPackageDataModelOracle.class ),
                                                                                             mock( GuidedDecisionTable52.class ),
+                                                                                            mock( AnalysisResultCache.KeyProvider.class ),
                                                                                             mock( EventBus.class ) ) instanceof AnalyzerControllerImpl );
 
     }
@@ -91,9 +98,11 @@ public class DecisionTableAnalyzerProviderTest {
 
         ApplicationPreferences.setUp( preferences );
 
-        assertTrue( new DecisionTableAnalyzerProvider( analysisReportScreen ).newAnalyzer( mock( PlaceRequest.class ),
+        assertTrue( new DecisionTableAnalyzerProvider( analysisReportScreen,
+                                                       analysisResultCache ).newAnalyzer( mock( PlaceRequest.class ),
                                                                                            mock( AsyncPackageDataModelOracle.class ),
                                                                                            mock( GuidedDecisionTable52.class ),
+                                                                                           mock( AnalysisResultCache.KeyProvider.class ),
                                                                                            mock( EventBus.class ) ) instanceof AnalyzerControllerImpl );
 
     }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
+
+import java.util.ArrayList;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.testutil.ExtendedGuidedDecisionTableBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.drools.workbench.screens.guided.dtable.client.widget.analysis.testutil.TestUtil.*;
+import static org.junit.Assert.*;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class DecisionTableAnalyzerResultCacheTest
+        extends AnalyzerUpdateTestBase {
+
+    @Before
+    public void setUpTable() throws Exception {
+        table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                          new ArrayList<Import>(),
+                                                          "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", ">" )
+                .withData( new Object[][]{
+                        { 1, "description", 0 },
+                        { 2, "description", 10 }
+                } )
+                .buildTable();
+    }
+
+    @Test
+    public void resultsAreCachedWhenAnalysisCompleted() throws Exception {
+        fireUpAnalyzer();
+        analyzer.terminate();
+
+        assertEquals( 1,
+                      analyzerProvider.getResultCache().size() );
+    }
+
+    @Test
+    public void resultsAreNotCachedWhenAnalysisIncomplete() throws Exception {
+        analyzer = analyzerProvider.makeAnalyser( table52 );
+        analyzer.terminate();
+
+        assertEquals( 0,
+                      analyzerProvider.getResultCache().size() );
+    }
+
+    @Test
+    public void resultsAreNotCachedWithoutContentVersion() throws Exception {
+        analyzerProvider.setContentVersion( null );
+        fireUpAnalyzer();
+        analyzer.terminate();
+
+        assertEquals( 0,
+                      analyzerProvider.getResultCache().size() );
+    }
+
+    @Test
+    public void unchangedTableUsesCachedResults() throws Exception {
+        fireUpAnalyzer();
+        analyzer.terminate();
+        analyzerProvider.clearAnalysisReport();
+
+        analyzer = analyzerProvider.makeAnalyser( table52 );
+        analyzer.start();
+
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+    }
+
+    @Test
+    public void changedTableIsAnalysed() throws Exception {
+        fireUpAnalyzer();
+        analyzer.terminate();
+        analyzerProvider.clearAnalysisReport();
+
+        table52.getData().get( 1 ).get( 2 ).setNumericValue( 20 );
+        analyzerProvider.setContentVersion( "2" );
+
+        analyzer = analyzerProvider.makeAnalyser( table52 );
+        analyzer.start();
+
+        assertNotNull( analyzerProvider.getAnalysisReport() );
+        assertEquals( 1,
+                      analyzerProvider.getResultCache().size() );
+    }
+
+    @Test
+    public void focusWithoutChangesDoesNotReanalyse() throws Exception {
+        fireUpAnalyzer();
+        analyzerProvider.clearAnalysisReport();
+        analyzerProvider.clearStatus();
+
+        analyzer.start();
+
+        assertNull( analyzerProvider.getStatus() );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+    }
+
+    @Test
+    public void focusAfterTerminateWithoutChangesDoesNotReanalyse() throws Exception {
+        fireUpAnalyzer();
+        analyzer.terminate();
+        analyzerProvider.clearAnalysisReport();
+        analyzerProvider.clearStatus();
+
+        analyzer.start();
+
+        assertNull( analyzerProvider.getStatus() );
+        assertNotNull( analyzerProvider.getAnalysisReport() );
+    }
+
+    @Test
+    public void updateOnlyRunsChecksOfChangedRow() throws Exception {
+        fireUpAnalyzer();
+        final int allChecks = analyzerProvider.getStatus().getTotalCheckCount();
+
+        setValue( 0,
+                  2,
+                  5 );
+
+        assertTrue( analyzerProvider.getStatus().getTotalCheckCount() <= allChecks );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+
+        analyzerProvider.clearAnalysisReport();
+        analyzerProvider.clearStatus();
+        analyzer.start();
+
+        assertNull( analyzerProvider.getStatus() );
+        assertNotNull( analyzerProvider.getAnalysisReport() );
+    }
+
+    @Test
+    public void firstUpdateAfterCachedResultsRunsAllChecks() throws Exception {
+        fireUpAnalyzer();
+        analyzer.terminate();
+
+        analyzer = analyzerProvider.makeAnalyser( table52 );
+        analyzer.start();
+        analyzerProvider.clearAnalysisReport();
+
+        setValue( 0,
+                  2,
+                  5 );
+
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+    }
+
+    @Test
+    public void updateDuringFullAnalysisRunsRemainingChecks() throws Exception {
+        analyzerProvider.deferChecks();
+        fireUpAnalyzer();
+
+        //The full analysis is cancelled by the update before any of its checks have run
+        setValue( 0,
+                  2,
+                  5 );
+        analyzerProvider.runDeferredChecks();
+
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+
+        analyzerProvider.clearAnalysisReport();
+        analyzerProvider.clearStatus();
+        analyzer.start();
+
+        assertNull( analyzerProvider.getStatus() );
+        assertNotNull( analyzerProvider.getAnalysisReport() );
+    }
+
+    @Test
+    public void updateDuringIncrementalAnalysisRunsRemainingChecks() throws Exception {
+        fireUpAnalyzer();
+        setValue( 1,
+                  2,
+                  20 );
+        final int rowChecks = analyzerProvider.getStatus().getTotalCheckCount();
+        analyzerProvider.clearAnalysisReport();
+
+        //The analysis of the first update is cancelled by the second before any of its checks have run
+        analyzerProvider.deferChecks();
+        setValue( 1,
+                  2,
+                  10 );
+        setValue( 0,
+                  2,
+                  5 );
+        analyzerProvider.runDeferredChecks();
+
+        assertTrue( analyzerProvider.getStatus().getTotalCheckCount() > rowChecks );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+    }
+
+    @Test
+    public void analysisStoppedBeforeCompletionIsNotCached() throws Exception {
+        analyzerProvider.deferChecks();
+        fireUpAnalyzer();
+
+        analyzer.stop();
+        analyzerProvider.runDeferredChecks();
+        analyzer.terminate();
+
+        assertEquals( 0,
+                      analyzerProvider.getResultCache().size() );
+    }
+
+    @Test
+    public void focusAfterStoppedAnalysisRunsRemainingChecks() throws Exception {
+        analyzerProvider.deferChecks();
+        fireUpAnalyzer();
+
+        analyzer.stop();
+        analyzerProvider.runDeferredChecks();
+        analyzer.start();
+
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        1 );
+        assertContains( "RuleHasNoAction",
+                        analyzerProvider.getAnalysisReport(),
+                        2 );
+    }
+}
@@ -18,6 +18,7 @@ package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Set;
 
 import com.google.gwt.i18n.client.DateTimeFormat;
 import com.google.gwtmockito.GwtMock;
@@ -26,6 +27,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.testutil.AnalyzerProvider;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.DataBuilderProvider;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.RuleInspector;
+import org.drools.workbench.services.verifier.api.client.index.Rule;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -108,7 +110,10 @@ public class DtableRuleInspectorCacheTest {
         table52.getData().get( 5 ).remove( 4 );
         table52.getData().get( 6 ).remove( 4 );
 
-        cache.deleteColumns( 4, 1 );
+        final Set<Rule> rules = cache.deleteColumns( 4, 1 );
+
+        //Every row had a value in the removed column
+        assertEquals( 7, rules.size() );
 
         Collection<RuleInspector> all = cache.all();
         assertEquals( 7, all.size() );
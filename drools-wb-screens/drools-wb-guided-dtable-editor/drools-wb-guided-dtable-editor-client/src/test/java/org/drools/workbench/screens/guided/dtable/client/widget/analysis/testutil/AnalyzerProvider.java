@@ -16,12 +16,15 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis.testutil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.AnalysisReporter;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.AnalysisResultCache;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.DecisionTableAnalyzer;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.DecisionTableAnalyzerBuilder;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.DtableRuleInspectorCache;
@@ -40,8 +43,14 @@ import static org.mockito.Mockito.*;
 public class AnalyzerProvider {
 
     private final AsyncPackageDataModelOracle oracle;
+    private final AnalysisResultCache         resultCache = new AnalysisResultCache();
     private       AnalysisReport              analysisReport;
     private Status status;
+    private String contentVersion = "1";
+
+    //When true, analyses are held until runDeferredChecks() is called; to simulate changes during an analysis
+    private boolean deferChecks = false;
+    private final List<CancellableRepeatingCommand> deferredCommands = new ArrayList<>();
 
     public AnalyzerProvider() {
         this( mock( AsyncPackageDataModelOracle.class ) );
@@ -71,6 +80,15 @@ public class AnalyzerProvider {
         return analysisReport;
     }
 
+    public AnalysisResultCache getResultCache() {
+        return resultCache;
+    }
+
+    //Version of the persisted content being analysed; null simulates a Decision Table with unsaved changes
+    public void setContentVersion( final String contentVersion ) {
+        this.contentVersion = contentVersion;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -81,7 +99,11 @@ public class AnalyzerProvider {
                 .withPlaceRequest( mock( PlaceRequest.class ) )
                 .withReportScreen( mock( AnalysisReportScreen.class ) )
                 .withOracle( oracle )
-                .withModel( table52 );
+                .withModel( table52 )
+                .withResultCache( resultCache )
+                .withResultKeyProvider( () -> AnalysisResultCache.makeKey( "default://project/src/main/resources/mytable.gdst",
+                                                                           contentVersion,
+                                                                           "1" ) );
 
 
         return builder.build();
@@ -140,13 +162,33 @@ public class AnalyzerProvider {
         return new CheckRunner() {
             @Override
             protected void doRun( final CancellableRepeatingCommand command ) {
-                while ( command.execute() ) {
-                    //loop
+                if ( deferChecks ) {
+                    deferredCommands.add( command );
+                } else {
+                    runChecks( command );
                 }
             }
         };
     }
 
+    private void runChecks( final CancellableRepeatingCommand command ) {
+        while ( command.execute() ) {
+            //loop
+        }
+    }
+
+    public void deferChecks() {
+        deferChecks = true;
+    }
+
+    public void runDeferredChecks() {
+        deferChecks = false;
+        for ( final CancellableRepeatingCommand command : new ArrayList<>( deferredCommands ) ) {
+            runChecks( command );
+        }
+        deferredCommands.clear();
+    }
+
     public AnalyzerBuilder makeAnalyser() {
         return new AnalyzerBuilder( this );
     }
@@ -158,4 +200,8 @@ public class AnalyzerProvider {
     public void clearAnalysisReport() {
         analysisReport = null;
     }
+
+    public void clearStatus() {
+        status = null;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,6 +39,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.BRLActionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.BRLConditionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.models.guided.dtable.shared.model.LimitedEntryBRLActionColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.LimitedEntryBRLConditionColumn;
@@ -48,6 +52,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshAttributesPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshConditionsPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshMetaDataPanelEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLinkManager.LinkFoundCallback;
@@ -58,6 +63,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.uberfire.backend.vfs.ObservablePath;
@@ -65,6 +71,7 @@ import org.uberfire.backend.vfs.Path;
 import org.uberfire.client.callbacks.Callback;
 import org.uberfire.client.mvp.UpdatedLockStatusEvent;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.mvp.ParameterizedCommand;
@@ -80,6 +87,9 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
     @Captor
     private ArgumentCaptor<Map<String, String>> callbackValueCaptor;
 
+    @Captor
+    private ArgumentCaptor<Map<Coordinate, GridCellValue<?>>> cellValuesCaptor;
+
     @Before
     public void setup() {
         super.setup();
@@ -179,6 +189,72 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
                 times( 1 ) ).draw();
     }
 
+    @Test
+    public void appendRows() {
+        final GuidedDecisionTable52 model = dtPresenter.getModel();
+        final int version = dtPresenter.getChangeJournal().getVersion();
+        dtPresenter.getAccess().setLoadingRows( true );
+
+        dtPresenter.appendRows( Collections.singletonList( makeRow() ),
+                                false );
+
+        assertEquals( 4,
+                      model.getData().size() );
+        assertEquals( 4,
+                      dtPresenter.getUiModel().getRowCount() );
+        assertTrue( dtPresenter.isReadOnly() );
+        verify( dtPresenter,
+                times( 1 ) ).initialiseValidationAndVerification();
+
+        dtPresenter.appendRows( Collections.singletonList( makeRow() ),
+                                true );
+
+        assertEquals( 5,
+                      model.getData().size() );
+        assertEquals( 5,
+                      dtPresenter.getUiModel().getRowCount() );
+        assertEquals( 5,
+                      model.getData().get( 4 ).get( 0 ).getNumericValue().intValue() );
+        assertFalse( dtPresenter.isReadOnly() );
+        //Loaded rows are not changes
+        assertEquals( version,
+                      dtPresenter.getChangeJournal().getVersion() );
+        verify( dtPresenter,
+                times( 2 ) ).initialiseValidationAndVerification();
+    }
+
+    @Test
+    public void analysisResultKey() {
+        when( dtPath.toURI() ).thenReturn( "default://project/src/main/resources/mytable.gdst" );
+        final GuidedDecisionTableChangeJournal changeJournal = dtPresenter.getChangeJournal();
+
+        changeJournal.setBaseVersion( null );
+        assertNull( dtPresenter.getAnalysisResultKey() );
+
+        changeJournal.setBaseVersion( "v1" );
+        final String key = dtPresenter.getAnalysisResultKey();
+        assertNotNull( key );
+        assertTrue( key.startsWith( "default://project/src/main/resources/mytable.gdst:v1:" ) );
+
+        //Unsaved changes are not a persisted version
+        changeJournal.recordModelChange();
+        assertNull( dtPresenter.getAnalysisResultKey() );
+
+        changeJournal.markSaved( changeJournal.getVersion() );
+        changeJournal.setBaseVersion( "v2" );
+        assertNotEquals( key,
+                         dtPresenter.getAnalysisResultKey() );
+    }
+
+    private List<DTCellValue52> makeRow() {
+        final List<DTCellValue52> row = new ArrayList<DTCellValue52>();
+        row.add( new DTCellValue52( 0 ) );
+        for ( int i = 1; i < dtPresenter.getModel().getExpandedColumns().size(); i++ ) {
+            row.add( new DTCellValue52( "" ) );
+        }
+        return row;
+    }
+
     @Test
     public void testActivate() {
         dtPresenter.activate();
@@ -1414,6 +1490,8 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
 
         verify( clipboard,
                 times( 1 ) ).getData();
+        verify( synchronizer,
+                times( 1 ) ).setCells( any( Map.class ) );
     }
 
     @Test
@@ -1430,23 +1508,20 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
         uiModel.selectCell( 0,
                             1 );
 
-        final ArgumentCaptor<Integer> columnIndexCaptor = ArgumentCaptor.forClass( Integer.class );
-        final ArgumentCaptor<GridData.Range> rowRangeCaptor = ArgumentCaptor.forClass( GridData.Range.class );
-
         dtPresenter.onDeleteSelectedCells();
 
         verify( synchronizer,
-                times( 1 ) ).deleteCell( rowRangeCaptor.capture(),
-                                         columnIndexCaptor.capture() );
+                times( 1 ) ).setCells( cellValuesCaptor.capture() );
 
-        final Integer columnIndex = columnIndexCaptor.getValue();
-        final GridData.Range rowRange = rowRangeCaptor.getValue();
-        assertEquals( 0,
-                      rowRange.getMinRowIndex() );
+        final Map<Coordinate, GridCellValue<?>> values = cellValuesCaptor.getValue();
+        assertEquals( 1,
+                      values.size() );
+        final Map.Entry<Coordinate, GridCellValue<?>> value = values.entrySet().iterator().next();
         assertEquals( 0,
-                      rowRange.getMaxRowIndex() );
+                      value.getKey().getRow() );
         assertEquals( 1,
-                      columnIndex.intValue() );
+                      value.getKey().getCol() );
+        assertNull( value.getValue() );
     }
 
     @Test
@@ -1463,8 +1538,14 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
         dtPresenter.onDeleteSelectedCells();
 
         verify( synchronizer,
-                never() ).deleteCell( any( GridData.Range.class ),
-                                      any( Integer.class ) );
+                times( 1 ) ).setCells( cellValuesCaptor.capture() );
+
+        final Map<Coordinate, GridCellValue<?>> values = cellValuesCaptor.getValue();
+        assertEquals( 1,
+                      values.size() );
+        final GridCellValue<?> value = values.values().iterator().next();
+        assertNotNull( value );
+        assertFalse( (Boolean) value.getValue() );
     }
 
     @Test
@@ -1480,30 +1561,32 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
         uiModel.selectCell( 0,
                             2 );
 
-        final ArgumentCaptor<Integer> columnIndexCaptor = ArgumentCaptor.forClass( Integer.class );
-        final ArgumentCaptor<GridData.Range> rowRangeCaptor = ArgumentCaptor.forClass( GridData.Range.class );
-
         dtPresenter.onDeleteSelectedCells();
 
         verify( synchronizer,
-                times( 1 ) ).deleteCell( rowRangeCaptor.capture(),
-                                         columnIndexCaptor.capture() );
+                times( 1 ) ).setCells( cellValuesCaptor.capture() );
         verify( synchronizer,
                 never() ).deleteCell( any( GridData.Range.class ),
-                                      eq( 2 ) );
+                                      any( Integer.class ) );
         final GridCell<?> booleanCell = uiModel.getCell( 0,
                                                          2 );
         assertNotNull( booleanCell );
         assertFalse( (Boolean) booleanCell.getValue().getValue() );
 
-        final Integer columnIndex = columnIndexCaptor.getValue();
-        final GridData.Range rowRange = rowRangeCaptor.getValue();
-        assertEquals( 0,
-                      rowRange.getMinRowIndex() );
-        assertEquals( 0,
-                      rowRange.getMaxRowIndex() );
-        assertEquals( 1,
-                      columnIndex.intValue() );
+        final Map<Coordinate, GridCellValue<?>> values = cellValuesCaptor.getValue();
+        assertEquals( 2,
+                      values.size() );
+        for ( Map.Entry<Coordinate, GridCellValue<?>> value : values.entrySet() ) {
+            assertEquals( 0,
+                          value.getKey().getRow() );
+            if ( value.getKey().getCol() == 1 ) {
+                assertNull( value.getValue() );
+            } else {
+                assertEquals( 2,
+                              value.getKey().getCol() );
+                assertFalse( (Boolean) value.getValue().getValue() );
+            }
+        }
     }
 
     @Test
@@ -1511,8 +1594,7 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
         dtPresenter.onDeleteSelectedCells();
 
         verify( synchronizer,
-                never() ).deleteCell( any( GridData.Range.class ),
-                                      any( Integer.class ) );
+                never() ).setCells( any( Map.class ) );
     }
 
     @Test
@@ -42,6 +42,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshConditionsPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshMetaDataPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.lockmanager.GuidedDecisionTableLockManager;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.impl.GridWidgetColumnFactoryImpl;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
@@ -136,6 +137,7 @@ public class GuidedDecisionTablePresenter_AuditLogTest {
                                          any( ConditionCol52.class ),
                                          any( Pattern52.class ),
                                          any( ConditionCol52.class ) ) ).thenReturn( diffs );
+        when( synchronizer.getChangeJournal() ).thenReturn( new GuidedDecisionTableChangeJournal() );
     }
 
     private void setupPresenter() {
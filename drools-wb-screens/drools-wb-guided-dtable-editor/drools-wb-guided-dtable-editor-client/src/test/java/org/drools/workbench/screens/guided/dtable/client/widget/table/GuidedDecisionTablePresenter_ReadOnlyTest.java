@@ -16,6 +16,7 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table;
 
+import java.util.Map;
 import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
@@ -409,6 +410,8 @@ public class GuidedDecisionTablePresenter_ReadOnlyTest extends BaseGuidedDecisio
         verify( synchronizer,
                 never() ).deleteCell( any( GridData.Range.class ),
                                       any( Integer.class ) );
+        verify( synchronizer,
+                never() ).setCells( any( Map.class ) );
     }
 
     @Test
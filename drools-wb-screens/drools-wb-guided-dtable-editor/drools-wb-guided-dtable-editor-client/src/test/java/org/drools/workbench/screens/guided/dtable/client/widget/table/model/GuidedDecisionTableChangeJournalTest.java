@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
+
+import static org.junit.Assert.*;
+
+public class GuidedDecisionTableChangeJournalTest {
+
+    private GuidedDecisionTableChangeJournal journal;
+
+    @Before
+    public void setup() {
+        journal = new GuidedDecisionTableChangeJournal();
+    }
+
+    @Test
+    public void testInitiallyClean() {
+        assertFalse( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        assertTrue( journal.getChangedCells().isEmpty() );
+    }
+
+    @Test
+    public void testRecordCellChanges() {
+        journal.recordCellChanges( 1,
+                                   3,
+                                   Arrays.asList( 2,
+                                                  4 ) );
+
+        assertTrue( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        assertEquals( new HashSet<>( Arrays.asList( new Coordinate( 1,
+                                                                    2 ),
+                                                    new Coordinate( 1,
+                                                                    4 ),
+                                                    new Coordinate( 2,
+                                                                    2 ),
+                                                    new Coordinate( 2,
+                                                                    4 ),
+                                                    new Coordinate( 3,
+                                                                    2 ),
+                                                    new Coordinate( 3,
+                                                                    4 ) ) ),
+                      journal.getChangedCells() );
+    }
+
+    @Test
+    public void testRecordCellChangesByCoordinate() {
+        journal.recordCellChanges( Arrays.asList( new Coordinate( 0,
+                                                                  1 ),
+                                                  new Coordinate( 5,
+                                                                  3 ) ) );
+
+        assertTrue( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        //Only the changed cells are recorded; not every combination of their rows and columns
+        assertEquals( new HashSet<>( Arrays.asList( new Coordinate( 0,
+                                                                    1 ),
+                                                    new Coordinate( 5,
+                                                                    3 ) ) ),
+                      journal.getChangedCells() );
+    }
+
+    @Test
+    public void testRecordModelChange() {
+        journal.recordModelChange();
+
+        assertTrue( journal.isDirty() );
+        assertTrue( journal.isModelChanged() );
+    }
+
+    @Test
+    public void testMarkSaved() {
+        journal.recordCellChanges( 0,
+                                   0,
+                                   Collections.singleton( 1 ) );
+        journal.recordModelChange();
+
+        journal.markSaved( journal.getVersion() );
+
+        assertFalse( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        assertTrue( journal.getChangedCells().isEmpty() );
+    }
+
+    @Test
+    public void testChangesDuringSaveRemainDirty() {
+        journal.recordCellChanges( 0,
+                                   0,
+                                   Collections.singleton( 1 ) );
+        final int savingVersion = journal.getVersion();
+        journal.recordCellChanges( 5,
+                                   5,
+                                   Collections.singleton( 1 ) );
+
+        journal.markSaved( savingVersion );
+
+        assertTrue( journal.isDirty() );
+        assertTrue( journal.getChangedCells().contains( new Coordinate( 5,
+                                                                        1 ) ) );
+    }
+
+    @Test
+    public void testClear() {
+        journal.recordModelChange();
+        journal.markSaved( journal.getVersion() );
+        journal.recordModelChange();
+
+        journal.clear();
+
+        assertFalse( journal.isDirty() );
+        assertEquals( 0,
+                      journal.getVersion() );
+        assertEquals( 0,
+                      journal.getSavedVersion() );
+    }
+
+}
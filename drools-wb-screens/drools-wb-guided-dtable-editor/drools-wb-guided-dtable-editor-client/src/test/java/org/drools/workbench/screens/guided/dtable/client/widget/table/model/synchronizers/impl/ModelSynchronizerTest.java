@@ -16,8 +16,17 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableChangeJournal;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
 import org.junit.Test;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
+import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
 
 import static org.junit.Assert.*;
@@ -60,4 +69,85 @@ public class ModelSynchronizerTest extends BaseSynchronizerTest {
                                      1 ) );
     }
 
+    @Test
+    public void testSetCellsInBulk() throws ModelSynchronizer.MoveColumnVetoException {
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+
+        uiModel.setCell( 2,
+                         1,
+                         new BaseGridCellValue<String>( "old" ) );
+        final GuidedDecisionTableChangeJournal journal = modelSynchronizer.getChangeJournal();
+        journal.markSaved( journal.getVersion() );
+
+        final Map<Coordinate, GridCellValue<?>> values = new HashMap<Coordinate, GridCellValue<?>>();
+        values.put( new Coordinate( 0,
+                                    1 ),
+                    new BaseGridCellValue<String>( "value0" ) );
+        values.put( new Coordinate( 1,
+                                    1 ),
+                    new BaseGridCellValue<String>( "value1" ) );
+        values.put( new Coordinate( 2,
+                                    1 ),
+                    null );
+        uiModel.setCells( values );
+
+        assertEquals( "value0",
+                      model.getData().get( 0 ).get( 1 ).getStringValue() );
+        assertEquals( "value1",
+                      model.getData().get( 1 ).get( 1 ).getStringValue() );
+        assertNull( model.getData().get( 2 ).get( 1 ).getStringValue() );
+        assertEquals( "value0",
+                      uiModel.getCell( 0,
+                                       1 ).getValue().getValue() );
+        assertEquals( "value1",
+                      uiModel.getCell( 1,
+                                       1 ).getValue().getValue() );
+        assertNull( uiModel.getCell( 2,
+                                     1 ) );
+
+        assertTrue( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        assertEquals( new HashSet<Coordinate>( Arrays.asList( new Coordinate( 0,
+                                                                              1 ),
+                                                              new Coordinate( 1,
+                                                                              1 ),
+                                                              new Coordinate( 2,
+                                                                              1 ) ) ),
+                      journal.getChangedCells() );
+    }
+
+    @Test
+    public void testSetCellsInBulkWithNoCells() {
+        final GuidedDecisionTableChangeJournal journal = modelSynchronizer.getChangeJournal();
+
+        uiModel.setCells( Collections.<Coordinate, GridCellValue<?>>emptyMap() );
+
+        assertFalse( journal.isDirty() );
+    }
+
+    @Test
+    public void testChangeJournal() throws ModelSynchronizer.MoveColumnVetoException {
+        final GuidedDecisionTableChangeJournal journal = modelSynchronizer.getChangeJournal();
+        assertFalse( journal.isDirty() );
+
+        modelSynchronizer.appendRow();
+        assertTrue( journal.isDirty() );
+        assertTrue( journal.isModelChanged() );
+
+        journal.markSaved( journal.getVersion() );
+        assertFalse( journal.isDirty() );
+
+        uiModel.setCell( 0,
+                         1,
+                         new BaseGridCellValue<String>( "value" ) );
+
+        assertTrue( journal.isDirty() );
+        assertFalse( journal.isModelChanged() );
+        assertEquals( Collections.singleton( new Coordinate( 0,
+                                                             1 ) ),
+                      journal.getChangedCells() );
+    }
+
 }
@@ -16,12 +16,16 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.workbench.models.datamodel.oracle.DropDownData;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.common.client.api.ErrorCallback;
+import org.jboss.errai.common.client.api.RemoteCallback;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -180,4 +184,47 @@ public class EnumLoaderUtilitiesTest {
                 times( 1 ) ).batch();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkQueryExpressionDefinitionsRedrawOnceWhenAllResponsesReceived() {
+        final List<RemoteCallback<String[]>> pendingCallbacks = new ArrayList<>();
+        final Caller<EnumDropdownService> asyncCaller = mock( Caller.class );
+        when( asyncCaller.call( any( RemoteCallback.class ),
+                                any( ErrorCallback.class ) ) ).thenAnswer( ( invocation ) -> {
+            pendingCallbacks.add( (RemoteCallback<String[]>) invocation.getArguments()[ 0 ] );
+            return enumDropdownService;
+        } );
+        enumLoaderUtilities = new EnumLoaderUtilities( asyncCaller );
+
+        final Callback<Map<String, String>> callback = mock( Callback.class );
+        final DropDownData enumDefinition1 = DropDownData.create( "expression1",
+                                                                  new String[]{ "param1=a" } );
+        final DropDownData enumDefinition2 = DropDownData.create( "expression2",
+                                                                  new String[]{ "param1=a" } );
+
+        enumLoaderUtilities.getEnums( enumDefinition1,
+                                      callback,
+                                      presenter,
+                                      onFetchCommand,
+                                      onFetchCompleteCommand );
+        enumLoaderUtilities.getEnums( enumDefinition2,
+                                      callback,
+                                      presenter,
+                                      onFetchCommand,
+                                      onFetchCompleteCommand );
+
+        assertEquals( 2,
+                      pendingCallbacks.size() );
+
+        pendingCallbacks.get( 0 ).callback( new String[]{ "one" } );
+        verify( view,
+                never() ).batch();
+
+        pendingCallbacks.get( 1 ).callback( new String[]{ "two" } );
+        verify( view,
+                times( 1 ) ).batch();
+        verify( callback,
+                times( 2 ) ).callback( any( Map.class ) );
+    }
+
 }
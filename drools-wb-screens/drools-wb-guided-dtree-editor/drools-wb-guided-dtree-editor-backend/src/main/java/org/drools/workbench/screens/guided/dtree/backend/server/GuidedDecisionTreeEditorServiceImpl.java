@@ -30,10 +30,10 @@ import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
 import org.drools.workbench.screens.guided.dtree.model.GuidedDecisionTreeEditorContent;
 import org.drools.workbench.screens.guided.dtree.service.GuidedDecisionTreeEditorService;
 import org.drools.workbench.screens.guided.dtree.type.GuidedDTreeResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -83,7 +83,7 @@ public class GuidedDecisionTreeEditorServiceImpl
     private DataModelService dataModelService;
 
     @Inject
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
@@ -129,11 +129,21 @@ public class GuidedDecisionTreeEditorServiceImpl
 
     @Override
     public GuidedDecisionTree load( final Path path ) {
+        try {
+            return load( path,
+                         dataModelService.getDataModel( path ) );
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
+    private GuidedDecisionTree load( final Path path,
+                                     final PackageDataModelOracle oracle ) {
         try {
             final String drl = ioService.readAllString( Paths.convert( path ) );
             final String baseFileName = FileNameUtil.removeExtension( path,
                                                                       resourceType );
-            final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
             final GuidedDecisionTree model = GuidedDecisionTreeDRLPersistence.getInstance().unmarshal( drl,
                                                                                                        baseFileName,
                                                                                                        oracle );
@@ -153,8 +163,10 @@ public class GuidedDecisionTreeEditorServiceImpl
     @Override
     protected GuidedDecisionTreeEditorContent constructContent( Path path,
                                                                 Overview overview ) {
-        final GuidedDecisionTree model = load( path );
+        //The same DataModelOracle is used to unmarshal the model and populate the client-side payload
         final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
+        final GuidedDecisionTree model = load( path,
+                                               oracle );
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
         //Get FQCN's used by model
@@ -20,7 +20,7 @@ import javax.inject.Inject;
 
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
 import org.drools.workbench.screens.guided.dtree.type.GuidedDTreeResourceTypeDefinition;
-import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
 import org.uberfire.backend.server.util.Paths;
@@ -30,7 +30,7 @@ import org.uberfire.java.nio.file.Path;
 public class GuidedDecisionTreeFileIndexer extends AbstractDrlFileIndexer {
 
     @Inject
-    private DataModelService dataModelService;
+    private IndexingProjectDataModelOracleCache dataModelCache;
 
     @Inject
     protected GuidedDTreeResourceTypeDefinition type;
@@ -53,7 +53,7 @@ public class GuidedDecisionTreeFileIndexer extends AbstractDrlFileIndexer {
      */
     @Override
     protected ProjectDataModelOracle getProjectDataModelOracle( final Path path ) {
-        return dataModelService.getProjectDataModel( Paths.convert( path ) );
+        return dataModelCache.getProjectDataModel( Paths.convert( path ) );
     }
 
 }
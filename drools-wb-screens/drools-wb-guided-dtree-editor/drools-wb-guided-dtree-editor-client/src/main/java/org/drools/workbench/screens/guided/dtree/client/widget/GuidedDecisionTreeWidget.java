@@ -33,6 +33,7 @@ import com.ait.lienzo.client.core.shape.Text;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.shared.core.types.TextAlign;
 import com.ait.lienzo.shared.core.types.TextBaseLine;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.user.client.Window;
 import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
 import org.drools.workbench.models.guided.dtree.shared.model.nodes.ActionInsertNode;
@@ -74,6 +75,9 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     private static final int ANIMATION_DURATION = 250;
 
+    //Shapes moved by less than this (in pixels) are not animated
+    private static final double MIN_DISPLACEMENT = 0.5;
+
     @Inject
     private Event<ClearEvent> clearEvent;
 
@@ -115,6 +119,7 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     private Group hint = null;
     private boolean isGettingStartedHintVisible = false;
+    private boolean isLayoutScheduled = false;
 
     @Override
     public void init( final GuidedDecisionTreeEditorPresenter presenter ) {
@@ -270,7 +275,7 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
             shapeDeletedEvent.fire( new ShapeDeletedEvent( shape ) );
 
-            layout();
+            scheduleLayout();
         }
     }
 
@@ -302,7 +307,7 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
             hideGettingStartedHint();
         }
 
-        layout();
+        scheduleLayout();
     }
 
     public void setModel( final GuidedDecisionTree model,
@@ -421,32 +426,49 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         return uiProspectiveParent;
     }
 
+    //Shapes are added and deleted one at a time (e.g. when deleting a node with children); so defer layout until all have been processed
+    private void scheduleLayout() {
+        if ( isLayoutScheduled ) {
+            return;
+        }
+        isLayoutScheduled = true;
+        Scheduler.get().scheduleDeferred( new Scheduler.ScheduledCommand() {
+            @Override
+            public void execute() {
+                isLayoutScheduled = false;
+                layout();
+            }
+        } );
+    }
+
     private void layout() {
+        if ( uiRoot == null ) {
+            canvasLayer.batch();
+            return;
+        }
+
         //Get layout information
         final Map<WiresBaseShape, Point2D> layout = layoutManager.getLayoutInformation( uiRoot );
         final Rectangle2D canvasBounds = WiresLayoutUtilities.alignLayoutInCanvas( layout );
 
+        //Only shapes whose position has changed need to be animated
+        final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = getTransformations( layout );
+        if ( transformations.isEmpty() ) {
+            WiresLayoutUtilities.resizeViewPort( canvasBounds,
+                                                 canvasLayer.getViewport() );
+            canvasLayer.batch();
+            return;
+        }
+
         //Run an animation to move WiresBaseTreeNodes from their current position to the target position
         uiRoot.animate( AnimationTweener.EASE_OUT,
                         new AnimationProperties(),
                         ANIMATION_DURATION,
                         new IAnimationCallback() {
 
-                            private final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = new HashMap<WiresBaseShape, Pair<Point2D, Point2D>>();
-
                             @Override
                             public void onStart( final IAnimation iAnimation,
                                                  final IAnimationHandle iAnimationHandle ) {
-                                //Reposition nodes. First we store the WiresBaseTreeNode together with its current position and target position
-                                transformations.clear();
-                                for ( Map.Entry<WiresBaseShape, Point2D> e : layout.entrySet() ) {
-                                    final Point2D origin = e.getKey().getLocation();
-                                    final Point2D destination = new Point2D( e.getValue().getX(),
-                                                                             e.getValue().getY() );
-                                    transformations.put( e.getKey(),
-                                                         new Pair<Point2D, Point2D>( origin,
-                                                                                     destination ) );
-                                }
                                 WiresLayoutUtilities.resizeViewPort( canvasBounds,
                                                                      canvasLayer.getViewport() );
                             }
@@ -481,6 +503,24 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         canvasLayer.batch();
     }
 
+    //Store the WiresBaseTreeNodes whose position has changed together with their current position and target position
+    private Map<WiresBaseShape, Pair<Point2D, Point2D>> getTransformations( final Map<WiresBaseShape, Point2D> layout ) {
+        final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = new HashMap<WiresBaseShape, Pair<Point2D, Point2D>>();
+        for ( Map.Entry<WiresBaseShape, Point2D> e : layout.entrySet() ) {
+            final Point2D origin = e.getKey().getLocation();
+            final Point2D destination = new Point2D( e.getValue().getX(),
+                                                     e.getValue().getY() );
+            if ( Math.abs( origin.getX() - destination.getX() ) < MIN_DISPLACEMENT
+                    && Math.abs( origin.getY() - destination.getY() ) < MIN_DISPLACEMENT ) {
+                continue;
+            }
+            transformations.put( e.getKey(),
+                                 new Pair<Point2D, Point2D>( origin,
+                                                             destination ) );
+        }
+        return transformations;
+    }
+
     private void showGettingStartedHint() {
         if ( isGettingStartedHintVisible ) {
             return;
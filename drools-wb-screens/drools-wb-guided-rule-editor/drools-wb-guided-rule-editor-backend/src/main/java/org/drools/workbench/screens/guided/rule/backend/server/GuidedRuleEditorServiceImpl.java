@@ -31,10 +31,10 @@ import org.drools.workbench.screens.guided.rule.model.GuidedEditorContent;
 import org.drools.workbench.screens.guided.rule.service.GuidedRuleEditorService;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDRLResourceTypeDefinition;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDSLRResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -89,7 +89,7 @@ public class GuidedRuleEditorServiceImpl
     private GuidedRuleDSLRResourceTypeDefinition dslrResourceType;
 
     @Inject
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
@@ -138,10 +138,20 @@ public class GuidedRuleEditorServiceImpl
 
     @Override
     public RuleModel load( final Path path ) {
+        try {
+            return load( path,
+                         dataModelService.getDataModel( path ) );
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
+    private RuleModel load( final Path path,
+                            final PackageDataModelOracle oracle ) {
         try {
             final String drl = ioService.readAllString( Paths.convert( path ) );
             final List<String> globals = utilities.loadGlobalsForPackage( path );
-            final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
 
             RuleModel ruleModel = null;
             if ( dslrResourceType.accept( path ) ) {
@@ -171,8 +181,10 @@ public class GuidedRuleEditorServiceImpl
     @Override
     protected GuidedEditorContent constructContent( Path path,
                                                     Overview overview ) {
-        final RuleModel model = load( path );
+        //The same DataModelOracle is used to unmarshal the model and populate the client-side payload
         final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
+        final RuleModel model = load( path,
+                                      oracle );
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
         //Get FQCN's used by model
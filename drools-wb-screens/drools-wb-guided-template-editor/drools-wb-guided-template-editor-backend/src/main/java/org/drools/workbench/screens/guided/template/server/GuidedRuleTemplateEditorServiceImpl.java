@@ -31,10 +31,10 @@ import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleModelVi
 import org.drools.workbench.screens.guided.template.model.GuidedTemplateEditorContent;
 import org.drools.workbench.screens.guided.template.service.GuidedRuleTemplateEditorService;
 import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.message.Level;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
@@ -81,7 +81,7 @@ public class GuidedRuleTemplateEditorServiceImpl
     private DataModelService dataModelService;
 
     @Inject
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     @Inject
     private GuidedRuleTemplateResourceTypeDefinition resourceTypeDefinition;
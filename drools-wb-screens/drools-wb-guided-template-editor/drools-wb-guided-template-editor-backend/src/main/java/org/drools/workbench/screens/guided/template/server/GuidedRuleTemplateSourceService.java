@@ -81,6 +81,12 @@ public class GuidedRuleTemplateSourceService
                 return "";
             } else {
                 final String dslr = RuleTemplateModelDRLPersistenceImpl.getInstance().marshal(model);
+
+                //Templates without DSL sentences generate plain DRL; don't load the package's DSLs
+                //or make another copy of what can be a very large String by expanding it
+                if (!model.hasDSLSentences()) {
+                    return dslr;
+                }
                 final Expander expander = getDSLExpander(path);
                 final String drl = expander.expand(dslr);
                 return drl;
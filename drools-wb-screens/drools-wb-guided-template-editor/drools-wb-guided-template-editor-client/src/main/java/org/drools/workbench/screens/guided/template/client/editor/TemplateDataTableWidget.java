@@ -157,8 +157,11 @@ public class TemplateDataTableWidget extends Composite
 
     public void onCopyRows( CopyRowsEvent event ) {
         copiedRows.clear();
+
+        //Materialise the table once; TemplateModel builds a new array on every call
+        final String[][] tableData = model.getTableAsArray();
         for ( Integer iRow : event.getRowIndexes() ) {
-            String[] rowData = model.getTableAsArray()[ iRow ];
+            String[] rowData = tableData[ iRow ];
             copiedRows.add( rowData );
         }
     }
@@ -168,8 +171,9 @@ public class TemplateDataTableWidget extends Composite
             return;
         }
         int iRow = event.getTargetRowIndex();
+        final String[] defaultRowData = cellValueFactory.makeRowData().toArray( new String[ 0 ] );
         for ( String[] sourceRowData : copiedRows ) {
-            String[] rowData = cellValueFactory.makeRowData().toArray( new String[ 0 ] );
+            String[] rowData = defaultRowData.clone();
             for ( int iCol = 0; iCol < sourceRowData.length; iCol++ ) {
                 rowData[ iCol ] = sourceRowData[ iCol ];
             }
@@ -195,6 +199,14 @@ public class TemplateDataTableWidget extends Composite
 
         //Copy data into the underlying model
         Map<Coordinate, List<List<CellValue<? extends Comparable<?>>>>> updates = event.getUpdates();
+        if ( updates.isEmpty() ) {
+            return;
+        }
+
+        //Resolving InterpolationVariables visits the whole RuleModel, so only do it once per event
+        final InterpolationVariable[] vars = model.getInterpolationVariablesList();
+        final TemplateDataColumn[] columns = new TemplateDataColumn[ vars.length ];
+
         for ( Map.Entry<Coordinate, List<List<CellValue<? extends Comparable<?>>>>> e : updates.entrySet() ) {
 
             //Coordinate of change
@@ -205,8 +217,6 @@ public class TemplateDataTableWidget extends Composite
             //Changed data
             List<List<CellValue<? extends Comparable<?>>>> data = e.getValue();
 
-            InterpolationVariable[] vars = model.getInterpolationVariablesList();
-
             for ( int iRow = 0; iRow < data.size(); iRow++ ) {
                 List<CellValue<? extends Comparable<?>>> rowData = data.get( iRow );
                 int targetRowIndex = originRowIndex + iRow;
@@ -215,10 +225,14 @@ public class TemplateDataTableWidget extends Composite
                     CellValue<? extends Comparable<?>> changedCell = rowData.get( iCol );
 
                     InterpolationVariable var = vars[ targetColumnIndex ];
-                    TemplateDataColumn col = new TemplateDataColumn( var.getVarName(),
-                                                                     var.getDataType(),
-                                                                     var.getFactType(),
-                                                                     var.getFactField() );
+                    TemplateDataColumn col = columns[ targetColumnIndex ];
+                    if ( col == null ) {
+                        col = new TemplateDataColumn( var.getVarName(),
+                                                      var.getDataType(),
+                                                      var.getFactType(),
+                                                      var.getFactField() );
+                        columns[ targetColumnIndex ] = col;
+                    }
 
                     String dcv = cellValueFactory.convertToModelCell( col,
                                                                       changedCell );
@@ -112,7 +112,8 @@ public class TemplateDropDownManager
         for ( RuleModelPeerVariableVisitor.ValueHolder valueHolder : peerVariables ) {
             switch ( valueHolder.getType() ) {
                 case TEMPLATE_KEY:
-                    final int iCol = getVariableColumnIndex( valueHolder.getValue() );
+                    final int iCol = getVariableColumnIndex( allVariables,
+                                                             valueHolder.getValue() );
                     final InterpolationVariable variable = allVariables[ iCol ];
                     final String field = variable.getFactField();
 
@@ -135,8 +136,8 @@ public class TemplateDropDownManager
         return currentValueMap;
     }
 
-    private int getVariableColumnIndex( final String variableName ) {
-        final InterpolationVariable[] allVariables = this.model.getInterpolationVariablesList();
+    private int getVariableColumnIndex( final InterpolationVariable[] allVariables,
+                                        final String variableName ) {
         for ( int iCol = 0; iCol < allVariables.length; iCol++ ) {
             final InterpolationVariable var = allVariables[ iCol ];
             if ( var.getVarName().equals( variableName ) ) {
@@ -167,7 +168,8 @@ public class TemplateDropDownManager
         for ( RuleModelPeerVariableVisitor.ValueHolder valueHolder : peerVariables ) {
             switch ( valueHolder.getType() ) {
                 case TEMPLATE_KEY:
-                    final int iCol = getVariableColumnIndex( valueHolder.getValue() );
+                    final int iCol = getVariableColumnIndex( allVariables,
+                                                             valueHolder.getValue() );
                     final InterpolationVariable variable = allVariables[ iCol ];
                     final String field = variable.getFactField();
 
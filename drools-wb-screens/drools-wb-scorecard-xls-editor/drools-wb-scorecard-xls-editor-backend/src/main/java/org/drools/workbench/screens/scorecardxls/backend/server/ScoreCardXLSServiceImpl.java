@@ -28,10 +28,10 @@ import javax.inject.Named;
 import org.apache.commons.io.IOUtils;
 import org.drools.workbench.screens.scorecardxls.service.ScoreCardXLSContent;
 import org.drools.workbench.screens.scorecardxls.service.ScoreCardXLSService;
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
 import org.jboss.errai.bus.server.annotations.Service;
@@ -66,7 +66,7 @@ public class ScoreCardXLSServiceImpl
     private DeleteService deleteService;
     private RenameService renameService;
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
     private CommentedOptionFactory commentedOptionFactory;
     private AuthenticationService authenticationService;
 
@@ -79,7 +79,7 @@ public class ScoreCardXLSServiceImpl
                                     final DeleteService deleteService,
                                     final RenameService renameService,
                                     final Event<ResourceOpenedEvent> resourceOpenedEvent,
-                                    final GenericValidator genericValidator,
+                                    final CachingGenericValidator genericValidator,
                                     final CommentedOptionFactory commentedOptionFactory,
                                     final AuthenticationService authenticationService ) {
         this.ioService = ioService;
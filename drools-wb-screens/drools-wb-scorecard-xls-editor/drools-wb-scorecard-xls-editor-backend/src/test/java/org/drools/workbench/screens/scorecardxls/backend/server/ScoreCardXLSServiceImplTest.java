@@ -21,9 +21,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import javax.enterprise.event.Event;
 
+import org.drools.workbench.services.validation.backend.server.CachingGenericValidator;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
 import org.guvnor.common.services.backend.util.CommentedOptionFactoryImpl;
-import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.jboss.errai.security.shared.api.identity.User;
 import org.jboss.errai.security.shared.service.AuthenticationService;
 import org.junit.Before;
@@ -63,7 +63,7 @@ public class ScoreCardXLSServiceImplTest {
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
 
     @Mock
-    private GenericValidator genericValidator;
+    private CachingGenericValidator genericValidator;
 
     private CommentedOptionFactory commentedOptionFactory = new CommentedOptionFactoryImpl();
 
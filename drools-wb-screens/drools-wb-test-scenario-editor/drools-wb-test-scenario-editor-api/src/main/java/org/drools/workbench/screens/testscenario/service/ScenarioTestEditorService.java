@@ -16,6 +16,7 @@
 
 package org.drools.workbench.screens.testscenario.service;
 
+import java.util.Set;
 import javax.enterprise.event.Event;
 
 import org.drools.workbench.models.testscenarios.shared.Scenario;
@@ -53,4 +54,17 @@ public interface ScenarioTestEditorService
     TestScenarioResult runScenario(Path path,
                                    Scenario scenario);
 
+    /**
+     * Run the Scenarios in the package affected by the given changes. Results are reported as for
+     * {@link TestService#runAllTests(Path)}.
+     * @param path Path of the package containing the Scenarios
+     * @param changedRuleNames Names of Rules that have changed
+     * @param changedFactTypes Fully qualified names of Fact Types that have changed
+     * @param fallbackToAllTests If true all Scenarios are run when no changes are provided
+     */
+    void runImpactedTests( Path path,
+                           Set<String> changedRuleNames,
+                           Set<String> changedFactTypes,
+                           boolean fallbackToAllTests );
+
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.drools.workbench.screens.testscenario.backend.server.indexing.TestScenarioIndexVisitor;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
+import org.guvnor.common.services.project.model.Package;
+import org.guvnor.common.services.project.model.Project;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.ResourceReference;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Selects the Scenarios affected by a set of changed Rules and Fact Types. A Scenario is affected if any of the
+ * references {@link TestScenarioIndexVisitor} records for the index, or any Rule it explicitly includes, matches a
+ * changed Rule name or fully qualified Fact Type name. Callers should include the Fact Types referenced by changed
+ * Rules so that Scenarios exercising a changed Rule through its Facts are selected even when they do not name it.
+ */
+@ApplicationScoped
+public class ScenarioImpactAnalyzer {
+
+    private KieProjectService projectService;
+    private IndexingProjectDataModelOracleCache dataModelCache;
+
+    public ScenarioImpactAnalyzer() {
+        //CDI proxy
+    }
+
+    @Inject
+    public ScenarioImpactAnalyzer( final KieProjectService projectService,
+                                   final IndexingProjectDataModelOracleCache dataModelCache ) {
+        this.projectService = projectService;
+        this.dataModelCache = dataModelCache;
+    }
+
+    /**
+     * @return true if no changes have been provided and hence the impact cannot be determined
+     */
+    public static boolean isEmpty( final Set<String> changedRuleNames,
+                                   final Set<String> changedFactTypes ) {
+        return ( changedRuleNames == null || changedRuleNames.isEmpty() )
+                && ( changedFactTypes == null || changedFactTypes.isEmpty() );
+    }
+
+    /**
+     * @param path Path of the package containing the Scenarios, used to resolve the Project's data model
+     * @param scenarios Scenarios to filter
+     * @param changedRuleNames Names of Rules that have changed
+     * @param changedFactTypes Fully qualified names of Fact Types that have changed
+     * @return The Scenarios, in their original order, affected by the changes
+     */
+    public List<Scenario> getImpactedScenarios( final Path path,
+                                                final List<Scenario> scenarios,
+                                                final Set<String> changedRuleNames,
+                                                final Set<String> changedFactTypes ) {
+        final List<Scenario> impacted = new ArrayList<Scenario>();
+        if ( isEmpty( changedRuleNames,
+                      changedFactTypes ) || scenarios.isEmpty() ) {
+            return impacted;
+        }
+
+        final ProjectDataModelOracle dmo = dataModelCache.getProjectDataModel( path );
+        final Project project = projectService.resolveProject( path );
+        final Package pkg = projectService.resolvePackage( path );
+
+        for ( Scenario scenario : scenarios ) {
+            if ( isImpacted( new TestScenarioIndexVisitor( dmo,
+                                                           new DefaultIndexBuilder( project,
+                                                                                    pkg ),
+                                                           scenario ),
+                             scenario,
+                             nullToEmpty( changedRuleNames ),
+                             nullToEmpty( changedFactTypes ) ) ) {
+                impacted.add( scenario );
+            }
+        }
+        return impacted;
+    }
+
+    private boolean isImpacted( final TestScenarioIndexVisitor visitor,
+                                final Scenario scenario,
+                                final Set<String> changedRuleNames,
+                                final Set<String> changedFactTypes ) {
+        //Rules explicitly included in the Scenario's execution are not part of the index
+        if ( scenario.isInclusive() && !Collections.disjoint( scenario.getRules(),
+                                                              changedRuleNames ) ) {
+            return true;
+        }
+
+        visitor.visit();
+        for ( ResourceReference reference : visitor.getResourceReferences() ) {
+            if ( ResourceType.RULE.equals( reference.getResourceType() ) && changedRuleNames.contains( reference.getResourceFQN() ) ) {
+                return true;
+            }
+            if ( ResourceType.JAVA.equals( reference.getResourceType() ) && changedFactTypes.contains( reference.getResourceFQN() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> nullToEmpty( final Set<String> values ) {
+        return ( values == null ? Collections.<String>emptySet() : values );
+    }
+
+}
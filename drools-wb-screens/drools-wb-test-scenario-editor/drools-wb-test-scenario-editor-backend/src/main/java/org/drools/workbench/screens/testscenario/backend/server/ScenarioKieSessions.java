@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.api.runtime.KieSession;
+import org.kie.workbench.common.services.backend.session.SessionService;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The KieSessions used by a single run of one or more Scenarios. At most one KieSession is created for each
+ * distinct KieSession name, however many Scenarios use it. All KieSessions are disposed when the run completes
+ * so that their working memory does not outlive the run. The time taken to create the KieSessions and the
+ * memory retained by them at the end of the run are logged.
+ */
+public class ScenarioKieSessions {
+
+    private static final Logger logger = LoggerFactory.getLogger( ScenarioKieSessions.class );
+
+    static final String DEFAULT_KIE_SESSION_NAME = "defaultKieSession";
+
+    private final SessionService sessionService;
+    private final KieProject project;
+
+    private final Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
+
+    private long creationTime = 0;
+    private long usedMemoryBeforeCreation = -1;
+
+    public ScenarioKieSessions( final SessionService sessionService,
+                                final KieProject project ) {
+        this.sessionService = sessionService;
+        this.project = project;
+    }
+
+    /**
+     * Get the KieSession with the given name, creating it if it has not already been created for this run.
+     * @param ksessionName Name of the KieSession. Null, or "defaultKieSession", is the default KieSession.
+     * @return The KieSession or null if it could not be created.
+     */
+    public KieSession get( final String ksessionName ) {
+        if ( ksessions.containsKey( ksessionName ) ) {
+            return ksessions.get( ksessionName );
+        }
+        if ( usedMemoryBeforeCreation < 0 ) {
+            usedMemoryBeforeCreation = getUsedMemory();
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final KieSession ksession = loadKSession( ksessionName );
+        creationTime = creationTime + ( System.currentTimeMillis() - startTime );
+
+        ksessions.put( ksessionName,
+                       ksession );
+        return ksession;
+    }
+
+    /**
+     * @return The KieSessions created for this run, keyed by KieSession name.
+     */
+    public Map<String, KieSession> getKSessions() {
+        return ksessions;
+    }
+
+    /**
+     * @return Total time, in milliseconds, spent creating KieSessions for this run.
+     */
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    /**
+     * Dispose all KieSessions created for this run, logging their creation time and retained memory.
+     */
+    public void dispose() {
+        long factCount = 0;
+        for ( KieSession ksession : ksessions.values() ) {
+            if ( ksession != null ) {
+                factCount = factCount + ksession.getFactCount();
+            }
+        }
+        if ( logger.isDebugEnabled() && !ksessions.isEmpty() ) {
+            logger.debug( "Created " + ksessions.size() + " KieSession(s) in " + creationTime + "ms. "
+                                  + "Retained " + factCount + " fact(s) and approximately " + ( getUsedMemory() - usedMemoryBeforeCreation ) + " bytes of heap." );
+        }
+
+        for ( Map.Entry<String, KieSession> e : ksessions.entrySet() ) {
+            final KieSession ksession = e.getValue();
+            if ( ksession == null ) {
+                continue;
+            }
+            try {
+                ksession.dispose();
+            } catch ( Exception ex ) {
+                logger.warn( "Unable to dispose KieSession '" + e.getKey() + "'.",
+                             ex );
+            }
+        }
+        ksessions.clear();
+    }
+
+    private KieSession loadKSession( final String ksessionName ) {
+        try {
+            if ( ksessionName == null || ksessionName.equals( DEFAULT_KIE_SESSION_NAME ) ) {
+                return sessionService.newDefaultKieSessionWithPseudoClock( project );
+            } else {
+                return sessionService.newKieSession( project,
+                                                     ksessionName );
+            }
+        } catch ( Exception e ) {
+            // If for one reason or another we can not load the ksession. Return null
+            return null;
+        }
+    }
+
+    private static long getUsedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
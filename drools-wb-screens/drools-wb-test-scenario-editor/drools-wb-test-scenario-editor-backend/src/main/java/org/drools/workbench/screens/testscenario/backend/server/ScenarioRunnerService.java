@@ -16,9 +16,8 @@
 package org.drools.workbench.screens.testscenario.backend.server;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
@@ -42,7 +41,6 @@ import org.junit.runner.Result;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
 import org.junit.runners.model.InitializationError;
-import org.kie.api.runtime.KieSession;
 import org.kie.workbench.common.services.backend.session.SessionService;
 import org.kie.workbench.common.services.shared.project.KieProject;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
@@ -60,6 +58,7 @@ public class ScenarioRunnerService
     private   SessionService           sessionService;
     private   Event<TestResultMessage> defaultTestResultMessageEvent;
     private   ConfigurationService     configurationService;
+    private   ScenarioImpactAnalyzer   impactAnalyzer;
     protected User                     identity;
 
     public ScenarioRunnerService() {
@@ -71,28 +70,29 @@ public class ScenarioRunnerService
                                  final SessionService sessionService,
                                  final KieProjectService projectService,
                                  final ScenarioLoader scenarioLoader,
+                                 final ScenarioImpactAnalyzer impactAnalyzer,
                                  final User identity) {
         this.configurationService = configurationService;
         this.defaultTestResultMessageEvent = defaultTestResultMessageEvent;
         this.sessionService = sessionService;
         this.projectService = projectService;
         this.scenarioLoader = scenarioLoader;
+        this.impactAnalyzer = impactAnalyzer;
         this.identity = identity;
     }
 
     public TestScenarioResult run(final Scenario scenario,
                                   final KieProject project) {
+        final ScenarioKieSessions ksessions = new ScenarioKieSessions(sessionService, project);
         try {
 
-            HashMap<String, KieSession> ksessions = new HashMap<String, KieSession>();
-            String ksessionName = getKSessionName(scenario.getKSessions());
-            ksessions.put(ksessionName, loadKSession(project, ksessionName));
+            ksessions.get(getKSessionName(scenario.getKSessions()));
 
-            AuditLogger auditLogger = new AuditLogger(ksessions);
+            AuditLogger auditLogger = new AuditLogger(ksessions.getKSessions());
 
             ScenarioRunner4JUnit scenarioRunner = new ScenarioRunner4JUnit(
                     scenario,
-                    ksessions,
+                    ksessions.getKSessions(),
                     getMaxRuleFirings());
 
             run(scenarioRunner, defaultTestResultMessageEvent);
@@ -101,6 +101,8 @@ public class ScenarioRunnerService
 
         } catch (InitializationError initializationError) {
             throw new GenericPortableException(initializationError.getMessage());
+        } finally {
+            ksessions.dispose();
         }
     }
 
@@ -112,17 +114,73 @@ public class ScenarioRunnerService
     @Override
     public void runAllTests(Path path, Event<TestResultMessage> customTestResultEvent) {
         try {
-            List<Scenario> scenarios = scenarioLoader.loadScenarios(path);
+            runScenarios(path, scenarioLoader.loadScenarios(path), customTestResultEvent);
 
+        } catch (Exception e) {
+            throw ExceptionUtilities.handleException(e);
+        }
+    }
+
+    /**
+     * Run only the Scenarios affected by the given changes. See {@link ScenarioImpactAnalyzer}.
+     * @param path Path of the package containing the Scenarios
+     * @param changedRuleNames Names of Rules that have changed
+     * @param changedFactTypes Fully qualified names of Fact Types that have changed, including those referenced by changed Rules
+     * @param fallbackToAllTests If true all Scenarios are run when no changes are provided
+     */
+    public void runImpactedTests(final Path path,
+                                 final Set<String> changedRuleNames,
+                                 final Set<String> changedFactTypes,
+                                 final boolean fallbackToAllTests) {
+        runImpactedTests(path, changedRuleNames, changedFactTypes, fallbackToAllTests, defaultTestResultMessageEvent);
+    }
+
+    public void runImpactedTests(final Path path,
+                                 final Set<String> changedRuleNames,
+                                 final Set<String> changedFactTypes,
+                                 final boolean fallbackToAllTests,
+                                 final Event<TestResultMessage> customTestResultEvent) {
+        try {
+            final List<Scenario> scenarios = scenarioLoader.loadScenarios(path);
+
+            if (ScenarioImpactAnalyzer.isEmpty(changedRuleNames, changedFactTypes) && fallbackToAllTests) {
+                runScenarios(path, scenarios, customTestResultEvent);
+            } else {
+                runScenarios(path,
+                             impactAnalyzer.getImpactedScenarios(path, scenarios, changedRuleNames, changedFactTypes),
+                             customTestResultEvent);
+            }
+
+        } catch (Exception e) {
+            throw ExceptionUtilities.handleException(e);
+        }
+    }
+
+    private void runScenarios(final Path path,
+                              final List<Scenario> scenarios,
+                              final Event<TestResultMessage> testResultMessageEvent) throws InitializationError {
+        //Nothing to run; report an empty result rather than building KieSessions
+        if (scenarios.isEmpty()) {
+            testResultMessageEvent.fire(
+                    new TestResultMessage(
+                            identity.getIdentifier(),
+                            0,
+                            0,
+                            new ArrayList<org.guvnor.common.services.shared.test.Failure>()));
+            return;
+        }
+
+        final ScenarioKieSessions ksessions = getKSessions(path, scenarios);
+        try {
             ScenarioRunner4JUnit scenarioRunner = new ScenarioRunner4JUnit(
                     scenarios,
-                    getKSessions(path, scenarios),
+                    ksessions.getKSessions(),
                     getMaxRuleFirings());
 
-            run(scenarioRunner, customTestResultEvent);
+            run(scenarioRunner, testResultMessageEvent);
 
-        } catch (Exception e) {
-            throw ExceptionUtilities.handleException(e);
+        } finally {
+            ksessions.dispose();
         }
     }
 
@@ -166,30 +224,12 @@ public class ScenarioRunnerService
         return 0;
     }
 
-    private Map<String, KieSession> getKSessions(Path path, List<Scenario> scenarios) {
-        Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
+    private ScenarioKieSessions getKSessions(Path path, List<Scenario> scenarios) {
+        ScenarioKieSessions ksessions = new ScenarioKieSessions(sessionService, projectService.resolveProject(path));
         for (Scenario scenario : scenarios) {
-            String ksessionName = getKSessionName(scenario.getKSessions());
-            ksessions.put(ksessionName, loadKSession(projectService.resolveProject(path), ksessionName));
+            ksessions.get(getKSessionName(scenario.getKSessions()));
         }
         return ksessions;
     }
 
-    private KieSession loadKSession(KieProject project, String ksessionName) {
-        KieSession ksession = null;
-        try {
-            if (ksessionName == null || ksessionName.equals("defaultKieSession")) {
-                ksession = sessionService.newDefaultKieSessionWithPseudoClock(project);
-            } else {
-                ksession = sessionService.newKieSession(project, ksessionName);
-            }
-        } catch (Exception e) {
-            // If for one reason or another we can not load the ksession. Return null
-            return null;
-        }
-
-        return ksession;
-
-    }
-
 }
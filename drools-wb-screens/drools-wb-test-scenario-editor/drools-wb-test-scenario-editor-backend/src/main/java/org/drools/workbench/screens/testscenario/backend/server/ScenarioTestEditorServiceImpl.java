@@ -278,6 +278,17 @@ public class ScenarioTestEditorServiceImpl
         }
     }
 
+    @Override
+    public void runImpactedTests( final Path path,
+                                  final Set<String> changedRuleNames,
+                                  final Set<String> changedFactTypes,
+                                  final boolean fallbackToAllTests ) {
+        scenarioRunner.runImpactedTests( path,
+                                         changedRuleNames,
+                                         changedFactTypes,
+                                         fallbackToAllTests );
+    }
+
     void addDependentImportsToScenario( final Scenario scenario,
                                         final Path path ) {
         final PackageDataModelOracle dataModel = getDataModel( path );
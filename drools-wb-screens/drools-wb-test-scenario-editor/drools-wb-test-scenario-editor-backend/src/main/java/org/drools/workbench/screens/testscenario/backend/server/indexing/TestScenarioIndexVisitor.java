@@ -139,7 +139,8 @@ public class TestScenarioIndexVisitor extends ResourceReferenceCollector {
         }
 
         for ( Import i : model.getImports().getImports() ) {
-            if ( i.getType().endsWith( typeName ) ) {
+            //Match the simple name exactly; "Applicant" must not resolve to an import of "org.test.SmartApplicant"
+            if ( i.getType().equals( typeName ) || i.getType().endsWith( "." + typeName ) ) {
                 return i.getType();
             }
         }
@@ -150,6 +151,9 @@ public class TestScenarioIndexVisitor extends ResourceReferenceCollector {
     private String getFieldFullyQualifiedClassName( final String fullyQualifiedClassName,
                                                     final String fieldName ) {
         final ModelField[] mfs = dmo.getProjectModelFields().get( fullyQualifiedClassName );
+        if ( mfs == null ) {
+            return DataType.TYPE_OBJECT;
+        }
         for ( ModelField mf : mfs ) {
             if ( mf.getName().equals( fieldName ) ) {
                 return mf.getClassName();
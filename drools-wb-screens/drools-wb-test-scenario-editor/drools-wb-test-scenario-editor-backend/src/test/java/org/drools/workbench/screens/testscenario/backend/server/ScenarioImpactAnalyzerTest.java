@@ -0,0 +1,221 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.drools.workbench.models.commons.backend.oracle.ProjectDataModelOracleImpl;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.datamodel.oracle.FieldAccessorsAndMutators;
+import org.drools.workbench.models.datamodel.oracle.ModelField;
+import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.drools.workbench.services.indexing.backend.server.IndexingProjectDataModelOracleCache;
+import org.guvnor.common.services.project.model.Package;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.drools.workbench.screens.testscenario.backend.server.indexing.TestScenarioFactory.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScenarioImpactAnalyzerTest {
+
+    private static final String APPLICANT = "org.drools.workbench.screens.testscenario.backend.server.indexing.classes.Applicant";
+
+    private static final List<Import> IMPORTS = Collections.singletonList( new Import( APPLICANT ) );
+
+    @Mock
+    private KieProjectService projectService;
+
+    @Mock
+    private IndexingProjectDataModelOracleCache dataModelCache;
+
+    @Mock
+    private Path path;
+
+    private ScenarioImpactAnalyzer analyzer;
+
+    @Before
+    public void setUp() throws Exception {
+        final KieProject project = mock( KieProject.class );
+        final Path rootPath = mock( Path.class );
+        final Package pkg = mock( Package.class );
+        when( rootPath.toURI() ).thenReturn( "default://project" );
+        when( project.getRootPath() ).thenReturn( rootPath );
+        when( project.getProjectName() ).thenReturn( "project" );
+        when( pkg.getPackageName() ).thenReturn( "org.test" );
+        when( projectService.resolveProject( path ) ).thenReturn( project );
+        when( projectService.resolvePackage( path ) ).thenReturn( pkg );
+        when( dataModelCache.getProjectDataModel( path ) ).thenReturn( makeDataModel() );
+
+        analyzer = new ScenarioImpactAnalyzer( projectService,
+                                               dataModelCache );
+    }
+
+    @Test
+    public void scenarioReferencingChangedFactTypeIsImpacted() {
+        final Scenario scenario = makeTestScenarioWithoutVerifyFact( "org.test",
+                                                                     IMPORTS,
+                                                                     "scenario1" );
+
+        assertImpacted( scenario,
+                        null,
+                        Collections.singleton( APPLICANT ) );
+    }
+
+    @Test
+    public void scenarioReferencingChangedFieldTypeIsImpacted() {
+        final Scenario scenario = makeTestScenarioWithoutVerifyFact( "org.test",
+                                                                     IMPORTS,
+                                                                     "scenario1" );
+
+        assertImpacted( scenario,
+                        null,
+                        Collections.singleton( "java.lang.Integer" ) );
+    }
+
+    @Test
+    public void scenarioVerifyingChangedFactTypeIsImpacted() {
+        final Scenario scenario = makeTestScenarioWithVerifyFact( "org.test",
+                                                                  IMPORTS,
+                                                                  "scenario1" );
+
+        assertImpacted( scenario,
+                        null,
+                        Collections.singleton( "org.test.Mortgage" ) );
+    }
+
+    @Test
+    public void scenarioVerifyingChangedRuleIsImpacted() {
+        final Scenario scenario = makeTestScenarioWithVerifyRuleFired( "org.test",
+                                                                       IMPORTS,
+                                                                       "scenario1" );
+
+        assertImpacted( scenario,
+                        Collections.singleton( "test" ),
+                        null );
+    }
+
+    @Test
+    public void scenarioIncludingChangedRuleIsImpacted() {
+        final Scenario scenario = makeTestScenarioWithoutVerifyFact( "org.test",
+                                                                     IMPORTS,
+                                                                     "scenario1" );
+        scenario.setInclusive( true );
+        scenario.getRules().add( "rule1" );
+
+        assertImpacted( scenario,
+                        Collections.singleton( "rule1" ),
+                        null );
+    }
+
+    @Test
+    public void scenarioNotReferencingChangesIsNotImpacted() {
+        final Scenario scenario = makeTestScenarioWithVerifyFact( "org.test",
+                                                                  IMPORTS,
+                                                                  "scenario1" );
+
+        assertTrue( analyzer.getImpactedScenarios( path,
+                                                   Collections.singletonList( scenario ),
+                                                   Collections.singleton( "rule1" ),
+                                                   Collections.singleton( "org.test.Other" ) ).isEmpty() );
+    }
+
+    @Test
+    public void onlyImpactedScenariosAreSelected() {
+        final Scenario scenario1 = makeTestScenarioWithVerifyRuleFired( "org.test",
+                                                                        IMPORTS,
+                                                                        "scenario1" );
+        final Scenario scenario2 = makeTestScenarioWithGlobalVerifyGlobal( "org.test",
+                                                                           new ArrayList<Import>(),
+                                                                           "scenario2" );
+
+        assertEquals( Collections.singletonList( scenario2 ),
+                      analyzer.getImpactedScenarios( path,
+                                                     Arrays.asList( scenario1,
+                                                                    scenario2 ),
+                                                     null,
+                                                     Collections.singleton( "org.test.Date" ) ) );
+    }
+
+    @Test
+    public void noChangesIsEmpty() {
+        assertTrue( ScenarioImpactAnalyzer.isEmpty( null,
+                                                    Collections.<String>emptySet() ) );
+        assertTrue( analyzer.getImpactedScenarios( path,
+                                                   Collections.singletonList( makeTestScenarioWithVerifyRuleFired( "org.test",
+                                                                                                                   IMPORTS,
+                                                                                                                   "scenario1" ) ),
+                                                   null,
+                                                   null ).isEmpty() );
+        verify( dataModelCache,
+                never() ).getProjectDataModel( any( Path.class ) );
+    }
+
+    private void assertImpacted( final Scenario scenario,
+                                 final Set<String> changedRuleNames,
+                                 final Set<String> changedFactTypes ) {
+        assertEquals( Collections.singletonList( scenario ),
+                      analyzer.getImpactedScenarios( path,
+                                                     Collections.singletonList( scenario ),
+                                                     changedRuleNames,
+                                                     changedFactTypes ) );
+    }
+
+    private ProjectDataModelOracle makeDataModel() {
+        final ProjectDataModelOracle dmo = new ProjectDataModelOracleImpl();
+        dmo.addProjectModelFields( new HashMap<String, ModelField[]>() {{
+            put( APPLICANT,
+                 new ModelField[]{ new ModelField( "age",
+                                                   "java.lang.Integer",
+                                                   ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                                   ModelField.FIELD_ORIGIN.DECLARED,
+                                                   FieldAccessorsAndMutators.ACCESSOR,
+                                                   DataType.TYPE_NUMERIC_INTEGER ) } );
+            put( "org.test.Mortgage",
+                 new ModelField[]{ new ModelField( "amount",
+                                                   "java.lang.Integer",
+                                                   ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                                   ModelField.FIELD_ORIGIN.DECLARED,
+                                                   FieldAccessorsAndMutators.ACCESSOR,
+                                                   DataType.TYPE_NUMERIC_INTEGER ) } );
+            put( "org.test.Date",
+                 new ModelField[]{ new ModelField( "minutes",
+                                                   "java.lang.Integer",
+                                                   ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                                   ModelField.FIELD_ORIGIN.DECLARED,
+                                                   FieldAccessorsAndMutators.ACCESSOR,
+                                                   DataType.TYPE_NUMERIC_INTEGER ) } );
+        }} );
+        return dmo;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.api.runtime.KieSession;
+import org.kie.workbench.common.services.backend.session.SessionService;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScenarioKieSessionsTest {
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private KieProject project;
+
+    @Mock
+    private KieSession defaultKieSession;
+
+    @Mock
+    private KieSession namedKieSession;
+
+    private ScenarioKieSessions ksessions;
+
+    @Before
+    public void setUp() throws Exception {
+        ksessions = new ScenarioKieSessions(sessionService,
+                                            project);
+
+        when(sessionService.newDefaultKieSessionWithPseudoClock(project)).thenReturn(defaultKieSession);
+        when(sessionService.newKieSession(project,
+                                          "named")).thenReturn(namedKieSession);
+    }
+
+    @Test
+    public void kieSessionIsCreatedOncePerName() throws Exception {
+        assertSame(defaultKieSession,
+                   ksessions.get(null));
+        assertSame(defaultKieSession,
+                   ksessions.get(null));
+        assertSame(namedKieSession,
+                   ksessions.get("named"));
+        assertSame(namedKieSession,
+                   ksessions.get("named"));
+
+        verify(sessionService,
+               times(1)).newDefaultKieSessionWithPseudoClock(project);
+        verify(sessionService,
+               times(1)).newKieSession(project,
+                                       "named");
+        assertEquals(2,
+                     ksessions.getKSessions().size());
+    }
+
+    @Test
+    public void defaultKieSessionName() throws Exception {
+        assertSame(defaultKieSession,
+                   ksessions.get(ScenarioKieSessions.DEFAULT_KIE_SESSION_NAME));
+    }
+
+    @Test
+    public void failureToCreateKieSessionIsNotRetried() throws Exception {
+        when(sessionService.newKieSession(project,
+                                          "broken")).thenThrow(new RuntimeException());
+
+        assertNull(ksessions.get("broken"));
+        assertNull(ksessions.get("broken"));
+
+        verify(sessionService,
+               times(1)).newKieSession(project,
+                                       "broken");
+    }
+
+    @Test
+    public void kieSessionsAreDisposed() throws Exception {
+        ksessions.get(null);
+        ksessions.get("named");
+        ksessions.get("broken");
+
+        ksessions.dispose();
+
+        verify(defaultKieSession).dispose();
+        verify(namedKieSession).dispose();
+        assertTrue(ksessions.getKSessions().isEmpty());
+    }
+
+    @Test
+    public void failureToDisposeDoesNotPreventOtherDisposals() throws Exception {
+        doThrow(new IllegalStateException()).when(defaultKieSession).dispose();
+        ksessions.get(null);
+        ksessions.get("named");
+
+        ksessions.dispose();
+
+        verify(namedKieSession).dispose();
+    }
+
+}
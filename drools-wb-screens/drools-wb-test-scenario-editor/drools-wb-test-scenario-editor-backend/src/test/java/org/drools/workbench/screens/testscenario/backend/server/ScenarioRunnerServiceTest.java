@@ -18,6 +18,7 @@ package org.drools.workbench.screens.testscenario.backend.server;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
 import javax.enterprise.event.Event;
 
 import org.drools.workbench.models.testscenarios.shared.Scenario;
@@ -54,6 +55,9 @@ public class ScenarioRunnerServiceTest {
     @Mock
     ScenarioLoader scenarioLoader;
 
+    @Mock
+    ScenarioImpactAnalyzer impactAnalyzer;
+
     private TestResultMessageEventMock defaultTestResultMessageEvent;
 
     @Before
@@ -69,6 +73,7 @@ public class ScenarioRunnerServiceTest {
                                             sessionService,
                                             projectService,
                                             scenarioLoader,
+                                            impactAnalyzer,
                                             identity);
 
         when(sessionService.newDefaultKieSessionWithPseudoClock(any(KieProject.class))).thenReturn(defaultPseudoClockKieSession);
@@ -107,6 +112,74 @@ public class ScenarioRunnerServiceTest {
         assertEquals("testUser", argumentCaptor.getValue().getIdentifier());
     }
 
+    @Test
+    public void testSeveralScenariosShareKieSession() throws Exception {
+
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        scenarios.add(makeScenario("test1.scenario"));
+        scenarios.add(makeScenario("test2.scenario"));
+        scenarios.add(makeScenario("test3.scenario"));
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        service.runAllTests(path);
+
+        verify(sessionService, times(1)).newDefaultKieSessionWithPseudoClock(any(KieProject.class));
+        verify(defaultPseudoClockKieSession).dispose();
+    }
+
+    @Test
+    public void testKieSessionIsDisposedAfterRun() throws Exception {
+        service.run(makeScenario("test.scenario"), new KieProject());
+
+        verify(defaultPseudoClockKieSession).dispose();
+    }
+
+    @Test
+    public void testRunImpactedScenarios() throws Exception {
+
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        scenarios.add(makeScenario("test1.scenario"));
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        service.runImpactedTests(path,
+                                 Collections.singleton("rule1"),
+                                 Collections.<String>emptySet(),
+                                 true);
+
+        verify(impactAnalyzer).getImpactedScenarios(path,
+                                                    scenarios,
+                                                    Collections.singleton("rule1"),
+                                                    Collections.<String>emptySet());
+
+        ArgumentCaptor<TestResultMessage> argumentCaptor = ArgumentCaptor.forClass(TestResultMessage.class);
+        verify(defaultTestResultMessageEvent).fire(argumentCaptor.capture());
+        assertEquals(0, argumentCaptor.getValue().getRunCount());
+        verify(sessionService, never()).newDefaultKieSessionWithPseudoClock(any(KieProject.class));
+    }
+
+    @Test
+    public void testRunImpactedScenariosFallsBackToAllScenarios() throws Exception {
+
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        scenarios.add(makeScenario("test1.scenario"));
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        service.runImpactedTests(path,
+                                 null,
+                                 null,
+                                 true);
+
+        verify(impactAnalyzer, never()).getImpactedScenarios(any(Path.class), anyListOf(Scenario.class), anySetOf(String.class), anySetOf(String.class));
+        verify(sessionService).newDefaultKieSessionWithPseudoClock(any(KieProject.class));
+        verify(defaultTestResultMessageEvent).fire(any(TestResultMessage.class));
+    }
+
     private Scenario makeScenario(String name) {
         Scenario scenario = new Scenario();
         scenario.setName(name);
@@ -17,8 +17,10 @@
 package org.drools.workbench.screens.testscenario.backend.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.drools.workbench.models.datamodel.imports.Import;
 import org.drools.workbench.models.datamodel.imports.Imports;
@@ -202,6 +204,22 @@ public class ScenarioTestEditorServiceImplTest {
         assertNotNull( load.getImports() );
     }
 
+    @Test
+    public void runImpactedTestsDelegatesToRunner() throws Exception {
+        final Set<String> changedRuleNames = Collections.singleton( "rule1" );
+        final Set<String> changedFactTypes = Collections.singleton( "org.test.Applicant" );
+
+        testEditorService.runImpactedTests( path,
+                                            changedRuleNames,
+                                            changedFactTypes,
+                                            true );
+
+        verify( scenarioRunner ).runImpactedTests( path,
+                                                   changedRuleNames,
+                                                   changedFactTypes,
+                                                   true );
+    }
+
     private FactData factData( final String type ) {
         return new FactData( type, "", true );
     }
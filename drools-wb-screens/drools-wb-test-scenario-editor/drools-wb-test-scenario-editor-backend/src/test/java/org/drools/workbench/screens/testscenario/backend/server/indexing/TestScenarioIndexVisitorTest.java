@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server.indexing;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.drools.workbench.models.commons.backend.oracle.ProjectDataModelOracleImpl;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.guvnor.common.services.project.model.Package;
+import org.guvnor.common.services.project.model.Project;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.ResourceReference;
+import org.uberfire.backend.vfs.Path;
+
+import static org.drools.workbench.screens.testscenario.backend.server.indexing.TestScenarioFactory.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TestScenarioIndexVisitorTest {
+
+    private Project project;
+    private Package pkg;
+
+    @Before
+    public void setUp() throws Exception {
+        final Path rootPath = mock( Path.class );
+        project = mock( Project.class );
+        pkg = mock( Package.class );
+        when( rootPath.toURI() ).thenReturn( "default://project" );
+        when( project.getRootPath() ).thenReturn( rootPath );
+        when( project.getProjectName() ).thenReturn( "project" );
+        when( pkg.getPackageName() ).thenReturn( "org.test" );
+    }
+
+    @Test
+    public void importWithMatchingSuffixIsNotUsedToResolveType() {
+        final Scenario scenario = makeTestScenarioWithoutVerifyFact( "org.test",
+                                                                     Collections.singletonList( new Import( "org.test.SmartApplicant" ) ),
+                                                                     "scenario1" );
+
+        final Set<String> references = visit( scenario );
+
+        assertTrue( references.contains( "org.test.Applicant" ) );
+        assertFalse( references.contains( "org.test.SmartApplicant" ) );
+    }
+
+    @Test
+    public void importMatchingSimpleNameIsUsedToResolveType() {
+        final Scenario scenario = makeTestScenarioWithoutVerifyFact( "org.test",
+                                                                     Collections.singletonList( new Import( "org.other.Applicant" ) ),
+                                                                     "scenario1" );
+
+        assertTrue( visit( scenario ).contains( "org.other.Applicant" ) );
+    }
+
+    @Test
+    public void fieldOfTypeMissingFromDataModelIsObject() {
+        final Scenario scenario = makeTestScenarioWithVerifyFact( "org.test",
+                                                                  Collections.<Import>emptyList(),
+                                                                  "scenario1" );
+
+        final Set<String> references = visit( scenario );
+
+        assertTrue( references.contains( "org.test.Applicant" ) );
+        assertTrue( references.contains( "org.test.Mortgage" ) );
+        assertTrue( references.contains( DataType.TYPE_OBJECT ) );
+    }
+
+    private Set<String> visit( final Scenario scenario ) {
+        final TestScenarioIndexVisitor visitor = new TestScenarioIndexVisitor( new ProjectDataModelOracleImpl(),
+                                                                               new DefaultIndexBuilder( project,
+                                                                                                        pkg ),
+                                                                               scenario );
+        visitor.visit();
+
+        final Set<String> references = new HashSet<String>();
+        for ( ResourceReference reference : visitor.getResourceReferences() ) {
+            references.add( reference.getResourceFQN() );
+        }
+        return references;
+    }
+
+}
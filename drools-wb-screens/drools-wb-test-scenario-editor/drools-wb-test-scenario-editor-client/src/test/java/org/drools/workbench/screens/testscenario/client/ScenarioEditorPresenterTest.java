@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.testscenario.client;
 
 import java.util.HashSet;
+import java.util.Set;
 import javax.enterprise.event.Event;
 
 import org.drools.workbench.models.datamodel.imports.HasImports;
@@ -217,6 +218,10 @@ public class ScenarioEditorPresenterTest {
                 return null;
             }
 
+            @Override public void runImpactedTests(Path path, Set<String> changedRuleNames, Set<String> changedFactTypes, boolean fallbackToAllTests) {
+
+            }
+
             @Override public Path copy(Path path, String s, String s1) {
                 return null;
             }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.indexing.backend.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Looks up the ProjectDataModelOracle used to index an asset. {@link DataModelService} resolves the asset's Project
+ * for every asset before returning the Project's cached ProjectDataModelOracle; which dominates indexing of small
+ * assets when a repository is re-indexed. The ProjectDataModelOracle is therefore cached against the asset's folder,
+ * so assets in the same package share a single lookup across all indexers and indexing threads. The cache is cleared
+ * whenever a Project's ProjectDataModelOracle is invalidated.
+ */
+@ApplicationScoped
+public class IndexingProjectDataModelOracleCache {
+
+    static final int MAX_ENTRIES = 1000;
+
+    private DataModelService dataModelService;
+
+    //Keyed on the URI of the asset's folder
+    private final Map<String, ProjectDataModelOracle> oracles = new LinkedHashMap<String, ProjectDataModelOracle>( 16,
+                                                                                                                  0.75f,
+                                                                                                                  true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, ProjectDataModelOracle> eldest ) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    //Incremented when the cache is cleared, so lookups that were in progress are not cached
+    private long generation = 0;
+
+    public IndexingProjectDataModelOracleCache() {
+        //CDI proxy
+    }
+
+    @Inject
+    public IndexingProjectDataModelOracleCache( final DataModelService dataModelService ) {
+        this.dataModelService = dataModelService;
+    }
+
+    public ProjectDataModelOracle getProjectDataModel( final Path path ) {
+        final String key = getFolderUri( path );
+        final long lookupGeneration;
+        synchronized ( oracles ) {
+            final ProjectDataModelOracle oracle = oracles.get( key );
+            if ( oracle != null ) {
+                return oracle;
+            }
+            lookupGeneration = generation;
+        }
+
+        //Look up outside of the lock so that indexing threads do not wait on one another
+        final ProjectDataModelOracle oracle = dataModelService.getProjectDataModel( path );
+
+        synchronized ( oracles ) {
+            if ( oracle != null && lookupGeneration == generation ) {
+                oracles.put( key,
+                             oracle );
+            }
+        }
+        return oracle;
+    }
+
+    public void onInvalidateDMOProjectCache( final @Observes InvalidateDMOProjectCacheEvent event ) {
+        synchronized ( oracles ) {
+            oracles.clear();
+            generation++;
+        }
+    }
+
+    private String getFolderUri( final Path path ) {
+        final String uri = path.toURI();
+        final int separator = uri.lastIndexOf( '/' );
+        return separator < 0 ? uri : uri.substring( 0,
+                                                   separator );
+    }
+
+}
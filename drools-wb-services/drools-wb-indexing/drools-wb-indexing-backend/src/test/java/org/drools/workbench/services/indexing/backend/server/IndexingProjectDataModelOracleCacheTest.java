@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.indexing.backend.server;
+
+import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IndexingProjectDataModelOracleCacheTest {
+
+    @Mock
+    private DataModelService dataModelService;
+
+    @Mock
+    private ProjectDataModelOracle oracle;
+
+    private IndexingProjectDataModelOracleCache cache;
+
+    private Path path;
+    private Path siblingPath;
+    private Path otherFolderPath;
+
+    @Before
+    public void setup() {
+        cache = new IndexingProjectDataModelOracleCache( dataModelService );
+
+        path = makePath( "default://project/src/main/resources/org/test/rule.rdrl" );
+        siblingPath = makePath( "default://project/src/main/resources/org/test/enums.enumeration" );
+        otherFolderPath = makePath( "default://project/src/main/resources/org/other/rule.rdrl" );
+
+        when( dataModelService.getProjectDataModel( any( Path.class ) ) ).thenReturn( oracle );
+    }
+
+    @Test
+    public void assetsInTheSameFolderShareLookup() {
+        assertEquals( oracle,
+                      cache.getProjectDataModel( path ) );
+        assertEquals( oracle,
+                      cache.getProjectDataModel( siblingPath ) );
+
+        verify( dataModelService,
+                times( 1 ) ).getProjectDataModel( any( Path.class ) );
+    }
+
+    @Test
+    public void assetsInDifferentFoldersAreLookedUpSeparately() {
+        cache.getProjectDataModel( path );
+        cache.getProjectDataModel( otherFolderPath );
+
+        verify( dataModelService ).getProjectDataModel( path );
+        verify( dataModelService ).getProjectDataModel( otherFolderPath );
+    }
+
+    @Test
+    public void invalidationClearsCache() {
+        cache.getProjectDataModel( path );
+
+        cache.onInvalidateDMOProjectCache( mock( InvalidateDMOProjectCacheEvent.class ) );
+        cache.getProjectDataModel( path );
+
+        verify( dataModelService,
+                times( 2 ) ).getProjectDataModel( path );
+    }
+
+    private Path makePath( final String uri ) {
+        final Path path = mock( Path.class );
+        when( path.toURI() ).thenReturn( uri );
+        return path;
+    }
+
+}
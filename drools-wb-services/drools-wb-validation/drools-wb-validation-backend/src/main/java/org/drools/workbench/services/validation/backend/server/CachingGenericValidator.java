@@ -0,0 +1,264 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.validation.backend.server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.guvnor.common.services.backend.validation.GenericValidator;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.guvnor.common.services.project.model.Project;
+import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Validates assets with {@link GenericValidator}, re-using the result of the previous validation of the same
+ * asset when its content has not changed. Concurrent requests to validate the same content are coalesced into
+ * a single build. Results are invalidated when any other resource in the asset's Project changes, since the
+ * outcome of validating an asset depends on the Project's other assets and its dependencies, and when the Project's
+ * Data Model is invalidated.
+ */
+@ApplicationScoped
+public class CachingGenericValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger( CachingGenericValidator.class );
+
+    private IOService ioService;
+    private GenericValidator genericValidator;
+    private KieProjectService projectService;
+
+    //Keyed on the Path URI of the asset; only the most recently validated content of each asset is retained
+    private final ConcurrentMap<String, CachedValidation> validations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingGenericValidator() {
+        //CDI proxy
+    }
+
+    @Inject
+    public CachingGenericValidator( final @Named("ioStrategy") IOService ioService,
+                                    final GenericValidator genericValidator,
+                                    final KieProjectService projectService ) {
+        this.ioService = ioService;
+        this.genericValidator = genericValidator;
+        this.projectService = projectService;
+    }
+
+    /**
+     * Validate content that has not necessarily been persisted to the asset's Path.
+     */
+    public List<ValidationMessage> validate( final Path path,
+                                             final String content ) {
+        return validate( path,
+                         digest( content.getBytes( StandardCharsets.UTF_8 ) ),
+                         () -> genericValidator.validate( path,
+                                                          content ) );
+    }
+
+    /**
+     * Validate the content persisted at the asset's Path.
+     */
+    public List<ValidationMessage> validate( final Path path ) {
+        return validate( path,
+                         digest( ioService.readAllBytes( Paths.convert( path ) ) ),
+                         () -> genericValidator.validate( path ) );
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void onResourceAdded( final @Observes ResourceAddedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceDeleted( final @Observes ResourceDeletedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceUpdated( final @Observes ResourceUpdatedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceRenamed( final @Observes ResourceRenamedEvent event ) {
+        validations.remove( event.getPath().toURI() );
+        invalidate( event.getPath() );
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onBatchResourceChanges( final @Observes ResourceBatchChangesEvent event ) {
+        for ( Path path : event.getBatch().keySet() ) {
+            invalidate( path );
+        }
+    }
+
+    //The Data Model is rebuilt when a Project's dependencies or build configuration change; which affects all assets
+    public void onInvalidateDMOProjectCache( final @Observes InvalidateDMOProjectCacheEvent event ) {
+        final Project project = event.getProject();
+        if ( project == null || project.getRootPath() == null ) {
+            return;
+        }
+        invalidateProject( project.getRootPath().toURI(),
+                           null );
+    }
+
+    private List<ValidationMessage> validate( final Path path,
+                                              final byte[] digest,
+                                              final Callable<List<ValidationMessage>> validation ) {
+        final String key = path.toURI();
+        final CachedValidation existing = validations.get( key );
+        if ( existing != null && existing.isFor( digest ) ) {
+            hitCount.incrementAndGet();
+            return getResult( key,
+                              existing );
+        }
+
+        final CachedValidation candidate = new CachedValidation( digest,
+                                                                 getProjectRootUri( path ),
+                                                                 validation );
+        final CachedValidation cachedValidation = validations.compute( key,
+                                                                       ( k, e ) -> ( e != null && e.isFor( digest ) ) ? e : candidate );
+        if ( cachedValidation == candidate ) {
+            missCount.incrementAndGet();
+            candidate.result.run();
+            //Assets outside of a Project cannot be invalidated by changes to the Project, so do not retain them
+            if ( candidate.projectRootUri == null ) {
+                validations.remove( key,
+                                    candidate );
+            }
+        } else {
+            hitCount.incrementAndGet();
+        }
+
+        return getResult( key,
+                          cachedValidation );
+    }
+
+    private List<ValidationMessage> getResult( final String key,
+                                               final CachedValidation cachedValidation ) {
+        try {
+            return new ArrayList<>( cachedValidation.result.get() );
+
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( e );
+
+        } catch ( ExecutionException e ) {
+            validations.remove( key,
+                                cachedValidation );
+            if ( e.getCause() instanceof RuntimeException ) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException( e.getCause() );
+        }
+    }
+
+    //The validation of an asset depends upon all other resources in its Project, so invalidate them.
+    //Results for the changed asset itself are keyed on its content and remain valid.
+    void invalidate( final Path changedPath ) {
+        if ( changedPath == null || validations.isEmpty() ) {
+            return;
+        }
+        final String projectRootUri = getProjectRootUri( changedPath );
+        if ( projectRootUri == null ) {
+            return;
+        }
+        invalidateProject( projectRootUri,
+                           changedPath.toURI() );
+    }
+
+    private void invalidateProject( final String projectRootUri,
+                                    final String retainedPathUri ) {
+        for ( Map.Entry<String, CachedValidation> e : validations.entrySet() ) {
+            if ( !e.getKey().equals( retainedPathUri ) && projectRootUri.equals( e.getValue().projectRootUri ) ) {
+                validations.remove( e.getKey(),
+                                    e.getValue() );
+            }
+        }
+    }
+
+    private String getProjectRootUri( final Path path ) {
+        try {
+            final Project project = projectService.resolveProject( path );
+            return ( project == null ? null : project.getRootPath().toURI() );
+        } catch ( Exception e ) {
+            logger.debug( "Unable to resolve Project for '" + path.toURI() + "'.",
+                          e );
+            return null;
+        }
+    }
+
+    private static byte[] digest( final byte[] content ) {
+        try {
+            return MessageDigest.getInstance( "SHA-256" ).digest( content );
+        } catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static class CachedValidation {
+
+        private final byte[] digest;
+        private final String projectRootUri;
+        private final FutureTask<List<ValidationMessage>> result;
+
+        private CachedValidation( final byte[] digest,
+                                  final String projectRootUri,
+                                  final Callable<List<ValidationMessage>> validation ) {
+            this.digest = digest;
+            this.projectRootUri = projectRootUri;
+            this.result = new FutureTask<>( validation );
+        }
+
+        private boolean isFor( final byte[] digest ) {
+            return Arrays.equals( this.digest,
+                                  digest );
+        }
+    }
+
+}
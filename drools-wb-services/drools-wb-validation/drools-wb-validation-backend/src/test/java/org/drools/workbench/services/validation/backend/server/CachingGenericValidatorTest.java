@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.validation.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.guvnor.common.services.backend.validation.GenericValidator;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingGenericValidatorTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private GenericValidator genericValidator;
+
+    @Mock
+    private KieProjectService projectService;
+
+    @Mock
+    private KieProject project;
+
+    @Mock
+    private KieProject otherProject;
+
+    private CachingGenericValidator validator;
+
+    private Path path;
+    private Path siblingPath;
+    private Path otherProjectPath;
+
+    @Before
+    public void setup() {
+        validator = new CachingGenericValidator( ioService,
+                                                 genericValidator,
+                                                 projectService );
+
+        path = makePath( "default://project/src/main/resources/rule.rdrl" );
+        siblingPath = makePath( "default://project/src/main/resources/types.drl" );
+        otherProjectPath = makePath( "default://other/src/main/resources/rule.rdrl" );
+
+        final Path projectRoot = makePath( "default://project" );
+        final Path otherProjectRoot = makePath( "default://other" );
+        when( project.getRootPath() ).thenReturn( projectRoot );
+        when( otherProject.getRootPath() ).thenReturn( otherProjectRoot );
+        when( projectService.resolveProject( path ) ).thenReturn( project );
+        when( projectService.resolveProject( siblingPath ) ).thenReturn( project );
+        when( projectService.resolveProject( otherProjectPath ) ).thenReturn( otherProject );
+
+        when( genericValidator.validate( any( Path.class ),
+                                         anyString() ) ).thenReturn( Collections.singletonList( new ValidationMessage() ) );
+    }
+
+    @Test
+    public void unchangedContentIsValidatedOnce() {
+        final List<ValidationMessage> messages1 = validator.validate( path,
+                                                                      "content" );
+        final List<ValidationMessage> messages2 = validator.validate( path,
+                                                                      "content" );
+
+        verify( genericValidator,
+                times( 1 ) ).validate( path,
+                                       "content" );
+        assertEquals( 1,
+                      messages1.size() );
+        assertEquals( messages1,
+                      messages2 );
+        assertEquals( 1,
+                      validator.getHitCount() );
+        assertEquals( 1,
+                      validator.getMissCount() );
+    }
+
+    @Test
+    public void changedContentIsValidatedAgain() {
+        validator.validate( path,
+                            "content1" );
+        validator.validate( path,
+                            "content2" );
+
+        verify( genericValidator,
+                times( 1 ) ).validate( path,
+                                       "content1" );
+        verify( genericValidator,
+                times( 1 ) ).validate( path,
+                                       "content2" );
+        assertEquals( 0,
+                      validator.getHitCount() );
+        assertEquals( 2,
+                      validator.getMissCount() );
+    }
+
+    @Test
+    public void returnedMessagesCanBeModified() {
+        validator.validate( path,
+                            "content" ).clear();
+
+        assertEquals( 1,
+                      validator.validate( path,
+                                          "content" ).size() );
+    }
+
+    @Test
+    public void changeToOtherResourceInProjectInvalidatesCache() {
+        validator.validate( path,
+                            "content" );
+        validator.onResourceUpdated( new ResourceUpdatedEvent( siblingPath,
+                                                               "message",
+                                                               null ) );
+        validator.validate( path,
+                            "content" );
+
+        verify( genericValidator,
+                times( 2 ) ).validate( path,
+                                       "content" );
+    }
+
+    @Test
+    public void changeToValidatedResourceDoesNotInvalidateCache() {
+        validator.validate( path,
+                            "content" );
+        validator.onResourceUpdated( new ResourceUpdatedEvent( path,
+                                                               "message",
+                                                               null ) );
+        validator.validate( path,
+                            "content" );
+
+        verify( genericValidator,
+                times( 1 ) ).validate( path,
+                                       "content" );
+    }
+
+    @Test
+    public void changeToResourceInOtherProjectDoesNotInvalidateCache() {
+        validator.validate( path,
+                            "content" );
+        validator.onResourceUpdated( new ResourceUpdatedEvent( otherProjectPath,
+                                                               "message",
+                                                               null ) );
+        validator.validate( path,
+                            "content" );
+
+        verify( genericValidator,
+                times( 1 ) ).validate( path,
+                                       "content" );
+    }
+
+    @Test
+    public void invalidatedProjectDataModelInvalidatesCache() {
+        validator.validate( path,
+                            "content" );
+        validator.validate( otherProjectPath,
+                            "content" );
+
+        final InvalidateDMOProjectCacheEvent event = mock( InvalidateDMOProjectCacheEvent.class );
+        when( event.getProject() ).thenReturn( project );
+        validator.onInvalidateDMOProjectCache( event );
+
+        validator.validate( path,
+                            "content" );
+        validator.validate( otherProjectPath,
+                            "content" );
+
+        verify( genericValidator,
+                times( 2 ) ).validate( path,
+                                       "content" );
+        verify( genericValidator,
+                times( 1 ) ).validate( otherProjectPath,
+                                       "content" );
+    }
+
+    @Test
+    public void resourcesOutsideProjectsAreNotCached() {
+        final Path orphan = makePath( "default://orphan.drl" );
+        when( genericValidator.validate( orphan,
+                                         "content" ) ).thenReturn( new ArrayList<>() );
+
+        validator.validate( orphan,
+                            "content" );
+        validator.validate( orphan,
+                            "content" );
+
+        verify( genericValidator,
+                times( 2 ) ).validate( orphan,
+                                       "content" );
+    }
+
+    @Test
+    public void failedValidationIsNotCached() {
+        when( genericValidator.validate( path,
+                                         "content" ) ).thenThrow( new IllegalArgumentException() ).thenReturn( new ArrayList<>() );
+
+        try {
+            validator.validate( path,
+                                "content" );
+            fail( "Expected IllegalArgumentException" );
+        } catch ( IllegalArgumentException e ) {
+            //Expected
+        }
+
+        assertTrue( validator.validate( path,
+                                        "content" ).isEmpty() );
+    }
+
+    private Path makePath( final String uri ) {
+        final Path path = mock( Path.class );
+        when( path.toURI() ).thenReturn( uri );
+        return path;
+    }
+
+}
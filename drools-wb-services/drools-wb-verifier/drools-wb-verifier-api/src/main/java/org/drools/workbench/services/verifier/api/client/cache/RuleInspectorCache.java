@@ -49,13 +49,34 @@ public abstract class RuleInspectorCache {
         ruleInspectors.clear();
 
         for ( final Rule rule : index.rules.where( Rule.uuid().any() ).select().all() ) {
-            add( new RuleInspector( rule,
-                                    checkManager,
-                                    this,
-                                    configuration ) );
+            addRuleInspector( rule );
         }
     }
 
+    /**
+     * Removes the RuleInspector of a Rule without removing the Rule from the Index. The RuleInspector's checks
+     * should be discarded by the caller before a new RuleInspector is added for the Rule.
+     * @param rule Rule whose RuleInspector to remove
+     * @return The removed RuleInspector; or null if there was none
+     */
+    public RuleInspector removeRuleInspector( final Rule rule ) {
+        return ruleInspectors.remove( rule );
+    }
+
+    /**
+     * Adds a RuleInspector, reflecting the current state of the Index, for an existing Rule.
+     * @param rule Rule for which to add a RuleInspector
+     * @return The new RuleInspector
+     */
+    public RuleInspector addRuleInspector( final Rule rule ) {
+        final RuleInspector ruleInspector = new RuleInspector( rule,
+                                                               checkManager,
+                                                               this,
+                                                               configuration );
+        add( ruleInspector );
+        return ruleInspector;
+    }
+
     public Collection<RuleInspector> all() {
         return ruleInspectors.values();
     }
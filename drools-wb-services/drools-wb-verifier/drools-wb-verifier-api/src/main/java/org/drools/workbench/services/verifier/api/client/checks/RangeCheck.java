@@ -19,8 +19,8 @@ import com.google.gwt.safehtml.shared.SafeHtml;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.condition.BooleanConditionInspector;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.condition.ComparableConditionInspector;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.condition.ConditionInspector;
+import org.drools.workbench.services.verifier.api.client.cache.util.HasUUID;
 import org.drools.workbench.services.verifier.api.client.cache.util.maps.LeafInspectorList;
-import org.drools.workbench.services.verifier.api.client.checks.base.CheckManager;
 import org.drools.workbench.services.verifier.api.client.checks.base.OneToManyCheck;
 import org.drools.workbench.services.verifier.api.client.index.ObjectField;
 import org.drools.workbench.services.verifier.api.client.reporting.Issue;
@@ -30,11 +30,12 @@ import org.drools.workbench.services.verifier.api.client.cache.inspectors.RuleIn
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.condition.ConditionsInspectorMultiMap;
 import org.drools.workbench.services.verifier.api.client.cache.inspectors.condition.NumericIntegerConditionInspector;
 import org.drools.workbench.services.verifier.api.client.cache.util.maps.InspectorList;
+import org.drools.workbench.services.verifier.api.client.checks.util.IsSubsuming;
 import org.drools.workbench.services.verifier.api.client.checks.util.SubsumptionResolver;
 import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerConfiguration;
 import org.drools.workbench.services.verifier.api.client.index.DataType;
 import org.drools.workbench.services.verifier.api.client.index.FieldCondition;
-import org.drools.workbench.services.verifier.api.client.index.Rule;
+import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
 import org.drools.workbench.services.verifier.api.client.reporting.Explanation;
 import org.drools.workbench.services.verifier.api.client.reporting.ExplanationProvider;
 import org.drools.workbench.services.verifier.api.client.reporting.Severity;
@@ -67,10 +68,9 @@ public class RangeCheck
         if ( otherRows.size() == 0 ) {
             hasIssues = false;
         } else {
-            // For some reason these clones always turn out to be evil.
-            final RuleInspectorClone evilClone = makeClone();
+            final InvertedConditions invertedConditions = new InvertedConditions();
 
-            if ( evilClone.containsInvertedItems && !isSubsumedByOtherRows( evilClone ) ) {
+            if ( invertedConditions.containsInvertedItems && !isSubsumedByOtherRows( invertedConditions ) ) {
                 hasIssues = true;
             } else {
                 hasIssues = false;
@@ -78,13 +78,13 @@ public class RangeCheck
         }
     }
 
-    private boolean isSubsumedByOtherRows( final RuleInspectorClone evilClone ) {
+    private boolean isSubsumedByOtherRows( final InvertedConditions invertedConditions ) {
         if ( otherRows.isEmpty() ) {
             // Currently not reporting this issue if there is only one row.
             return true;
         } else {
             return !SubsumptionResolver.isSubsumedByAnObjectInThisList( otherRows,
-                                                                        evilClone )
+                                                                        invertedConditions )
                     .foundIssue();
         }
     }
@@ -118,11 +118,6 @@ public class RangeCheck
         }
     }
 
-    private RuleInspectorClone makeClone() {
-        return new RuleInspectorClone( ruleInspector.getRule(),
-                                       ruleInspector.getCache() );
-    }
-
     @Override
     public Issue getIssue() {
         final Issue issue = new Issue( Severity.NOTE,
@@ -140,33 +135,28 @@ public class RangeCheck
         return issue;
     }
 
-    private class RuleInspectorClone
-            extends RuleInspector {
-
-        private final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors;
+    /**
+     * The conditions of the checked row, with numeric and boolean field conditions inverted. Only the
+     * condition inspectors take part in subsumption, so a full RuleInspector (with its own pattern
+     * inspectors, index listeners and checks) is not built for every run of the check.
+     */
+    private class InvertedConditions
+            implements IsSubsuming,
+                       HasUUID {
+
+        private final AnalyzerConfiguration configuration = ruleInspector.getCache()
+                .getConfiguration();
+        private final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors = new InspectorList<>( configuration );
         boolean containsInvertedItems = false;
 
-        public RuleInspectorClone( final Rule rule,
-                                   final RuleInspectorCache cache ) {
-            super( rule,
-                   new CheckManager( cache.getConfiguration() ),
-                   cache,
-                   cache.getConfiguration() );
-            conditionsInspectors = new InspectorList<>( cache.getConfiguration() );
+        InvertedConditions() {
             makeConditionsInspectors();
         }
 
-        @Override
-        public InspectorList<ConditionsInspectorMultiMap> getConditionsInspectors() {
-            return conditionsInspectors;
-        }
-
         private void makeConditionsInspectors() {
-            conditionsInspectors.clear();
-
-            for ( final ConditionsInspectorMultiMap original : super.getConditionsInspectors() ) {
+            for ( final ConditionsInspectorMultiMap original : ruleInspector.getConditionsInspectors() ) {
 
-                final ConditionsInspectorMultiMap clone = new ConditionsInspectorMultiMap( getCache().getConfiguration() );
+                final ConditionsInspectorMultiMap clone = new ConditionsInspectorMultiMap( configuration );
 
                 for ( final ObjectField field : original.keySet() ) {
 
@@ -198,16 +188,16 @@ public class RangeCheck
 
                     containsInvertedItems = true;
                     return new NumericIntegerConditionInspector( invert( fieldCondition,
-                                                                         getCache().getConfiguration() ),
-                                                                 getCache().getConfiguration() );
+                                                                         configuration ),
+                                                                 configuration );
 
                 } else if ( DataType.isNumeric( fieldCondition.getField()
                                                         .getFieldType() ) ) {
 
                     containsInvertedItems = true;
                     return new ComparableConditionInspector<>( invert( fieldCondition,
-                                                                       getCache().getConfiguration() ),
-                                                               getCache().getConfiguration() );
+                                                                       configuration ),
+                                                               configuration );
 
                 } else if ( fieldCondition.getField()
                         .getFieldType()
@@ -215,8 +205,8 @@ public class RangeCheck
 
                     containsInvertedItems = true;
                     return new BooleanConditionInspector( invert( fieldCondition,
-                                                                  getCache().getConfiguration() ),
-                                                          getCache().getConfiguration() );
+                                                                  configuration ),
+                                                          configuration );
 
                 }
             }
@@ -227,8 +217,13 @@ public class RangeCheck
         @Override
         public boolean subsumes( final Object other ) {
             return other instanceof RuleInspector
-                    && getBrlConditionsInspectors().subsumes( ( (RuleInspector) other ).getBrlConditionsInspectors() )
-                    && getConditionsInspectors().subsumes( ( (RuleInspector) other ).getConditionsInspectors() );
+                    && ruleInspector.getBrlConditionsInspectors().subsumes( ( (RuleInspector) other ).getBrlConditionsInspectors() )
+                    && conditionsInspectors.subsumes( ( (RuleInspector) other ).getConditionsInspectors() );
+        }
+
+        @Override
+        public UUIDKey getUuidKey() {
+            return ruleInspector.getUuidKey();
         }
     }
 
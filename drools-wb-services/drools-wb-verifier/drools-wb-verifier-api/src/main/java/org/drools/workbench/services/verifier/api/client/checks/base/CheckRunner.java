@@ -41,6 +41,21 @@ public class CheckRunner
      */
     public void run( final ParameterizedCommand<Status> onStatus,
                      final Command onCompletion ) {
+        run( onStatus,
+             onCompletion,
+             null );
+    }
+
+    /**
+     * Run analysis with feedback
+     * @param onStatus Command executed repeatedly receiving status update
+     * @param onCompletion Command executed on completion
+     * @param onCancelled Command executed if the analysis is cancelled before all checks have run; or null if
+     * onCompletion should be executed on cancellation
+     */
+    public void run( final ParameterizedCommand<Status> onStatus,
+                     final Command onCompletion,
+                     final Command onCancelled ) {
         //Ensure active analysis is cancelled
         cancelExistingAnalysis();
 
@@ -54,7 +69,8 @@ public class CheckRunner
 
         doRun( new ChecksRepeatingCommand( rechecks,
                                            onStatus,
-                                           onCompletion ) );
+                                           onCompletion,
+                                           onCancelled ) );
         rechecks.clear();
     }
 
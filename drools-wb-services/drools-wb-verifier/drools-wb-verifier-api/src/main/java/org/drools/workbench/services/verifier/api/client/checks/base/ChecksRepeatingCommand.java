@@ -34,6 +34,10 @@ public class ChecksRepeatingCommand
 
     private static final int BLOCK_SIZE = 50;
 
+    //Maximum time spent running checks before yielding back to the browser. Expensive
+    //checks on large tables would otherwise block rendering and editing for a whole block.
+    private static final long TIME_SLICE_MILLIS = 10;
+
     private boolean isCancelled       = false;
     private int     currentStartIndex = 0;
 
@@ -41,13 +45,29 @@ public class ChecksRepeatingCommand
 
     private ParameterizedCommand<Status> onStatus;
     private Command onCompletion;
+    private Command onCancelled;
 
     public ChecksRepeatingCommand( final Set<Check> checksToRun,
                                    final ParameterizedCommand<Status> onStatus,
                                    final Command onCompletion ) {
+        this( checksToRun,
+              onStatus,
+              onCompletion,
+              null );
+    }
+
+    /**
+     * @param onCancelled Command executed, instead of onCompletion, if the command is cancelled before all checks have
+     * run; or null if onCompletion should be executed on cancellation.
+     */
+    public ChecksRepeatingCommand( final Set<Check> checksToRun,
+                                   final ParameterizedCommand<Status> onStatus,
+                                   final Command onCompletion,
+                                   final Command onCancelled ) {
         this.checksToRun.addAll( checksToRun );
         this.onStatus = onStatus;
         this.onCompletion = onCompletion;
+        this.onCancelled = onCancelled;
     }
 
     @Override
@@ -58,21 +78,24 @@ public class ChecksRepeatingCommand
 
         informAboutStatus( endIndex );
 
-        for ( int index = this.currentStartIndex; index < endIndex; index++ ) {
-            if ( isCancelled() ) {
-                return false;
-            }
+        final long timeSliceEnd = System.currentTimeMillis() + TIME_SLICE_MILLIS;
 
+        int index = this.currentStartIndex;
+        while ( index < endIndex ) {
             if ( isCancelled() ) {
                 return false;
             }
 
-            checksToRun.get( index ).check();
+            checksToRun.get( index++ ).check();
+
+            if ( System.currentTimeMillis() >= timeSliceEnd ) {
+                break;
+            }
         }
 
-        currentStartIndex += BLOCK_SIZE;
+        currentStartIndex = index;
 
-        if ( endIndex > checksToRun.size() - 1 ) {
+        if ( currentStartIndex >= checksToRun.size() ) {
             complete();
             return false;
         }
@@ -90,7 +113,12 @@ public class ChecksRepeatingCommand
 
     private boolean isCancelled() {
         if ( isCancelled ) {
-            complete();
+            if ( onCancelled != null ) {
+                onCancelled.execute();
+                checksToRun.clear();
+            } else {
+                complete();
+            }
         }
         return isCancelled;
     }
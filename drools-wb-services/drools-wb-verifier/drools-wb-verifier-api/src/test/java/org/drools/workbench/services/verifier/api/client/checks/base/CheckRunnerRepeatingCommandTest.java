@@ -17,9 +17,11 @@ package org.drools.workbench.services.verifier.api.client.checks.base;
 
 import java.util.HashSet;
 
+import com.google.gwt.user.client.Command;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 public class CheckRunnerRepeatingCommandTest {
@@ -51,4 +53,62 @@ public class CheckRunnerRepeatingCommandTest {
             verify( array[i] ).check();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testYieldsWhenTimeSliceIsUsed() throws Exception {
+        final HashSet<Check> slowChecks = new HashSet<>();
+        slowChecks.add( makeSlowCheck() );
+        slowChecks.add( makeSlowCheck() );
+
+        final ChecksRepeatingCommand checksRepeatingCommand = new ChecksRepeatingCommand( slowChecks,
+                                                                                          null,
+                                                                                          null );
+
+        //Each slow check uses up a whole time slice
+        assertTrue( checksRepeatingCommand.execute() );
+        assertFalse( checksRepeatingCommand.execute() );
+
+        for ( final Check check : slowChecks ) {
+            verify( check ).check();
+        }
+    }
+
+    @Test
+    public void testCancelledCommandExecutesOnCancelled() throws Exception {
+        final Command onCompletion = mock( Command.class );
+        final Command onCancelled = mock( Command.class );
+        final ChecksRepeatingCommand checksRepeatingCommand = new ChecksRepeatingCommand( checksToRun,
+                                                                                          null,
+                                                                                          onCompletion,
+                                                                                          onCancelled );
+
+        checksRepeatingCommand.cancel();
+
+        assertFalse( checksRepeatingCommand.execute() );
+        verify( onCancelled ).execute();
+        verify( onCompletion,
+                never() ).execute();
+    }
+
+    @Test
+    public void testCancelledCommandExecutesOnCompletionWithoutOnCancelled() throws Exception {
+        final Command onCompletion = mock( Command.class );
+        final ChecksRepeatingCommand checksRepeatingCommand = new ChecksRepeatingCommand( checksToRun,
+                                                                                          null,
+                                                                                          onCompletion );
+
+        checksRepeatingCommand.cancel();
+
+        assertFalse( checksRepeatingCommand.execute() );
+        verify( onCompletion ).execute();
+    }
+
+    private Check makeSlowCheck() {
+        final Check check = mock( Check.class );
+        doAnswer( invocation -> {
+            Thread.sleep( 20 );
+            return null;
+        } ).when( check ).check();
+        return check;
+    }
+}
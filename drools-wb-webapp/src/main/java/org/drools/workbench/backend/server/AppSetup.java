@@ -54,6 +54,8 @@ public class AppSetup extends BaseAppSetup {
 
     private WorkbenchConfigurationHelper workbenchConfigurationHelper;
 
+    private ProjectCacheWarmUp projectCacheWarmUp;
+
     @Inject
     private Event<ApplicationStarted> applicationStartedEvent;
 
@@ -68,7 +70,8 @@ public class AppSetup extends BaseAppSetup {
                      final ConfigurationService configurationService,
                      final ConfigurationFactory configurationFactory,
                      final WorkbenchConfigurationHelper workbenchConfigurationHelper,
-                     final Event<ApplicationStarted> applicationStartedEvent ) {
+                     final Event<ApplicationStarted> applicationStartedEvent,
+                     final ProjectCacheWarmUp projectCacheWarmUp ) {
         super( ioService,
                repositoryService,
                organizationalUnitService,
@@ -77,6 +80,7 @@ public class AppSetup extends BaseAppSetup {
                configurationFactory );
         this.workbenchConfigurationHelper = workbenchConfigurationHelper;
         this.applicationStartedEvent = applicationStartedEvent;
+        this.projectCacheWarmUp = projectCacheWarmUp;
     }
 
     @PostConstruct
@@ -136,6 +140,9 @@ public class AppSetup extends BaseAppSetup {
         } finally {
             configurationService.endBatch();
         }
+
+        // pre-build caches for Projects in the background
+        projectCacheWarmUp.start();
     }
 
     private ConfigGroup getGlobalConfiguration() {
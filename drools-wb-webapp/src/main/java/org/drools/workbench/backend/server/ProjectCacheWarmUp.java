@@ -0,0 +1,406 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.backend.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.kie.workbench.common.services.backend.builder.LRUBuilderCache;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceOpenedEvent;
+
+/**
+ * Pre-builds the per-Project caches (the Project's DataModelOracle, and hence its KieModuleMetaData, and the
+ * Project's Builder and KieModule) in the background after the application has started; so that the first user to
+ * open an asset does not pay the cost. Projects to warm-up are those configured explicitly and those most recently
+ * opened before the restart. Warm-up competes with user requests for CPU; the only limit on its use is the number of
+ * threads, set by {@link #WARM_UP_CPU_BUDGET}. Recently opened Projects are recorded on a warm-up thread.
+ * The following System Properties control warm-up:
+ * <ul>
+ * <li>{@link #WARM_UP_PROJECTS} comma separated list of Project root URIs to warm-up</li>
+ * <li>{@link #WARM_UP_RECENT_PROJECTS} number of most recently opened Projects to warm-up; defaults to zero</li>
+ * <li>{@link #WARM_UP_CPU_BUDGET} fraction of available processors that can be used; defaults to 0.25</li>
+ * <li>{@link #WARM_UP_DIR} folder in which the recently opened Projects are recorded</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ProjectCacheWarmUp {
+
+    public static final String WARM_UP_PROJECTS = "org.kie.workbench.warm-up.projects";
+    public static final String WARM_UP_RECENT_PROJECTS = "org.kie.workbench.warm-up.recent-projects";
+    public static final String WARM_UP_CPU_BUDGET = "org.kie.workbench.warm-up.cpu-budget";
+    public static final String WARM_UP_DIR = "org.kie.workbench.warm-up.dir";
+
+    static final double DEFAULT_CPU_BUDGET = 0.25;
+
+    private static final String RECENT_PROJECTS_FILE_NAME = ".kie-wb-recent-projects";
+
+    private static final Logger logger = LoggerFactory.getLogger( ProjectCacheWarmUp.class );
+
+    private IOService ioService;
+    private KieProjectService projectService;
+    private DataModelService dataModelService;
+    private LRUBuilderCache builderCache;
+
+    private List<String> projectUris;
+    private int recentProjects;
+    private int threads;
+    private File recentProjectsFile;
+
+    private final LinkedList<String> recentProjectUris = new LinkedList<String>();
+
+    //Paths of opened assets yet to be resolved to their Project and recorded
+    private final ConcurrentLinkedQueue<Path> openedPaths = new ConcurrentLinkedQueue<Path>();
+    private final AtomicBoolean isRecording = new AtomicBoolean();
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private ExecutorService executor;
+    private Executor recorder;
+
+    public ProjectCacheWarmUp() {
+        //CDI proxy
+    }
+
+    @Inject
+    public ProjectCacheWarmUp( final @Named("ioStrategy") IOService ioService,
+                               final KieProjectService projectService,
+                               final DataModelService dataModelService,
+                               final LRUBuilderCache builderCache ) {
+        this( ioService,
+              projectService,
+              dataModelService,
+              builderCache,
+              getListProperty( WARM_UP_PROJECTS ),
+              getIntProperty( WARM_UP_RECENT_PROJECTS,
+                              0 ),
+              getThreads( getDoubleProperty( WARM_UP_CPU_BUDGET,
+                                             DEFAULT_CPU_BUDGET ) ),
+              new File( System.getProperty( WARM_UP_DIR,
+                                            System.getProperty( "org.uberfire.nio.git.dir",
+                                                                "." ) ),
+                        RECENT_PROJECTS_FILE_NAME ) );
+    }
+
+    ProjectCacheWarmUp( final IOService ioService,
+                        final KieProjectService projectService,
+                        final DataModelService dataModelService,
+                        final LRUBuilderCache builderCache,
+                        final List<String> projectUris,
+                        final int recentProjects,
+                        final int threads,
+                        final File recentProjectsFile ) {
+        this.ioService = ioService;
+        this.projectService = projectService;
+        this.dataModelService = dataModelService;
+        this.builderCache = builderCache;
+        this.projectUris = projectUris;
+        this.recentProjects = recentProjects;
+        this.threads = threads;
+        this.recentProjectsFile = recentProjectsFile;
+        loadRecentProjects();
+    }
+
+    /**
+     * Start warming-up the caches of the configured and recently opened Projects. Returns immediately.
+     */
+    public synchronized void start() {
+        if ( executor != null ) {
+            return;
+        }
+        final Set<String> uris = new LinkedHashSet<String>( projectUris );
+        uris.addAll( getRecentProjectUris() );
+        if ( uris.isEmpty() ) {
+            return;
+        }
+
+        logger.info( "Warming-up caches for " + uris.size() + " Project(s) using " + threads + " thread(s)." );
+        executor = makeExecutor( threads );
+        total.set( uris.size() );
+        for ( final String uri : uris ) {
+            executor.execute( () -> warmUp( uri ) );
+        }
+        executor.shutdown();
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public boolean isComplete() {
+        return completed.get() + failed.get() >= total.get();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if ( executor != null ) {
+            executor.shutdownNow();
+        }
+        if ( recorder instanceof ExecutorService ) {
+            ( (ExecutorService) recorder ).shutdownNow();
+        }
+    }
+
+    boolean awaitCompletion( final long timeout,
+                             final TimeUnit unit ) throws InterruptedException {
+        return executor == null || executor.awaitTermination( timeout,
+                                                              unit );
+    }
+
+    public void onResourceOpened( final @Observes ResourceOpenedEvent event ) {
+        if ( recentProjects <= 0 ) {
+            return;
+        }
+        //Observed on the user's request thread; so only queue the Path. It is resolved and persisted on a warm-up thread.
+        openedPaths.add( event.getPath() );
+        if ( isRecording.compareAndSet( false,
+                                        true ) ) {
+            getRecorder().execute( this::recordRecentProjects );
+        }
+    }
+
+    private void recordRecentProjects() {
+        do {
+            try {
+                boolean isChanged = false;
+                Path path;
+                while ( ( path = openedPaths.poll() ) != null ) {
+                    isChanged = recordRecentProject( path ) || isChanged;
+                }
+                //Only persist changes to the order of Projects
+                if ( isChanged ) {
+                    saveRecentProjects();
+                }
+            } catch ( Exception e ) {
+                logger.warn( "Unable to record recently opened Projects.",
+                             e );
+            } finally {
+                isRecording.set( false );
+            }
+            //Paths queued after the last poll, but before the flag was cleared, have not been scheduled
+        } while ( !openedPaths.isEmpty() && isRecording.compareAndSet( false,
+                                                                       true ) );
+    }
+
+    private boolean recordRecentProject( final Path path ) {
+        final KieProject project = projectService.resolveProject( path );
+        if ( project == null ) {
+            return false;
+        }
+        final String uri = project.getRootPath().toURI();
+        synchronized ( recentProjectUris ) {
+            if ( uri.equals( recentProjectUris.peekFirst() ) ) {
+                return false;
+            }
+            recentProjectUris.remove( uri );
+            recentProjectUris.addFirst( uri );
+            while ( recentProjectUris.size() > recentProjects ) {
+                recentProjectUris.removeLast();
+            }
+            return true;
+        }
+    }
+
+    private synchronized Executor getRecorder() {
+        if ( recorder == null ) {
+            recorder = makeRecorder();
+        }
+        return recorder;
+    }
+
+    List<String> getRecentProjectUris() {
+        synchronized ( recentProjectUris ) {
+            return new ArrayList<String>( recentProjectUris );
+        }
+    }
+
+    protected ExecutorService makeExecutor( final int threads ) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = ( r ) -> {
+            final Thread thread = new Thread( r,
+                                              "kie-wb-warm-up-" + threadNumber.incrementAndGet() );
+            thread.setDaemon( true );
+            //A hint only. HotSpot on Linux ignores it unless -XX:ThreadPriorityPolicy is set; the number of threads
+            //is what bounds the CPU used by warm-up.
+            thread.setPriority( Thread.MIN_PRIORITY );
+            return thread;
+        };
+        return new ThreadPoolExecutor( threads,
+                                       threads,
+                                       0L,
+                                       TimeUnit.MILLISECONDS,
+                                       new LinkedBlockingQueue<Runnable>(),
+                                       threadFactory );
+    }
+
+    protected Executor makeRecorder() {
+        return makeExecutor( 1 );
+    }
+
+    protected Path getPath( final String uri ) {
+        return Paths.convert( ioService.get( URI.create( uri ) ) );
+    }
+
+    private void warmUp( final String uri ) {
+        try {
+            final long startTime = System.currentTimeMillis();
+            final KieProject project = projectService.resolveProject( getPath( uri ) );
+            if ( project == null ) {
+                logger.warn( "Unable to warm-up caches for '" + uri + "'. It is not a Project." );
+                failed.incrementAndGet();
+                return;
+            }
+
+            //Builds the Project's KieModuleMetaData and DataModelOracle
+            dataModelService.getProjectDataModel( project.getRootPath() );
+
+            //Builds the Project's KieModule
+            builderCache.assertBuilder( project ).getKieModuleIgnoringErrors();
+
+            completed.incrementAndGet();
+            logger.info( "Warmed-up caches for '" + uri + "' in " + ( System.currentTimeMillis() - startTime ) + "ms. "
+                                 + "Progress " + ( completed.get() + failed.get() ) + "/" + total.get() + "." );
+
+        } catch ( Exception e ) {
+            failed.incrementAndGet();
+            logger.warn( "Unable to warm-up caches for '" + uri + "'.",
+                         e );
+        }
+    }
+
+    private void loadRecentProjects() {
+        if ( recentProjects <= 0 || recentProjectsFile == null || !recentProjectsFile.exists() ) {
+            return;
+        }
+        try {
+            final List<String> lines = Files.readAllLines( recentProjectsFile.toPath(),
+                                                           StandardCharsets.UTF_8 );
+            for ( String line : lines ) {
+                if ( !line.trim().isEmpty() && recentProjectUris.size() < recentProjects ) {
+                    recentProjectUris.add( line.trim() );
+                }
+            }
+        } catch ( IOException ioe ) {
+            logger.warn( "Unable to read recently opened Projects from '" + recentProjectsFile + "'.",
+                         ioe );
+        }
+    }
+
+    private void saveRecentProjects() {
+        if ( recentProjectsFile == null ) {
+            return;
+        }
+        try {
+            Files.write( recentProjectsFile.toPath(),
+                         getRecentProjectUris(),
+                         StandardCharsets.UTF_8 );
+        } catch ( IOException ioe ) {
+            logger.warn( "Unable to write recently opened Projects to '" + recentProjectsFile + "'.",
+                         ioe );
+        }
+    }
+
+    static int getThreads( final double cpuBudget ) {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        return Math.max( 1,
+                         Math.min( processors,
+                                   (int) Math.floor( processors * cpuBudget ) ) );
+    }
+
+    private static List<String> getListProperty( final String name ) {
+        final String property = System.getProperty( name );
+        if ( property == null || property.trim().isEmpty() ) {
+            return Collections.emptyList();
+        }
+        final List<String> values = new ArrayList<String>();
+        for ( String value : property.split( "," ) ) {
+            if ( !value.trim().isEmpty() ) {
+                values.add( value.trim() );
+            }
+        }
+        return values;
+    }
+
+    private static int getIntProperty( final String name,
+                                       final int defaultValue ) {
+        final String property = System.getProperty( name );
+        if ( property == null ) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt( property.trim() );
+        } catch ( NumberFormatException nfe ) {
+            logger.warn( "Ignoring invalid value '" + property + "' for System Property '" + name + "'." );
+            return defaultValue;
+        }
+    }
+
+    private static double getDoubleProperty( final String name,
+                                             final double defaultValue ) {
+        final String property = System.getProperty( name );
+        if ( property == null ) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble( property.trim() );
+        } catch ( NumberFormatException nfe ) {
+            logger.warn( "Ignoring invalid value '" + property + "' for System Property '" + name + "'." );
+            return defaultValue;
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.backend.server;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.backend.builder.Builder;
+import org.kie.workbench.common.services.backend.builder.LRUBuilderCache;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceOpenedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectCacheWarmUpTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private KieProjectService projectService;
+
+    @Mock
+    private DataModelService dataModelService;
+
+    @Mock
+    private LRUBuilderCache builderCache;
+
+    @Mock
+    private Builder builder;
+
+    private File recentProjectsFile;
+
+    private final Map<String, Path> paths = new HashMap<>();
+
+    private final List<Runnable> recorderTasks = new ArrayList<>();
+
+    @Before
+    public void setup() throws Exception {
+        recentProjectsFile = new File( folder.getRoot(),
+                                       "recent" );
+        when( builderCache.assertBuilder( any( KieProject.class ) ) ).thenReturn( builder );
+    }
+
+    @Test
+    public void configuredProjectsAreWarmedUp() throws Exception {
+        final KieProject project1 = makeProject( "default://project1" );
+        final KieProject project2 = makeProject( "default://project2" );
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Arrays.asList( "default://project1",
+                                                                     "default://project2" ),
+                                                      0 );
+
+        warmUp.start();
+
+        assertTrue( warmUp.awaitCompletion( 10,
+                                            TimeUnit.SECONDS ) );
+        assertTrue( warmUp.isComplete() );
+        assertEquals( 2,
+                      warmUp.getCompleted() );
+        verify( dataModelService ).getProjectDataModel( project1.getRootPath() );
+        verify( dataModelService ).getProjectDataModel( project2.getRootPath() );
+        verify( builderCache ).assertBuilder( project1 );
+        verify( builderCache ).assertBuilder( project2 );
+    }
+
+    @Test
+    public void failureDoesNotPreventOtherProjectsBeingWarmedUp() throws Exception {
+        final KieProject project2 = makeProject( "default://project2" );
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Arrays.asList( "default://unknown",
+                                                                     "default://project2" ),
+                                                      0 );
+
+        warmUp.start();
+
+        assertTrue( warmUp.awaitCompletion( 10,
+                                            TimeUnit.SECONDS ) );
+        assertEquals( 1,
+                      warmUp.getFailed() );
+        assertEquals( 1,
+                      warmUp.getCompleted() );
+        verify( builderCache ).assertBuilder( project2 );
+    }
+
+    @Test
+    public void nothingToWarmUp() throws Exception {
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Collections.<String>emptyList(),
+                                                      0 );
+
+        warmUp.start();
+
+        assertTrue( warmUp.isComplete() );
+        verify( builderCache,
+                never() ).assertBuilder( any( KieProject.class ) );
+    }
+
+    @Test
+    public void recentlyOpenedProjectsAreRecorded() throws Exception {
+        makeProject( "default://project1" );
+        makeProject( "default://project2" );
+        makeProject( "default://project3" );
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Collections.<String>emptyList(),
+                                                      2 );
+
+        warmUp.onResourceOpened( makeEvent( "default://project1" ) );
+        warmUp.onResourceOpened( makeEvent( "default://project2" ) );
+        warmUp.onResourceOpened( makeEvent( "default://project3" ) );
+        warmUp.onResourceOpened( makeEvent( "default://project2" ) );
+
+        //Recording is deferred to the recorder
+        verify( projectService,
+                never() ).resolveProject( any( Path.class ) );
+        assertTrue( warmUp.getRecentProjectUris().isEmpty() );
+        assertEquals( 1,
+                      recorderTasks.size() );
+
+        runRecorderTasks();
+
+        assertEquals( Arrays.asList( "default://project2",
+                                     "default://project3" ),
+                      warmUp.getRecentProjectUris() );
+
+        //Simulate restart
+        final ProjectCacheWarmUp restarted = makeWarmUp( Collections.<String>emptyList(),
+                                                         2 );
+        assertEquals( Arrays.asList( "default://project2",
+                                     "default://project3" ),
+                      restarted.getRecentProjectUris() );
+    }
+
+    @Test
+    public void recentlyOpenedProjectsAreNotRecordedWhenDisabled() throws Exception {
+        makeProject( "default://project1" );
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Collections.<String>emptyList(),
+                                                      0 );
+
+        warmUp.onResourceOpened( makeEvent( "default://project1" ) );
+        runRecorderTasks();
+
+        assertTrue( recorderTasks.isEmpty() );
+        assertTrue( warmUp.getRecentProjectUris().isEmpty() );
+        assertFalse( recentProjectsFile.exists() );
+    }
+
+    @Test
+    public void projectsOpenedAfterRecordingAreRecordedAgain() throws Exception {
+        makeProject( "default://project1" );
+        makeProject( "default://project2" );
+        final ProjectCacheWarmUp warmUp = makeWarmUp( Collections.<String>emptyList(),
+                                                      2 );
+
+        warmUp.onResourceOpened( makeEvent( "default://project1" ) );
+        runRecorderTasks();
+        warmUp.onResourceOpened( makeEvent( "default://project2" ) );
+        runRecorderTasks();
+
+        assertEquals( Arrays.asList( "default://project2",
+                                     "default://project1" ),
+                      warmUp.getRecentProjectUris() );
+    }
+
+    @Test
+    public void threadsAreBoundedByCpuBudget() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        assertEquals( 1,
+                      ProjectCacheWarmUp.getThreads( 0 ) );
+        assertEquals( processors,
+                      ProjectCacheWarmUp.getThreads( 2.0 ) );
+    }
+
+    private ProjectCacheWarmUp makeWarmUp( final List<String> projectUris,
+                                           final int recentProjects ) {
+        return new ProjectCacheWarmUp( ioService,
+                                       projectService,
+                                       dataModelService,
+                                       builderCache,
+                                       projectUris,
+                                       recentProjects,
+                                       1,
+                                       recentProjectsFile ) {
+            @Override
+            protected Executor makeRecorder() {
+                return recorderTasks::add;
+            }
+
+            @Override
+            protected Path getPath( final String uri ) {
+                return makePath( uri );
+            }
+        };
+    }
+
+    private void runRecorderTasks() {
+        final List<Runnable> tasks = new ArrayList<>( recorderTasks );
+        recorderTasks.clear();
+        tasks.forEach( Runnable::run );
+    }
+
+    private KieProject makeProject( final String uri ) {
+        final KieProject project = mock( KieProject.class );
+        final Path rootPath = makePath( uri );
+        when( project.getRootPath() ).thenReturn( rootPath );
+        when( projectService.resolveProject( rootPath ) ).thenReturn( project );
+        return project;
+    }
+
+    private ResourceOpenedEvent makeEvent( final String uri ) {
+        return new ResourceOpenedEvent( makePath( uri ),
+                                        null );
+    }
+
+    private Path makePath( final String uri ) {
+        return paths.computeIfAbsent( uri,
+                                      ( u ) -> {
+                                          final Path path = mock( Path.class );
+                                          when( path.toURI() ).thenReturn( u );
+                                          return path;
+                                      } );
+    }
+
+}